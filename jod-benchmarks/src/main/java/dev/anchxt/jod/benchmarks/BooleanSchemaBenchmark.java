@@ -0,0 +1,56 @@
+package dev.anchxt.jod.benchmarks;
+
+import dev.anchxt.jod.Jod;
+import dev.anchxt.jod.core.ValidationResult;
+import dev.anchxt.jod.schema.BooleanSchema;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks for {@link BooleanSchema#validate(Boolean)} on valid and invalid input. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BooleanSchemaBenchmark {
+
+  private BooleanSchema plain;
+  private BooleanSchema mustBeTrue;
+
+  private Boolean yes;
+  private Boolean no;
+
+  @Setup
+  public void setup() {
+    plain = Jod.bool();
+    mustBeTrue = Jod.bool().isTrue();
+
+    yes = Boolean.TRUE;
+    no = Boolean.FALSE;
+  }
+
+  @Benchmark
+  public ValidationResult<Boolean> plainValid() {
+    return plain.validate(yes);
+  }
+
+  @Benchmark
+  public ValidationResult<Boolean> isTrueValid() {
+    return mustBeTrue.validate(yes);
+  }
+
+  @Benchmark
+  public ValidationResult<Boolean> isTrueInvalid() {
+    return mustBeTrue.validate(no);
+  }
+}
@@ -0,0 +1,83 @@
+package dev.anchxt.jod.benchmarks;
+
+import dev.anchxt.jod.Jod;
+import dev.anchxt.jod.schema.BulkValidationResult;
+import dev.anchxt.jod.schema.DoubleSchema;
+import dev.anchxt.jod.schema.IntSchema;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares bulk {@code validateAll} on primitive arrays with validating the same array one element
+ * at a time through the boxed and primitive scalar entry points.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkNumberSchemaBenchmark {
+
+  @Param({"1024", "1048576"})
+  private int size;
+
+  private IntSchema intSchema;
+  private DoubleSchema doubleSchema;
+  private int[] ints;
+  private double[] doubles;
+
+  @Setup
+  public void setup() {
+    intSchema = Jod.intType().min(0).max(1000).multipleOf(2);
+    doubleSchema = Jod.doubleType().min(-90.0).max(90.0);
+
+    // Roughly 5% of the values are out of range
+    var random = new SplittableRandom(42);
+    ints = random.ints(size, -50, 1000).toArray();
+    doubles = random.doubles(size, -95.0, 95.0).toArray();
+  }
+
+  @Benchmark
+  public BulkValidationResult intBulk() {
+    return intSchema.validateAll(ints);
+  }
+
+  @Benchmark
+  public void intPerElementPrimitive(Blackhole blackhole) {
+    for (int value : ints) {
+      blackhole.consume(intSchema.isValidInt(value));
+    }
+  }
+
+  @Benchmark
+  public void intPerElementBoxed(Blackhole blackhole) {
+    for (int value : ints) {
+      blackhole.consume(intSchema.validate(value));
+    }
+  }
+
+  @Benchmark
+  public BulkValidationResult doubleBulk() {
+    return doubleSchema.validateAll(doubles);
+  }
+
+  @Benchmark
+  public void doublePerElementBoxed(Blackhole blackhole) {
+    for (double value : doubles) {
+      blackhole.consume(doubleSchema.validate(value));
+    }
+  }
+}
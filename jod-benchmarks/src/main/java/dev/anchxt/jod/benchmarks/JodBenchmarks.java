@@ -0,0 +1,51 @@
+package dev.anchxt.jod.benchmarks;
+
+import java.io.IOException;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar. Behaves like the stock JMH launcher (all JMH command line
+ * options are accepted) but always attaches the GC profiler, so every run reports allocations per
+ * operation ({@code gc.alloc.rate.norm}) next to the throughput.
+ *
+ * <pre>{@code
+ * java -jar jod-benchmarks/target/benchmarks.jar                  # everything
+ * java -jar jod-benchmarks/target/benchmarks.jar StringSchema     # regex filter
+ * }</pre>
+ */
+public final class JodBenchmarks {
+
+  private JodBenchmarks() {
+    // Launcher - prevent instantiation
+  }
+
+  public static void main(String[] args) throws RunnerException, IOException {
+    CommandLineOptions commandLine;
+    try {
+      commandLine = new CommandLineOptions(args);
+    } catch (CommandLineOptionException e) {
+      System.err.println("Error parsing command line: " + e.getMessage());
+      System.exit(1);
+      return;
+    }
+
+    // Informational options (-h, -l, -lp, ...) are handled by the stock launcher
+    if (commandLine.shouldHelp()
+        || commandLine.shouldList()
+        || commandLine.shouldListWithParams()
+        || commandLine.shouldListProfilers()
+        || commandLine.shouldListResultFormats()) {
+      Main.main(args);
+      return;
+    }
+
+    var options = new OptionsBuilder().parent(commandLine).addProfiler(GCProfiler.class).build();
+    new Runner(options).run();
+  }
+}
@@ -0,0 +1,99 @@
+package dev.anchxt.jod.benchmarks;
+
+import dev.anchxt.jod.Jod;
+import dev.anchxt.jod.core.ValidationResult;
+import dev.anchxt.jod.schema.JsonValidator;
+import dev.anchxt.jod.schema.ListSchema;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link JsonValidator} on a JSON array of 1,000 users, read from a buffer and from
+ * a stream, and with an invalid first user that stops fail-fast validation early. {@code objects}
+ * validates the same users already built as records, for reference.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonValidatorBenchmark {
+
+  public record User(String name, String email, int age, boolean active) {}
+
+  private ListSchema<User> schema;
+  private JsonValidator<List<User>> validator;
+
+  private byte[] valid;
+  private byte[] invalid;
+  private List<User> users;
+
+  @Setup
+  public void setup() {
+    schema =
+        Jod.list(
+            Jod.object(User.class)
+                .field(User::name, Jod.string().min(2).max(50))
+                .field(User::email, Jod.string().email())
+                .field(User::age, Jod.intType().min(0).max(150))
+                .field(User::active, Jod.bool())
+                .build());
+    validator = Jod.json(schema);
+
+    users = new ArrayList<>();
+    StringBuilder json = new StringBuilder("[");
+    for (int i = 0; i < 1_000; i++) {
+      User user = new User("User " + i, "user" + i + "@example.com", 20 + i % 50, i % 2 == 0);
+      users.add(user);
+      json.append(i == 0 ? "" : ",")
+          .append("{\"name\":\"")
+          .append(user.name())
+          .append("\",\"email\":\"")
+          .append(user.email())
+          .append("\",\"age\":")
+          .append(user.age())
+          .append(",\"active\":")
+          .append(user.active())
+          .append('}');
+    }
+    json.append(']');
+    valid = json.toString().getBytes(StandardCharsets.UTF_8);
+    invalid = json.toString().replaceFirst("User 0", "U").getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public ValidationResult<Void> valid() {
+    return validator.validate(ByteBuffer.wrap(valid));
+  }
+
+  @Benchmark
+  public ValidationResult<Void> validStream() throws IOException {
+    return validator.validate(new ByteArrayInputStream(valid));
+  }
+
+  @Benchmark
+  public ValidationResult<Void> invalidFast() {
+    return validator.validateFast(ByteBuffer.wrap(invalid));
+  }
+
+  @Benchmark
+  public ValidationResult<List<User>> objects() {
+    return schema.validate(users);
+  }
+}
@@ -0,0 +1,116 @@
+package dev.anchxt.jod.benchmarks;
+
+import dev.anchxt.jod.Jod;
+import dev.anchxt.jod.core.ValidationResult;
+import dev.anchxt.jod.schema.ListSchema;
+import dev.anchxt.jod.schema.ObjectSchema;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link ListSchema#validate(List)} on 100,000 email addresses, validated
+ * sequentially and in parallel on the common ForkJoin pool.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListSchemaBenchmark {
+
+  private static final int SIZE = 100_000;
+
+  public record Item(String sku, int quantity) {}
+
+  private ListSchema<String> sequential;
+  // Four levels deep: list -> map -> list -> object
+  private ListSchema<Map<String, List<Item>>> nested;
+  private ListSchema<String> parallel;
+
+  private List<String> valid;
+  private List<String> invalid;
+  private List<Map<String, List<Item>>> invalidNested;
+
+  @Setup
+  public void setup() {
+    sequential = Jod.list(Jod.string().email());
+    parallel = Jod.list(Jod.string().email()).parallel(10_000);
+
+    valid = IntStream.range(0, SIZE).mapToObj(i -> "user" + i + "@example.com").toList();
+    // Every hundredth address is invalid
+    invalid =
+        IntStream.range(0, SIZE)
+            .mapToObj(i -> i % 100 == 0 ? "user" + i + "(at)example" : "user" + i + "@example.com")
+            .toList();
+
+    ObjectSchema<Item> item =
+        Jod.object(Item.class)
+            .field(Item::sku, Jod.string().min(8))
+            .field(Item::quantity, Jod.intType().min(1))
+            .build();
+    nested = Jod.list(Jod.map(Jod.string(), Jod.list(item)));
+    // 10 x 10 x 10 items, every tenth with two invalid fields
+    invalidNested =
+        IntStream.range(0, 10)
+            .mapToObj(
+                i ->
+                    IntStream.range(0, 10)
+                        .boxed()
+                        .collect(
+                            Collectors.toMap(
+                                j -> "warehouse" + j,
+                                j ->
+                                    IntStream.range(0, 10)
+                                        .mapToObj(
+                                            k ->
+                                                k == 0
+                                                    ? new Item("X", 0)
+                                                    : new Item("SKU-0000" + k, k))
+                                        .toList())))
+            .toList();
+  }
+
+  @Benchmark
+  public ValidationResult<List<String>> validSequential() {
+    return sequential.validate(valid);
+  }
+
+  @Benchmark
+  public ValidationResult<List<String>> validParallel() {
+    return parallel.validate(valid);
+  }
+
+  @Benchmark
+  public ValidationResult<List<String>> invalidSequential() {
+    return sequential.validate(invalid);
+  }
+
+  @Benchmark
+  public ValidationResult<List<String>> invalidParallel() {
+    return parallel.validate(invalid);
+  }
+
+  @Benchmark
+  public ValidationResult<List<Map<String, List<Item>>>> invalidNested() {
+    return nested.validate(invalidNested);
+  }
+
+  @Benchmark
+  public boolean isValidParallel() {
+    return parallel.isValid(valid);
+  }
+}
@@ -0,0 +1,63 @@
+package dev.anchxt.jod.benchmarks;
+
+import dev.anchxt.jod.Jod;
+import dev.anchxt.jod.core.ValidationResult;
+import dev.anchxt.jod.schema.MapSchema;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link MapSchema#validate(Map)} on a configuration map of 10,000 entries,
+ * validated in full and with only three required keys looked up.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapSchemaBenchmark {
+
+  private MapSchema<String, String> full;
+  private MapSchema<String, String> requiredOnly;
+
+  private Map<String, String> config;
+
+  @Setup
+  public void setup() {
+    full = Jod.map(Jod.string().min(1), Jod.string().min(1)).required("host", "port", "user");
+    requiredOnly =
+        Jod.map(Jod.string().min(1), Jod.string().min(1))
+            .required("host", "port", "user")
+            .requiredOnly();
+
+    config = new HashMap<>();
+    for (int i = 0; i < 10_000; i++) {
+      config.put("setting." + i, "value" + i);
+    }
+    config.put("host", "db.example.com");
+    config.put("port", "5432");
+    config.put("user", "app");
+  }
+
+  @Benchmark
+  public ValidationResult<Map<String, String>> full() {
+    return full.validate(config);
+  }
+
+  @Benchmark
+  public ValidationResult<Map<String, String>> requiredOnly() {
+    return requiredOnly.validate(config);
+  }
+}
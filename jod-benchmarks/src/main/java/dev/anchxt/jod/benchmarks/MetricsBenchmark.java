@@ -0,0 +1,78 @@
+package dev.anchxt.jod.benchmarks;
+
+import dev.anchxt.jod.Jod;
+import dev.anchxt.jod.core.Schema;
+import dev.anchxt.jod.core.ValidationResult;
+import dev.anchxt.jod.metrics.InstrumentedSchema;
+import dev.anchxt.jod.metrics.MetricsRegistry;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Overhead of {@link InstrumentedSchema} around a compiled email schema: with the no-op metrics
+ * installed by default, and recording into a {@link dev.anchxt.jod.metrics.MetricsRegistry}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+
+  private Schema<String> plain;
+  private Schema<String> noop;
+  private Schema<String> registry;
+
+  private String validEmail;
+  private String invalidEmail;
+
+  @Setup
+  public void setup() {
+    plain = Jod.string().min(5).max(254).email().compile();
+    noop = Jod.instrument("email", plain);
+    registry = new InstrumentedSchema<>("email", plain, new MetricsRegistry());
+
+    validEmail = "john.doe@example.com";
+    invalidEmail = "john.doe(at)example";
+  }
+
+  @Benchmark
+  public ValidationResult<String> validBaseline() {
+    return plain.validate(validEmail);
+  }
+
+  @Benchmark
+  public ValidationResult<String> validNoop() {
+    return noop.validate(validEmail);
+  }
+
+  @Benchmark
+  public ValidationResult<String> validRegistry() {
+    return registry.validate(validEmail);
+  }
+
+  @Benchmark
+  public ValidationResult<String> invalidBaseline() {
+    return plain.validate(invalidEmail);
+  }
+
+  @Benchmark
+  public ValidationResult<String> invalidNoop() {
+    return noop.validate(invalidEmail);
+  }
+
+  @Benchmark
+  public ValidationResult<String> invalidRegistry() {
+    return registry.validate(invalidEmail);
+  }
+}
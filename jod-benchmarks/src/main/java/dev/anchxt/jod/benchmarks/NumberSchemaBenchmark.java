@@ -0,0 +1,114 @@
+package dev.anchxt.jod.benchmarks;
+
+import dev.anchxt.jod.Jod;
+import dev.anchxt.jod.core.ValidationResult;
+import dev.anchxt.jod.schema.CompiledSchema;
+import dev.anchxt.jod.schema.DoubleSchema;
+import dev.anchxt.jod.schema.IntSchema;
+import dev.anchxt.jod.schema.LongSchema;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@code NumberSchema.validate} through each concrete numeric schema on valid and
+ * invalid input.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NumberSchemaBenchmark {
+
+  private IntSchema intSchema;
+  private LongSchema longSchema;
+  private DoubleSchema doubleSchema;
+  private CompiledSchema<Integer> intCompiled;
+
+  // Non-final fields so the JIT cannot constant-fold the inputs
+  private Integer validInt;
+  private Integer invalidInt;
+  private Long validLong;
+  private Long invalidLong;
+  private Double validDouble;
+  private Double invalidDouble;
+  private int primitiveInt;
+  private double primitiveDouble;
+
+  @Setup
+  public void setup() {
+    intSchema = Jod.intType().min(0).max(120).positive();
+    longSchema = Jod.longType().min(0L).max(1_000_000_000_000L).multipleOf(5L);
+    doubleSchema = Jod.doubleType().min(-90.0).max(90.0).multipleOf(0.5);
+    intCompiled = intSchema.compile();
+
+    validInt = 42;
+    invalidInt = -7;
+    validLong = 9_999_999_995L;
+    invalidLong = -3L;
+    validDouble = 45.5;
+    invalidDouble = 123.25;
+    primitiveInt = validInt;
+    primitiveDouble = validDouble;
+  }
+
+  @Benchmark
+  public ValidationResult<Integer> intValid() {
+    return intSchema.validate(validInt);
+  }
+
+  @Benchmark
+  public ValidationResult<Integer> intInvalid() {
+    return intSchema.validate(invalidInt);
+  }
+
+  @Benchmark
+  public ValidationResult<Long> longValid() {
+    return longSchema.validate(validLong);
+  }
+
+  @Benchmark
+  public ValidationResult<Long> longInvalid() {
+    return longSchema.validate(invalidLong);
+  }
+
+  @Benchmark
+  public ValidationResult<Double> doubleValid() {
+    return doubleSchema.validate(validDouble);
+  }
+
+  @Benchmark
+  public ValidationResult<Double> doubleInvalid() {
+    return doubleSchema.validate(invalidDouble);
+  }
+
+  @Benchmark
+  public ValidationResult<Integer> intValidCompiled() {
+    return intCompiled.validate(validInt);
+  }
+
+  @Benchmark
+  public ValidationResult<Integer> intInvalidCompiled() {
+    return intCompiled.validate(invalidInt);
+  }
+
+  @Benchmark
+  public boolean intValidPrimitive() {
+    return intSchema.isValidInt(primitiveInt);
+  }
+
+  @Benchmark
+  public boolean doubleValidPrimitive() {
+    return doubleSchema.isValidDouble(primitiveDouble);
+  }
+}
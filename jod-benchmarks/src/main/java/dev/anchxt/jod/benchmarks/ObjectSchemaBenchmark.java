@@ -0,0 +1,93 @@
+package dev.anchxt.jod.benchmarks;
+
+import dev.anchxt.jod.Jod;
+import dev.anchxt.jod.core.ErrorCodeSet;
+import dev.anchxt.jod.core.Schema;
+import dev.anchxt.jod.core.ValidationResult;
+import dev.anchxt.jod.schema.ObjectSchema;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks for {@link ObjectSchema#validate(Object)} on a record with four fields. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ObjectSchemaBenchmark {
+
+  public record User(String name, String email, int age, boolean active) {}
+
+  private ObjectSchema<User> user;
+  private Schema<User> userCompiled;
+
+  private User valid;
+  private User invalid;
+  private User padded;
+
+  @Setup
+  public void setup() {
+    user =
+        Jod.object(User.class)
+            .field(User::name, Jod.string().trim().min(2).max(50))
+            .field(User::email, Jod.string().email())
+            .field(User::age, Jod.intType().min(0).max(120))
+            .field(User::active, Jod.bool().isTrue())
+            .build();
+    userCompiled = user.compile();
+
+    valid = new User("John Doe", "john.doe@example.com", 30, true);
+    invalid = new User("J", "john.doe(at)example", 200, false);
+    padded = new User("  John Doe  ", "john.doe@example.com", 30, true);
+  }
+
+  @Benchmark
+  public ValidationResult<User> valid() {
+    return user.validate(valid);
+  }
+
+  @Benchmark
+  public ValidationResult<User> invalid() {
+    return user.validate(invalid);
+  }
+
+  @Benchmark
+  public ValidationResult<User> transformedValid() {
+    return user.validate(padded);
+  }
+
+  @Benchmark
+  public ErrorCodeSet invalidCodes() {
+    return user.violatedCodes(invalid);
+  }
+
+  @Benchmark
+  public boolean isValid() {
+    return user.isValid(valid);
+  }
+
+  @Benchmark
+  public ValidationResult<User> validCompiled() {
+    return userCompiled.validate(valid);
+  }
+
+  @Benchmark
+  public ValidationResult<User> invalidCompiled() {
+    return userCompiled.validate(invalid);
+  }
+
+  @Benchmark
+  public boolean isValidCompiled() {
+    return userCompiled.isValid(valid);
+  }
+}
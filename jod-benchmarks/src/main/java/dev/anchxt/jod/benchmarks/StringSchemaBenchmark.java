@@ -0,0 +1,233 @@
+package dev.anchxt.jod.benchmarks;
+
+import dev.anchxt.jod.Jod;
+import dev.anchxt.jod.core.ValidationResult;
+import dev.anchxt.jod.schema.CachedSchema;
+import dev.anchxt.jod.schema.CompiledSchema;
+import dev.anchxt.jod.schema.StringSchema;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks for {@link StringSchema#validate(String)} on valid and invalid input. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringSchemaBenchmark {
+
+  // Baselines: the regular expressions the built-in format scanners replaced
+  private static final Pattern EMAIL_REGEX =
+      Pattern.compile("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$");
+  private static final Pattern UUID_REGEX =
+      Pattern.compile(
+          "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+
+  private StringSchema plain;
+  private StringSchema length;
+  private StringSchema email;
+  private StringSchema uuid;
+  private StringSchema regex;
+  private StringSchema regexLinear;
+  private StringSchema transformed;
+  private CompiledSchema<String> emailCompiled;
+  private CompiledSchema<String> transformedCompiled;
+  private CompiledSchema<String> lengthCompiled;
+  private CachedSchema<String> emailCached;
+  private CachedSchema<String> uuidCached;
+  private CachedSchema<String> regexCached;
+
+  private String validEmail;
+  private String invalidEmail;
+  private String validUuid;
+  private String invalidUuid;
+  private String validCode;
+  private String invalidCode;
+  private String paddedMixedCase;
+  private ByteBuffer invalidEmailUtf8;
+
+  @Setup
+  public void setup() {
+    plain = Jod.string();
+    length = Jod.string().min(2).max(50);
+    email = Jod.string().min(5).max(254).email();
+    uuid = Jod.string().uuid();
+    regex = Jod.string().regex("^[A-Z]{3}-[0-9]{4}$");
+    regexLinear = Jod.string().regexLinear("^[A-Z]{3}-[0-9]{4}$");
+    transformed = Jod.string().trim().toLowerCase().min(2).max(50);
+    emailCompiled = email.compile();
+    transformedCompiled = transformed.compile();
+    lengthCompiled = Jod.string().min(2).max(50).compile();
+    emailCached = Jod.string().min(5).max(254).email().cached(1024);
+    uuidCached = Jod.string().uuid().cached(1024);
+    regexCached = Jod.string().regex("^[A-Z]{3}-[0-9]{4}$").cached(1024);
+
+    validEmail = "john.doe@example.com";
+    invalidEmail = "john.doe(at)example";
+    validUuid = "123e4567-e89b-12d3-a456-426614174000";
+    invalidUuid = "123e4567-e89b-12d3-a456-42661417400z";
+    validCode = "ABC-1234";
+    invalidCode = "abc-12345";
+    paddedMixedCase = "   John Doe   ";
+    invalidEmailUtf8 = ByteBuffer.wrap(invalidEmail.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Benchmark
+  public ValidationResult<String> plainValid() {
+    return plain.validate(validCode);
+  }
+
+  @Benchmark
+  public ValidationResult<String> lengthValid() {
+    return length.validate(validCode);
+  }
+
+  @Benchmark
+  public ValidationResult<String> lengthInvalid() {
+    return length.validate("x");
+  }
+
+  @Benchmark
+  public ValidationResult<String> emailValid() {
+    return email.validate(validEmail);
+  }
+
+  @Benchmark
+  public boolean emailInvalidUtf8() {
+    return email.isValidUtf8(invalidEmailUtf8);
+  }
+
+  @Benchmark
+  public boolean emailInvalidUtf8DecodeBaseline() {
+    return email.isValid(new String(invalidEmailUtf8.array(), StandardCharsets.UTF_8));
+  }
+
+  @Benchmark
+  public boolean emailValidRegexBaseline() {
+    return EMAIL_REGEX.matcher(validEmail).matches();
+  }
+
+  @Benchmark
+  public boolean emailValidIsValid() {
+    return email.isValid(validEmail);
+  }
+
+  @Benchmark
+  public ValidationResult<String> emailInvalid() {
+    return email.validate(invalidEmail);
+  }
+
+  @Benchmark
+  public boolean emailInvalidIsValid() {
+    return email.isValid(invalidEmail);
+  }
+
+  @Benchmark
+  public ValidationResult<String> emailInvalidFast() {
+    return email.validateFast("x");
+  }
+
+  @Benchmark
+  public ValidationResult<String> uuidValid() {
+    return uuid.validate(validUuid);
+  }
+
+  @Benchmark
+  public boolean uuidValidRegexBaseline() {
+    return UUID_REGEX.matcher(validUuid).matches();
+  }
+
+  @Benchmark
+  public boolean uuidValidIsValid() {
+    return uuid.isValid(validUuid);
+  }
+
+  @Benchmark
+  public UUID uuidParseBaseline() {
+    return UUID.fromString(validUuid);
+  }
+
+  @Benchmark
+  public ValidationResult<UUID> uuidParse() {
+    return uuid.validateUuid(validUuid);
+  }
+
+  @Benchmark
+  public ValidationResult<String> uuidInvalid() {
+    return uuid.validate(invalidUuid);
+  }
+
+  @Benchmark
+  public ValidationResult<String> regexValid() {
+    return regex.validate(validCode);
+  }
+
+  @Benchmark
+  public ValidationResult<String> regexInvalid() {
+    return regex.validate(invalidCode);
+  }
+
+  @Benchmark
+  public ValidationResult<String> regexLinearValid() {
+    return regexLinear.validate(validCode);
+  }
+
+  @Benchmark
+  public ValidationResult<String> regexLinearInvalid() {
+    return regexLinear.validate(invalidCode);
+  }
+
+  @Benchmark
+  public ValidationResult<String> transformedValid() {
+    return transformed.validate(paddedMixedCase);
+  }
+
+  @Benchmark
+  public ValidationResult<String> transformedValidUnfusedBaseline() {
+    return lengthCompiled.validate(paddedMixedCase.trim().toLowerCase());
+  }
+
+  @Benchmark
+  public ValidationResult<String> emailValidCompiled() {
+    return emailCompiled.validate(validEmail);
+  }
+
+  @Benchmark
+  public ValidationResult<String> transformedValidCompiled() {
+    return transformedCompiled.validate(paddedMixedCase);
+  }
+
+  @Benchmark
+  public ValidationResult<String> emailValidCached() {
+    return emailCached.validate(validEmail);
+  }
+
+  @Benchmark
+  public ValidationResult<String> emailInvalidCached() {
+    return emailCached.validate(invalidEmail);
+  }
+
+  @Benchmark
+  public ValidationResult<String> uuidValidCached() {
+    return uuidCached.validate(validUuid);
+  }
+
+  @Benchmark
+  public ValidationResult<String> regexValidCached() {
+    return regexCached.validate(validCode);
+  }
+}
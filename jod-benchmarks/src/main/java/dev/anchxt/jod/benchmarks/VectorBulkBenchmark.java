@@ -0,0 +1,93 @@
+package dev.anchxt.jod.benchmarks;
+
+import dev.anchxt.jod.Jod;
+import dev.anchxt.jod.schema.BulkValidationResult;
+import dev.anchxt.jod.schema.DoubleSchema;
+import dev.anchxt.jod.schema.IntSchema;
+import dev.anchxt.jod.schema.LongSchema;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the Vector API kernels of {@code validateAll} with the scalar bulk loops. Each pair of
+ * benchmarks runs the same code in a fork with and without {@code jdk.incubator.vector}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class VectorBulkBenchmark {
+
+  private static final String VECTOR = "--add-modules=jdk.incubator.vector";
+  private static final String SCALAR = "-Djod.vector=false";
+
+  @Param({"1048576"})
+  private int size;
+
+  private IntSchema intSchema;
+  private LongSchema longSchema;
+  private DoubleSchema doubleSchema;
+  private int[] ints;
+  private long[] longs;
+  private double[] doubles;
+
+  @Setup
+  public void setup() {
+    intSchema = Jod.intType().min(0).max(1000).positive().multipleOf(4);
+    longSchema = Jod.longType().min(0L).max(1_000_000L).negative();
+    doubleSchema = Jod.doubleType().min(-90.0).max(90.0).positive();
+
+    var random = new SplittableRandom(42);
+    ints = random.ints(size, -50, 1000).toArray();
+    longs = random.longs(size, -50L, 1_000_000L).toArray();
+    doubles = random.doubles(size, -95.0, 95.0).toArray();
+  }
+
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = VECTOR)
+  public BulkValidationResult intVector() {
+    return intSchema.validateAll(ints);
+  }
+
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = SCALAR)
+  public BulkValidationResult intScalar() {
+    return intSchema.validateAll(ints);
+  }
+
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = VECTOR)
+  public BulkValidationResult longVector() {
+    return longSchema.validateAll(longs);
+  }
+
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = SCALAR)
+  public BulkValidationResult longScalar() {
+    return longSchema.validateAll(longs);
+  }
+
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = VECTOR)
+  public BulkValidationResult doubleVector() {
+    return doubleSchema.validateAll(doubles);
+  }
+
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = SCALAR)
+  public BulkValidationResult doubleScalar() {
+    return doubleSchema.validateAll(doubles);
+  }
+}
@@ -1,5 +1,8 @@
 package dev.anchxt.jod;
 
+import dev.anchxt.jod.async.AsyncValidator;
+import dev.anchxt.jod.core.Schema;
+import dev.anchxt.jod.metrics.InstrumentedSchema;
 import dev.anchxt.jod.schema.*;
 
 /**
@@ -11,6 +14,7 @@ import dev.anchxt.jod.schema.*;
  * <pre>{@code
  * var nameSchema = Jod.string().min(2).max(50).trim();
  * var ageSchema = Jod.intType().min(0).max(120);
+ * var userSchema = Jod.object(User.class).field(User::name, nameSchema).build();
  * }</pre>
  */
 public final class Jod {
@@ -43,4 +47,37 @@ public final class Jod {
   public static BooleanSchema bool() {
     return new BooleanSchema();
   }
+
+  /** Creates a new ListSchema validating every element with the given schema. */
+  public static <E> ListSchema<E> list(Schema<E> elementSchema) {
+    return new ListSchema<>(elementSchema);
+  }
+
+  /** Creates a new MapSchema validating every key and value with the given schemas. */
+  public static <K, V> MapSchema<K, V> map(Schema<K> keySchema, Schema<V> valueSchema) {
+    return new MapSchema<>(keySchema, valueSchema);
+  }
+
+  /** Creates a validator reading JSON documents that hold a value of the given schema. */
+  public static <T> JsonValidator<T> json(Schema<T> schema) {
+    return new JsonValidator<>(schema);
+  }
+
+  /** Creates an async schema running lookup checks after the given schema accepts a value. */
+  public static <T> AsyncValidator<T> async(Schema<T> schema) {
+    return new AsyncValidator<>(schema);
+  }
+
+  /**
+   * Wraps a schema to report the latency and outcome of its validations under the given name to the
+   * installed {@link dev.anchxt.jod.metrics.ValidationMetrics}, which record nothing by default.
+   */
+  public static <T> InstrumentedSchema<T> instrument(String name, Schema<T> schema) {
+    return new InstrumentedSchema<>(name, schema);
+  }
+
+  /** Creates a builder for an ObjectSchema validating the fields of the given type. */
+  public static <T> ObjectSchema.Builder<T> object(Class<T> type) {
+    return new ObjectSchema.Builder<>(type);
+  }
 }
@@ -1,19 +1,122 @@
 package dev.anchxt.jod;
 
-// TIP To <b>Run</b> code, press <shortcut actionId="Run"/> or
-// click the <icon src="AllIcons.Actions.Execute"/> icon in the gutter.
+import dev.anchxt.jod.core.Schema;
+import dev.anchxt.jod.core.ValidationError;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Command line validator for NDJSON and CSV files, for batch checks of large data files.
+ *
+ * <pre>{@code
+ * java -cp jod.jar:schemas.jar dev.anchxt.jod.Main --schema com.example.UserSchema users.ndjson
+ * }</pre>
+ *
+ * <p>The schema comes from a class implementing {@code Supplier<Schema<?>>} with a public no-arg
+ * constructor. Every invalid record is printed with the byte offset and number of its line, then a
+ * summary. The exit status is 0 if every record is valid, 1 if any is invalid and 2 on usage or I/O
+ * errors.
+ */
 public class Main {
+
+  private static final String USAGE =
+      """
+      Usage: Main --schema <class> [options] <file>
+        --schema <class>       Class implementing Supplier<Schema<?>>, with a no-arg constructor
+        --format ndjson|csv    Record format; by default csv for .csv files, else ndjson
+        --threads <n>          Worker threads; by default the number of processors
+        --max-reported <n>     Invalid records to print; all are counted; default 100
+      """;
+
   public static void main(String[] args) {
-    // TIP Press <shortcut actionId="ShowIntentionActions"/> with your caret at the highlighted text
-    // to see how IntelliJ IDEA suggests fixing it.
-    System.out.printf("Hello and welcome!");
-
-    for (int i = 1; i <= 5; i++) {
-      // TIP Press <shortcut actionId="Debug"/> to start debugging your code. We have set one <icon
-      // src="AllIcons.Debugger.Db_set_breakpoint"/> breakpoint
-      // for you, but you can always add more by pressing <shortcut
-      // actionId="ToggleLineBreakpoint"/>.
-      System.out.println("i = " + i);
+    System.exit(run(args, System.out, System.err));
+  }
+
+  /** Runs the validator and returns the exit status. */
+  static int run(String[] args, PrintStream out, PrintStream err) {
+    String schemaClass = null;
+    String format = null;
+    int threads = Runtime.getRuntime().availableProcessors();
+    int maxReported = 100;
+    String file = null;
+    try {
+      for (int i = 0; i < args.length; i++) {
+        switch (args[i]) {
+          case "--schema" -> schemaClass = value(args, ++i);
+          case "--format" -> format = value(args, ++i);
+          case "--threads" -> threads = Integer.parseInt(value(args, ++i));
+          case "--max-reported" -> maxReported = Integer.parseInt(value(args, ++i));
+          default -> {
+            if (args[i].startsWith("--") || file != null) {
+              throw new IllegalArgumentException("Unexpected argument " + args[i]);
+            }
+            file = args[i];
+          }
+        }
+      }
+      if (schemaClass == null || file == null) {
+        throw new IllegalArgumentException("A schema and a file are required");
+      }
+      if (format == null) {
+        format = file.toLowerCase(Locale.ROOT).endsWith(".csv") ? "csv" : "ndjson";
+      }
+
+      var validator =
+          new RecordFileValidator(
+              loadSchema(schemaClass),
+              RecordFileValidator.Format.valueOf(format.toUpperCase(Locale.ROOT)),
+              threads,
+              maxReported);
+      long started = System.nanoTime();
+      RecordFileValidator.Report report = validator.validate(Path.of(file));
+      double seconds = (System.nanoTime() - started) / 1e9;
+
+      for (RecordFileValidator.Invalid invalid : report.invalid()) {
+        out.printf("offset %d, line %d: %s%n", invalid.offset(), invalid.line(), describe(invalid));
+      }
+      out.printf(
+          "%d records, %d valid, %d invalid in %.2f s%n",
+          report.records(),
+          report.records() - report.invalidRecords(),
+          report.invalidRecords(),
+          seconds);
+      return report.invalidRecords() == 0 ? 0 : 1;
+    } catch (IllegalArgumentException e) {
+      err.println(e.getMessage());
+      err.print(USAGE);
+      return 2;
+    } catch (IOException | ReflectiveOperationException e) {
+      err.println("Validation failed: " + e);
+      return 2;
     }
   }
+
+  private static String value(String[] args, int index) {
+    if (index >= args.length) {
+      throw new IllegalArgumentException("Missing value for " + args[index - 1]);
+    }
+    return args[index];
+  }
+
+  private static Schema<?> loadSchema(String className) throws ReflectiveOperationException {
+    Object supplier = Class.forName(className).getConstructor().newInstance();
+    if (!(supplier instanceof Supplier<?> schemas)
+        || !(schemas.get() instanceof Schema<?> schema)) {
+      throw new IllegalArgumentException(className + " does not supply a Schema");
+    }
+    return schema;
+  }
+
+  private static String describe(RecordFileValidator.Invalid invalid) {
+    return invalid.errors().stream().map(Main::describe).collect(Collectors.joining("; "));
+  }
+
+  private static String describe(ValidationError error) {
+    String path = error.path().isEmpty() ? "" : error.path() + ": ";
+    return path + error.message() + " (" + error.code() + ")";
+  }
 }
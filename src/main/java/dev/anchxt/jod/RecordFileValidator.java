@@ -0,0 +1,254 @@
+package dev.anchxt.jod;
+
+import dev.anchxt.jod.core.Schema;
+import dev.anchxt.jod.core.ValidationError;
+import dev.anchxt.jod.core.ValidationResult;
+import dev.anchxt.jod.schema.CsvValidator;
+import dev.anchxt.jod.schema.JsonValidator;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Validates a file of newline-delimited records, NDJSON or CSV, against a schema. The file is split
+ * into chunks of whole lines, each chunk is memory-mapped with {@link FileChannel#map} and scanned
+ * on a worker thread, and the results are merged in file order. Files larger than the 2 GiB a
+ * single mapping can hold are mapped chunk by chunk, so only the chunks being scanned are mapped.
+ *
+ * <p>Blank lines are skipped, and a trailing {@code \r} is not part of a record. The first line of
+ * a CSV file is its header.
+ */
+final class RecordFileValidator {
+
+  /** Record formats. */
+  enum Format {
+    /** One JSON document per line. */
+    NDJSON,
+    /** One CSV record per line, after a header line naming the columns. */
+    CSV
+  }
+
+  /** An invalid record: byte offset of its line, 1-based line number, and its errors. */
+  record Invalid(long offset, long line, List<ValidationError> errors) {}
+
+  /**
+   * The outcome of validating a file: records validated, records invalid, and the first invalid
+   * records up to the configured limit, in file order.
+   */
+  record Report(long records, long invalidRecords, List<Invalid> invalid) {}
+
+  // Chunks per worker, so that chunks of slow lines do not leave the other workers idle
+  private static final int CHUNKS_PER_THREAD = 4;
+  private static final long MAX_CHUNK_SIZE = 64L << 20;
+  private static final int SCAN_BUFFER_SIZE = 8192;
+
+  private final Schema<?> schema;
+  private final Format format;
+  private final int threads;
+  private final int maxReported;
+  private final long maxChunkSize;
+
+  RecordFileValidator(Schema<?> schema, Format format, int threads, int maxReported) {
+    this(schema, format, threads, maxReported, MAX_CHUNK_SIZE);
+  }
+
+  RecordFileValidator(
+      Schema<?> schema, Format format, int threads, int maxReported, long maxChunkSize) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("Threads must be positive");
+    }
+    this.schema = schema;
+    this.format = format;
+    this.threads = threads;
+    this.maxReported = maxReported;
+    this.maxChunkSize = maxChunkSize;
+  }
+
+  Report validate(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      long start = 0;
+      Function<String, ValidationResult<Void>> csv = null;
+      if (format == Format.CSV) {
+        start = nextLineStart(channel, 0, size);
+        String header = decode(read(channel, 0, start));
+        csv = new CsvValidator<>(schema, header)::validate;
+      }
+
+      List<long[]> chunks = split(channel, start, size);
+      ExecutorService workers = Executors.newFixedThreadPool(threads);
+      try {
+        List<Future<Chunk>> results = new ArrayList<>(chunks.size());
+        for (long[] chunk : chunks) {
+          Function<String, ValidationResult<Void>> csvRecords = csv;
+          results.add(workers.submit(() -> scan(channel, chunk[0], chunk[1], csvRecords)));
+        }
+        return merge(results, format == Format.CSV ? 1 : 0);
+      } finally {
+        workers.shutdownNow();
+      }
+    }
+  }
+
+  // ==================== Chunks ====================
+
+  /** Records, invalid records and lines of a chunk; line numbers counted from its start. */
+  private record Chunk(long records, long invalidRecords, List<Invalid> invalid, long lines) {}
+
+  /**
+   * Splits {@code [start, size)} into ranges of whole lines, of about {@code size / (threads * 4)}
+   * bytes and at most the maximum chunk size; a chunk only grows beyond it to end its last line.
+   */
+  private List<long[]> split(FileChannel channel, long start, long size) throws IOException {
+    long target =
+        Math.max(1, Math.min(maxChunkSize, (size - start) / (threads * CHUNKS_PER_THREAD)));
+    List<long[]> chunks = new ArrayList<>();
+    for (long from = start; from < size; ) {
+      long to = from + target >= size ? size : nextLineStart(channel, from + target - 1, size);
+      if (to - from > Integer.MAX_VALUE) {
+        throw new IOException("Line longer than 2 GiB at byte " + from);
+      }
+      chunks.add(new long[] {from, to});
+      from = to;
+    }
+    return chunks;
+  }
+
+  private Chunk scan(
+      FileChannel channel, long from, long to, Function<String, ValidationResult<Void>> csv)
+      throws IOException {
+    MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+    @SuppressWarnings("unchecked")
+    JsonValidator<Object> json = csv == null ? new JsonValidator<>((Schema<Object>) schema) : null;
+    // Lines are copied to a heap array, which the JSON reader reads in place
+    byte[] line = new byte[SCAN_BUFFER_SIZE];
+    long records = 0;
+    long invalidRecords = 0;
+    List<Invalid> invalid = new ArrayList<>();
+    long lines = 0;
+
+    int limit = mapped.limit();
+    for (int start = 0; start < limit; ) {
+      int end = start;
+      while (end < limit && mapped.get(end) != '\n') {
+        end++;
+      }
+      int next = end + 1;
+      if (end > start && mapped.get(end - 1) == '\r') {
+        end--;
+      }
+      lines++;
+      int length = end - start;
+      if (length > 0) {
+        if (length > line.length) {
+          line = new byte[Math.max(length, line.length * 2)];
+        }
+        mapped.get(start, line, 0, length);
+        ValidationResult<Void> result =
+            csv == null
+                ? json.validate(ByteBuffer.wrap(line, 0, length))
+                : csv.apply(new String(line, 0, length, StandardCharsets.UTF_8));
+        records++;
+        if (result.isFailure()) {
+          invalidRecords++;
+          if (invalid.size() < maxReported) {
+            invalid.add(new Invalid(from + start, lines, result.getErrors()));
+          }
+        }
+      }
+      start = next;
+    }
+    return new Chunk(records, invalidRecords, invalid, lines);
+  }
+
+  /** Merges chunk results in file order, turning chunk line numbers into file line numbers. */
+  private Report merge(List<Future<Chunk>> results, long linesBefore) throws IOException {
+    long records = 0;
+    long invalidRecords = 0;
+    List<Invalid> invalid = new ArrayList<>();
+    long lines = linesBefore;
+    for (Future<Chunk> result : results) {
+      Chunk chunk;
+      try {
+        chunk = result.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException("Interrupted while validating", e);
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof IOException cause) {
+          throw cause;
+        }
+        if (e.getCause() instanceof RuntimeException cause) {
+          throw cause;
+        }
+        throw new IOException(e.getCause());
+      }
+      records += chunk.records();
+      invalidRecords += chunk.invalidRecords();
+      for (Invalid entry : chunk.invalid()) {
+        if (invalid.size() < maxReported) {
+          invalid.add(new Invalid(entry.offset(), lines + entry.line(), entry.errors()));
+        }
+      }
+      lines += chunk.lines();
+    }
+    return new Report(records, invalidRecords, invalid);
+  }
+
+  // ==================== Helpers ====================
+
+  /** Returns the offset after the first newline at or after {@code from}, or {@code size}. */
+  private static long nextLineStart(FileChannel channel, long from, long size) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+    for (long position = from; position < size; ) {
+      buffer.clear();
+      int read = channel.read(buffer, position);
+      if (read < 0) {
+        break;
+      }
+      for (int i = 0; i < read; i++) {
+        if (buffer.get(i) == '\n') {
+          return position + i + 1;
+        }
+      }
+      position += read;
+    }
+    return size;
+  }
+
+  private static byte[] read(FileChannel channel, long from, long to) throws IOException {
+    if (to - from > Integer.MAX_VALUE) {
+      throw new IOException("Line longer than 2 GiB at byte " + from);
+    }
+    ByteBuffer buffer = ByteBuffer.allocate((int) (to - from));
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, from + buffer.position()) < 0) {
+        break;
+      }
+    }
+    return buffer.array();
+  }
+
+  /** Decodes a line, without its line terminator. */
+  private static String decode(byte[] line) {
+    int length = line.length;
+    if (length > 0 && line[length - 1] == '\n') {
+      length--;
+    }
+    if (length > 0 && line[length - 1] == '\r') {
+      length--;
+    }
+    return new String(line, 0, length, StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,99 @@
+package dev.anchxt.jod.async;
+
+import dev.anchxt.jod.core.AsyncSchema;
+import dev.anchxt.jod.core.Schema;
+import dev.anchxt.jod.core.ValidationError;
+import dev.anchxt.jod.core.ValidationResult;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * An {@link AsyncSchema} that validates a value with a synchronous schema and then runs lookup
+ * checks through {@link BatchLoader}s. Lookups only start for values the schema accepts, on the
+ * value it returns, so invalid input never costs I/O; concurrent validations share the loaders'
+ * batches, so validating many values at once costs one backend call per loader and tick.
+ *
+ * <pre>{@code
+ * var emailFree = new BatchLoader<String, Boolean>(emails -> repository.areFree(emails));
+ * var userSchema = Jod.async(Jod.object(User.class).field(User::email, Jod.string().email()).build())
+ *     .check("email", User::email, emailFree, "Email is already registered", "EMAIL_TAKEN");
+ * CompletableFuture<ValidationResult<User>> result = userSchema.validateAsync(user);
+ * }</pre>
+ *
+ * <p>Errors of the checks come in the order the checks were added.
+ *
+ * @param <T> The type of value this schema validates
+ */
+public class AsyncValidator<T> implements AsyncSchema<T> {
+
+  private final Schema<T> schema;
+  private final List<Check<T, ?>> checks = new ArrayList<>();
+
+  /** A lookup: the key of the value, the loader, and the error when the lookup is not true. */
+  private record Check<T, K>(
+      Function<T, K> key, BatchLoader<K, Boolean> loader, ValidationError error) {
+
+    CompletableFuture<Boolean> load(T value) {
+      K k = key.apply(value);
+      // A null key has no lookup; the schema decides whether null is valid
+      return k == null ? CompletableFuture.completedFuture(Boolean.TRUE) : loader.load(k);
+    }
+  }
+
+  /** Creates an async schema running the checks after {@code schema}; prefer {@code Jod.async}. */
+  public AsyncValidator(Schema<T> schema) {
+    if (schema == null) {
+      throw new IllegalArgumentException("Schema cannot be null");
+    }
+    this.schema = schema;
+  }
+
+  /**
+   * Adds a lookup check. The value passes if {@code loader} loads {@code Boolean.TRUE} for its key;
+   * false, null or a missing key fails with the given error at {@code path}.
+   */
+  public <K> AsyncValidator<T> check(
+      String path,
+      Function<T, K> key,
+      BatchLoader<K, Boolean> loader,
+      String message,
+      String code) {
+    if (key == null || loader == null) {
+      throw new IllegalArgumentException("Key and loader cannot be null");
+    }
+    checks.add(new Check<>(key, loader, ValidationError.of(message, code).withPathPrefix(path)));
+    return this;
+  }
+
+  // ==================== Validation ====================
+
+  @Override
+  public CompletableFuture<ValidationResult<T>> validateAsync(T value) {
+    ValidationResult<T> result = schema.validate(value);
+    if (result.isFailure() || checks.isEmpty()) {
+      return CompletableFuture.completedFuture(result);
+    }
+
+    T validated = result.getValue();
+    List<CompletableFuture<Boolean>> lookups = new ArrayList<>(checks.size());
+    for (Check<T, ?> check : checks) {
+      lookups.add(check.load(validated));
+    }
+    return CompletableFuture.allOf(lookups.toArray(new CompletableFuture<?>[0]))
+        .thenApply(
+            done -> {
+              List<ValidationError> errors = null;
+              for (int i = 0; i < lookups.size(); i++) {
+                if (!Boolean.TRUE.equals(lookups.get(i).join())) {
+                  if (errors == null) {
+                    errors = new ArrayList<>();
+                  }
+                  errors.add(checks.get(i).error());
+                }
+              }
+              return errors == null ? result : ValidationResult.failure(errors);
+            });
+  }
+}
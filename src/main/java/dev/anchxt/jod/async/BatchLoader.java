@@ -0,0 +1,160 @@
+package dev.anchxt.jod.async;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Groups the lookups of many concurrent validations into one backend call per tick, like a
+ * DataLoader. The first {@link #load} of a tick opens a batch; every key loaded during the tick
+ * joins it, each distinct key once, and when the tick ends the whole batch goes to the batch
+ * function in a single call on a virtual thread. A batch that reaches the maximum size is sent at
+ * once.
+ *
+ * <pre>{@code
+ * var emailTaken = new BatchLoader<String, Boolean>(emails -> userRepository.existing(emails));
+ * }</pre>
+ *
+ * <p>Instances are thread-safe. Nothing is cached across batches: a key loaded again in a later
+ * tick is looked up again.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the looked up values
+ */
+public final class BatchLoader<K, V> {
+
+  /** Starts every task on a new virtual thread. */
+  static final Executor VIRTUAL_THREADS = task -> Thread.ofVirtual().name("jod-batch").start(task);
+
+  private static final Duration DEFAULT_TICK = Duration.ofMillis(1);
+
+  private final Function<Set<K>, Map<K, V>> batchFunction;
+  // Runs the end-of-tick dispatch of a batch once the tick has passed
+  private final Executor ticks;
+  private final int maxBatchSize;
+  private final Executor executor;
+
+  // A lock rather than synchronized, which pins virtual threads to their carrier in Java 21
+  private final ReentrantLock lock = new ReentrantLock();
+  // Futures of the keys loaded in the current tick, in load order; null between ticks
+  private Map<K, CompletableFuture<V>> pending;
+
+  /**
+   * Creates a loader sending batches every millisecond on virtual threads.
+   *
+   * @param batchFunction Looks up a set of keys and returns their values; keys missing from the
+   *     result load as null
+   */
+  public BatchLoader(Function<Set<K>, Map<K, V>> batchFunction) {
+    this(batchFunction, DEFAULT_TICK, Integer.MAX_VALUE, VIRTUAL_THREADS);
+  }
+
+  /**
+   * Creates a loader.
+   *
+   * @param batchFunction Looks up a set of keys and returns their values; keys missing from the
+   *     result load as null
+   * @param tick How long a batch collects keys before it is sent
+   * @param maxBatchSize Number of distinct keys at which a batch is sent before the tick ends
+   * @param executor Runs the batch function; virtual threads suit blocking backends
+   */
+  public BatchLoader(
+      Function<Set<K>, Map<K, V>> batchFunction,
+      Duration tick,
+      int maxBatchSize,
+      Executor executor) {
+    this(
+        batchFunction,
+        tick == null
+            ? null
+            : CompletableFuture.delayedExecutor(tick.toNanos(), TimeUnit.NANOSECONDS, executor),
+        maxBatchSize,
+        executor);
+  }
+
+  /**
+   * Creates a loader whose batches are dispatched when {@code ticks} runs their dispatch task, so
+   * that tests can end ticks deterministically.
+   */
+  BatchLoader(
+      Function<Set<K>, Map<K, V>> batchFunction,
+      Executor ticks,
+      int maxBatchSize,
+      Executor executor) {
+    if (batchFunction == null || ticks == null || executor == null) {
+      throw new IllegalArgumentException("Batch function, tick and executor cannot be null");
+    }
+    if (maxBatchSize < 1) {
+      throw new IllegalArgumentException("Maximum batch size must be positive");
+    }
+    this.batchFunction = batchFunction;
+    this.ticks = ticks;
+    this.maxBatchSize = maxBatchSize;
+    this.executor = executor;
+  }
+
+  /**
+   * Loads the value of a key in the current batch. The future completes once the batch function
+   * returns, or exceptionally if it throws.
+   */
+  public CompletableFuture<V> load(K key) {
+    Map<K, CompletableFuture<V>> full = null;
+    CompletableFuture<V> future;
+    lock.lock();
+    try {
+      if (pending == null) {
+        Map<K, CompletableFuture<V>> batch = new LinkedHashMap<>();
+        pending = batch;
+        ticks.execute(() -> dispatch(batch));
+      }
+      future = pending.computeIfAbsent(key, k -> new CompletableFuture<>());
+      if (pending.size() >= maxBatchSize) {
+        full = pending;
+        pending = null;
+      }
+    } finally {
+      lock.unlock();
+    }
+    if (full != null) {
+      Map<K, CompletableFuture<V>> batch = full;
+      executor.execute(() -> send(batch));
+    }
+    return future;
+  }
+
+  /** Sends the batch at the end of its tick, unless it was already sent when it filled up. */
+  private void dispatch(Map<K, CompletableFuture<V>> batch) {
+    lock.lock();
+    try {
+      if (pending != batch) {
+        return;
+      }
+      pending = null;
+    } finally {
+      lock.unlock();
+    }
+    send(batch);
+  }
+
+  private void send(Map<K, CompletableFuture<V>> batch) {
+    Map<K, V> values;
+    try {
+      values = batchFunction.apply(Collections.unmodifiableSet(batch.keySet()));
+    } catch (RuntimeException e) {
+      batch.values().forEach(future -> future.completeExceptionally(e));
+      return;
+    } catch (Error e) {
+      // Fail the batch so that no validation waits forever, but leave the error to the VM
+      batch.values().forEach(future -> future.completeExceptionally(e));
+      throw e;
+    }
+    batch.forEach((key, future) -> future.complete(values == null ? null : values.get(key)));
+  }
+}
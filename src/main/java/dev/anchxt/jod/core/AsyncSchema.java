@@ -0,0 +1,27 @@
+package dev.anchxt.jod.core;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous counterpart of {@link Schema}, for rules that need I/O such as uniqueness checks or
+ * reference lookups. The future completes with the validation result, or exceptionally if a lookup
+ * fails; a failed lookup is not a validation error.
+ *
+ * @param <T> The type of value this schema validates
+ */
+@FunctionalInterface
+public interface AsyncSchema<T> {
+
+  /**
+   * Validates the given value.
+   *
+   * @param value The value to validate
+   * @return A future of a ValidationResult containing either the validated value or errors
+   */
+  CompletableFuture<ValidationResult<T>> validateAsync(T value);
+
+  /** Adapts a synchronous schema, whose results are complete when returned. */
+  static <T> AsyncSchema<T> of(Schema<T> schema) {
+    return value -> CompletableFuture.completedFuture(schema.validate(value));
+  }
+}
@@ -0,0 +1,29 @@
+package dev.anchxt.jod.core;
+
+/**
+ * Machine-readable code of a {@link ValidationError}. The codes of the built-in schemas are the
+ * constants of {@link StandardErrorCode}; custom codes are created with {@link #of(String)}.
+ *
+ * <p>Codes are interned: there is one instance per name, so they can be compared by identity and
+ * used as map keys without hashing strings. Each code also has a small {@link #id()}, dense from
+ * zero, which {@link ErrorCodeSet} uses as its bit index.
+ */
+public interface ErrorCode {
+
+  /** The code as a string, e.g. {@code "STRING_TOO_SHORT"}. */
+  String name();
+
+  /** Dense index of this code: the ordinal of a standard code, and above those for custom codes. */
+  int id();
+
+  /**
+   * Returns the code with the given name: the {@link StandardErrorCode} constant if there is one,
+   * else a custom code that is registered on first use and shared afterwards. Custom codes are
+   * meant to be a fixed set: up to 4096 of them can be registered.
+   *
+   * @throws IllegalStateException If {@code name} is a new custom code and 4096 are registered
+   */
+  static ErrorCode of(String name) {
+    return ErrorCodes.intern(name);
+  }
+}
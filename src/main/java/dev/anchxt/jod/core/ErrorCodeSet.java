@@ -0,0 +1,179 @@
+package dev.anchxt.jod.core;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Immutable set of error codes, stored as a bitmask indexed by {@link ErrorCode#id()}. Every
+ * standard code fits in the first word, so a summary of a failed validation is usually a single
+ * {@code long} that can be tested, counted or merged without touching any strings.
+ *
+ * <p>Returned by {@link Schema#violatedCodes}, which collects the codes a value violates without
+ * creating error records. Merging returns one of the operands whenever it already contains the
+ * other, so summaries of values that fail the same way do not allocate.
+ */
+public final class ErrorCodeSet implements Iterable<ErrorCode> {
+
+  /** The set without codes, returned for valid values. */
+  public static final ErrorCodeSet EMPTY = new ErrorCodeSet(new long[0]);
+
+  // Bit (id % 64) of word (id / 64) is set if the code with that id is in the set; no trailing 0s
+  private final long[] words;
+
+  private ErrorCodeSet(long[] words) {
+    this.words = words;
+  }
+
+  /** Returns a set of the given codes. */
+  public static ErrorCodeSet of(ErrorCode... codes) {
+    ErrorCodeSet set = EMPTY;
+    for (ErrorCode code : codes) {
+      set = set.with(code);
+    }
+    return set;
+  }
+
+  /** Returns the set of the codes of the given errors. */
+  public static ErrorCodeSet of(Collection<ValidationError> errors) {
+    ErrorCodeSet set = EMPTY;
+    for (ValidationError error : errors) {
+      if (error.errorCode() != null) {
+        set = set.with(error.errorCode());
+      }
+    }
+    return set;
+  }
+
+  /** Returns true if the set contains no codes. */
+  public boolean isEmpty() {
+    return words.length == 0;
+  }
+
+  /** Returns true if the set contains the code. */
+  public boolean contains(ErrorCode code) {
+    int word = code.id() >>> 6;
+    return word < words.length && (words[word] & 1L << code.id()) != 0;
+  }
+
+  /** Returns the number of codes in the set. */
+  public int size() {
+    int size = 0;
+    for (long word : words) {
+      size += Long.bitCount(word);
+    }
+    return size;
+  }
+
+  /**
+   * Returns the codes with ids below 64 as a bitmask, in which bit {@code code.id()} is set for
+   * each code in the set. This covers every {@link StandardErrorCode}.
+   */
+  public long bits() {
+    return words.length == 0 ? 0L : words[0];
+  }
+
+  /** Returns the standard codes in the set. */
+  public EnumSet<StandardErrorCode> standardCodes() {
+    EnumSet<StandardErrorCode> codes = EnumSet.noneOf(StandardErrorCode.class);
+    for (ErrorCode code : this) {
+      if (code instanceof StandardErrorCode standard) {
+        codes.add(standard);
+      }
+    }
+    return codes;
+  }
+
+  /** Returns the codes in the set, ordered by id. */
+  public Set<ErrorCode> toSet() {
+    Set<ErrorCode> codes = new LinkedHashSet<>();
+    for (ErrorCode code : this) {
+      codes.add(code);
+    }
+    return Collections.unmodifiableSet(codes);
+  }
+
+  /** Returns a set with the code added, or this set if it already contains it. */
+  public ErrorCodeSet with(ErrorCode code) {
+    if (contains(code)) {
+      return this;
+    }
+    long[] merged = Arrays.copyOf(words, Math.max(words.length, (code.id() >>> 6) + 1));
+    merged[code.id() >>> 6] |= 1L << code.id();
+    return new ErrorCodeSet(merged);
+  }
+
+  /** Returns the union of both sets, which is one of them if it contains the other. */
+  public ErrorCodeSet union(ErrorCodeSet other) {
+    if (containsAll(other)) {
+      return this;
+    }
+    if (other.containsAll(this)) {
+      return other;
+    }
+    long[] merged = Arrays.copyOf(words, Math.max(words.length, other.words.length));
+    for (int i = 0; i < other.words.length; i++) {
+      merged[i] |= other.words[i];
+    }
+    return new ErrorCodeSet(merged);
+  }
+
+  private boolean containsAll(ErrorCodeSet other) {
+    if (other.words.length > words.length) {
+      return false;
+    }
+    for (int i = 0; i < other.words.length; i++) {
+      if ((other.words[i] & ~words[i]) != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Iterates over the codes in the set, ordered by id. */
+  @Override
+  public Iterator<ErrorCode> iterator() {
+    return new Iterator<>() {
+      private int word;
+      private long remaining = words.length == 0 ? 0L : words[0];
+
+      @Override
+      public boolean hasNext() {
+        while (remaining == 0 && word + 1 < words.length) {
+          remaining = words[++word];
+        }
+        return remaining != 0;
+      }
+
+      @Override
+      public ErrorCode next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        int bit = Long.numberOfTrailingZeros(remaining);
+        remaining &= remaining - 1;
+        return ErrorCodes.byId(word << 6 | bit);
+      }
+    };
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof ErrorCodeSet other && Arrays.equals(words, other.words);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(words);
+  }
+
+  @Override
+  public String toString() {
+    return toSet().toString();
+  }
+}
@@ -0,0 +1,98 @@
+package dev.anchxt.jod.core;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry interning error codes by name and assigning custom codes the next free id. At most
+ * {@link #MAX_CUSTOM_CODES} custom codes are registered, so code names built at runtime cannot grow
+ * it without bound.
+ */
+final class ErrorCodes {
+
+  /** Maximum number of custom codes; enough for any fixed set of codes an application defines. */
+  static final int MAX_CUSTOM_CODES = 4096;
+
+  private static final Map<String, ErrorCode> BY_NAME = new ConcurrentHashMap<>();
+  // Indexed by id, with spare capacity; replaced by a copy of twice the size when full
+  private static volatile ErrorCode[] byId =
+      Arrays.copyOf(
+          StandardErrorCode.values(), StandardErrorCode.values().length * 2, ErrorCode[].class);
+  // Number of assigned ids; guarded by the class lock
+  private static int count = StandardErrorCode.values().length;
+
+  static {
+    for (StandardErrorCode code : StandardErrorCode.values()) {
+      BY_NAME.put(code.name(), code);
+    }
+  }
+
+  private ErrorCodes() {
+    // Utility class - prevent instantiation
+  }
+
+  /** A code registered with {@link ErrorCode#of(String)} that is not a standard code. */
+  private record Custom(String name, int id) implements ErrorCode {
+
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+
+  /**
+   * Returns the code with the given name, registering it if needed.
+   *
+   * @throws IllegalStateException If the name is new and the registry is full
+   */
+  static ErrorCode intern(String name) {
+    if (name == null) {
+      throw new IllegalArgumentException("Error code cannot be null");
+    }
+    ErrorCode code = lookup(name);
+    if (code == null) {
+      throw new IllegalStateException(
+          "Cannot register error code " + name + ": " + MAX_CUSTOM_CODES + " already registered");
+    }
+    return code;
+  }
+
+  /**
+   * Returns the code with the given name, registering it if needed; null if the registry is full.
+   */
+  static ErrorCode lookup(String name) {
+    ErrorCode code = BY_NAME.get(name);
+    return code != null ? code : register(name);
+  }
+
+  /** Returns true if a code with the given name has been registered. */
+  static boolean isRegistered(String name) {
+    return BY_NAME.containsKey(name);
+  }
+
+  private static synchronized ErrorCode register(String name) {
+    ErrorCode code = BY_NAME.get(name);
+    if (code != null) {
+      return code;
+    }
+    if (count - StandardErrorCode.values().length >= MAX_CUSTOM_CODES) {
+      return null;
+    }
+    ErrorCode[] codes = byId;
+    if (count == codes.length) {
+      codes = Arrays.copyOf(codes, codes.length * 2);
+    }
+    code = new Custom(name, count);
+    codes[count++] = code;
+    // Written again even when not grown, so readers of the array see the new element
+    byId = codes;
+    BY_NAME.put(name, code);
+    return code;
+  }
+
+  /** Returns the code with the given id, which must have been assigned. */
+  static ErrorCode byId(int id) {
+    return byId[id];
+  }
+}
@@ -16,4 +16,42 @@ public interface Schema<T> {
    * @return A ValidationResult containing either the validated/transformed value or errors
    */
   ValidationResult<T> validate(T value);
+
+  /**
+   * Validates the given value, stopping at the first violated constraint. Implementations evaluate
+   * cheap constraints before expensive ones, so a failure carries a single error that is not
+   * necessarily the first one {@link #validate} would report. The default implementation delegates
+   * to {@link #validate}.
+   *
+   * @param value The value to validate
+   * @return A ValidationResult containing either the validated/transformed value or the first error
+   */
+  default ValidationResult<T> validateFast(T value) {
+    return validate(value);
+  }
+
+  /**
+   * Returns true if the value passes validation. Unlike {@link #validate}, implementations do not
+   * build error messages, error records or results, which makes this the cheapest way to filter
+   * values. The default implementation delegates to {@link #validate}.
+   *
+   * @param value The value to check
+   * @return true if the value is valid
+   */
+  default boolean isValid(T value) {
+    return validate(value).isSuccess();
+  }
+
+  /**
+   * Returns the codes of all errors {@link #validate} would report for the value, or {@link
+   * ErrorCodeSet#EMPTY} if it is valid. Implementations collect the codes without creating errors,
+   * paths or results, for callers that only count or route failures by code. The default
+   * implementation collects the codes of the errors from {@link #validate}.
+   *
+   * @param value The value to check
+   * @return The set of violated error codes
+   */
+  default ErrorCodeSet violatedCodes(T value) {
+    return ErrorCodeSet.of(validate(value).getErrors());
+  }
 }
@@ -0,0 +1,56 @@
+package dev.anchxt.jod.core;
+
+/** Error codes reported by the built-in schemas. */
+public enum StandardErrorCode implements ErrorCode {
+  /** The value is null. */
+  NULL_VALUE,
+  /** A string is shorter than its minimum length. */
+  STRING_TOO_SHORT,
+  /** A string is longer than its maximum length. */
+  STRING_TOO_LONG,
+  /** A string is not an email address. */
+  INVALID_EMAIL,
+  /** A string does not match a pattern. */
+  REGEX_MISMATCH,
+  /** A string is not a UUID. */
+  INVALID_UUID,
+  /** Bytes are not valid UTF-8. */
+  INVALID_UTF8,
+  /** A number is below its minimum. */
+  NUMBER_TOO_SMALL,
+  /** A number is above its maximum. */
+  NUMBER_TOO_LARGE,
+  /** A number is not positive. */
+  NOT_POSITIVE,
+  /** A number is not negative. */
+  NOT_NEGATIVE,
+  /** A number is not a multiple of its divisor. */
+  NOT_MULTIPLE,
+  /** A boolean is not true. */
+  NOT_TRUE,
+  /** A boolean is not false. */
+  NOT_FALSE,
+  /** A list has fewer elements than its minimum size. */
+  LIST_TOO_SHORT,
+  /** A list has more elements than its maximum size. */
+  LIST_TOO_LONG,
+  /** A map has fewer entries than its minimum size. */
+  MAP_TOO_SMALL,
+  /** A map has more entries than its maximum size. */
+  MAP_TOO_LARGE,
+  /** A map lacks a required key. */
+  REQUIRED_KEY_MISSING,
+  /** Two map keys are equal after transformation. */
+  DUPLICATE_KEY,
+  /** A JSON value has another type than its schema validates. */
+  INVALID_TYPE,
+  /** The input is not well-formed JSON. */
+  INVALID_JSON,
+  /** A CSV record is malformed or has another number of cells than its header. */
+  INVALID_CSV;
+
+  @Override
+  public int id() {
+    return ordinal();
+  }
+}
@@ -0,0 +1,47 @@
+package dev.anchxt.jod.core;
+
+/**
+ * Shared {@link ValidationResult.Success} instances for values that are themselves cached by the
+ * JDK: {@code Boolean.TRUE}/{@code Boolean.FALSE} and the interned {@code Integer} range. Lookups
+ * match on identity, so a cached result always wraps the exact instance that was validated.
+ */
+final class SuccessCache {
+
+  private static final int LOW = -128;
+  private static final int HIGH = 127;
+
+  private static final ValidationResult.Success<Boolean> TRUE =
+      new ValidationResult.Success<>(Boolean.TRUE);
+  private static final ValidationResult.Success<Boolean> FALSE =
+      new ValidationResult.Success<>(Boolean.FALSE);
+  private static final ValidationResult.Success<?>[] INTEGERS =
+      new ValidationResult.Success<?>[HIGH - LOW + 1];
+
+  static {
+    for (int i = 0; i < INTEGERS.length; i++) {
+      INTEGERS[i] = new ValidationResult.Success<>(Integer.valueOf(i + LOW));
+    }
+  }
+
+  private SuccessCache() {
+    // Utility class - prevent instantiation
+  }
+
+  /** Returns a cached success for the value, or null if the value is not cached. */
+  @SuppressWarnings("unchecked")
+  static <T> ValidationResult.Success<T> lookup(T value) {
+    if (value == Boolean.TRUE) {
+      return (ValidationResult.Success<T>) TRUE;
+    }
+    if (value == Boolean.FALSE) {
+      return (ValidationResult.Success<T>) FALSE;
+    }
+    if (value instanceof Integer i && i >= LOW && i <= HIGH) {
+      var cached = INTEGERS[i - LOW];
+      if (cached.value() == value) {
+        return (ValidationResult.Success<T>) cached;
+      }
+    }
+    return null;
+  }
+}
@@ -1,29 +1,157 @@
 package dev.anchxt.jod.core;
 
+import java.util.Objects;
+
 /**
  * Represents a validation error with path, message, and error code.
  *
- * @param path The path to the invalid field (e.g., "user.address.city" or "tags[0]")
- * @param message Human-readable error message
- * @param code Machine-readable error code (e.g., "STRING_TOO_SHORT", "INVALID_EMAIL")
+ * <p>Prefixing the path of a nested error, once per level on the way out of the schema tree, only
+ * links a new segment in front of the existing ones. The path string is rendered when {@link
+ * #path()} is first read, so a deep failure costs one string instead of one per nesting level.
+ *
+ * <p>The code is also available as a typed, interned {@link ErrorCode} from {@link #errorCode()},
+ * for callers that route or count errors without hashing strings.
+ *
+ * <p>Two errors are equal when their rendered paths, messages and code strings are; whether a path
+ * was built from segments or passed in whole, and whether the typed code has been resolved, make no
+ * difference.
  */
-public record ValidationError(String path, String message, String code) {
+public final class ValidationError {
+
+  // Segments from the outermost field name or index inward; null until the first prefix
+  private final Segment segments;
+  // Rendered from the segments on first read. Racy like String.hash: every thread renders the same
+  // string, so a thread that sees null at worst renders it again
+  private String path;
+  private final String message;
+  private final String code;
+  // Resolved from the code on first read, racy like the path; creating an error never registers it
+  private ErrorCode errorCode;
+
+  /**
+   * One step of a path: a field name or key, or a list index when {@code name} is null. The last
+   * segment may be an already rendered path such as {@code "[0].name"}.
+   */
+  private record Segment(String name, int index, Segment next) {}
+
+  /**
+   * Creates a validation error.
+   *
+   * @param path The path to the invalid field (e.g., "user.address.city" or "tags[0]")
+   * @param message Human-readable error message
+   * @param code Machine-readable error code (e.g., "STRING_TOO_SHORT", "INVALID_EMAIL")
+   */
+  public ValidationError(String path, String message, String code) {
+    this.segments = path == null || path.isEmpty() ? null : new Segment(path, 0, null);
+    this.path = path;
+    this.message = message;
+    this.code = code;
+  }
+
+  /** Creates a validation error with a typed code. */
+  public ValidationError(String path, String message, ErrorCode code) {
+    this(path, message, code.name());
+    this.errorCode = code;
+  }
+
+  private ValidationError(Segment segments, String message, String code, ErrorCode errorCode) {
+    this.segments = segments;
+    this.message = message;
+    this.code = code;
+    this.errorCode = errorCode;
+  }
 
   /** Creates a validation error with an empty path (root level). */
   public static ValidationError of(String message, String code) {
     return new ValidationError("", message, code);
   }
 
-  /** Creates a new error with a prefixed path. */
+  /** Creates a validation error with a typed code and an empty path (root level). */
+  public static ValidationError of(String message, ErrorCode code) {
+    return new ValidationError("", message, code);
+  }
+
+  /** Creates a new error with a prefixed path, e.g. a field name. */
   public ValidationError withPathPrefix(String prefix) {
-    if (path.isEmpty()) {
-      return new ValidationError(prefix, message, code);
-    }
     if (prefix.isEmpty()) {
       return this;
     }
-    // Handle array indices: prefix + "[0].field" or prefix + ".field"
-    String separator = path.startsWith("[") ? "" : ".";
-    return new ValidationError(prefix + separator + path, message, code);
+    return new ValidationError(new Segment(prefix, 0, segments), message, code, errorCode);
+  }
+
+  /** Creates a new error whose path is prefixed with a list index, rendered as {@code [index]}. */
+  public ValidationError withIndexPrefix(int index) {
+    return new ValidationError(new Segment(null, index, segments), message, code, errorCode);
+  }
+
+  /** The path to the invalid field (e.g., "user.address.city" or "tags[0]"). */
+  public String path() {
+    String rendered = path;
+    if (rendered == null) {
+      rendered = render(segments);
+      path = rendered;
+    }
+    return rendered;
+  }
+
+  /** Human-readable error message. */
+  public String message() {
+    return message;
+  }
+
+  /** Machine-readable error code (e.g., "STRING_TOO_SHORT", "INVALID_EMAIL"). */
+  public String code() {
+    return code;
+  }
+
+  /**
+   * The code as an interned {@link ErrorCode}: a {@link StandardErrorCode} for built-in codes, else
+   * the custom code of that name, which is registered on the first read if it is not yet. Null if
+   * the code is null, or if it is a new custom code and the registry of custom codes is full.
+   */
+  public ErrorCode errorCode() {
+    ErrorCode resolved = errorCode;
+    if (resolved == null && code != null) {
+      resolved = ErrorCodes.lookup(code);
+      errorCode = resolved;
+    }
+    return resolved;
+  }
+
+  private static String render(Segment segments) {
+    if (segments == null) {
+      return "";
+    }
+    StringBuilder builder = new StringBuilder();
+    for (Segment segment = segments; segment != null; segment = segment.next()) {
+      if (segment.name() == null) {
+        builder.append('[').append(segment.index()).append(']');
+      } else {
+        // A name joins with a dot, except at the start or before an index like "[0].name"
+        if (!builder.isEmpty() && !segment.name().startsWith("[")) {
+          builder.append('.');
+        }
+        builder.append(segment.name());
+      }
+    }
+    return builder.toString();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof ValidationError other
+        && Objects.equals(path(), other.path())
+        && Objects.equals(message, other.message)
+        && Objects.equals(code, other.code);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(path(), message, code);
+  }
+
+  @Override
+  public String toString() {
+    return "ValidationError[path=" + path() + ", message=" + message + ", code=" + code + "]";
   }
 }
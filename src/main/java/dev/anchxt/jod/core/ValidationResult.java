@@ -12,9 +12,13 @@ import java.util.function.Function;
 public sealed interface ValidationResult<T>
     permits ValidationResult.Success, ValidationResult.Failure {
 
-  /** Creates a successful validation result. */
+  /**
+   * Creates a successful validation result. Results for {@code Boolean.TRUE}, {@code Boolean.FALSE}
+   * and interned small integers are shared instances, so validating them does not allocate.
+   */
   static <T> ValidationResult<T> success(T value) {
-    return new Success<>(value);
+    Success<T> cached = SuccessCache.lookup(value);
+    return cached != null ? cached : new Success<>(value);
   }
 
   /** Creates a failed validation result with a single error. */
@@ -22,8 +26,11 @@ public sealed interface ValidationResult<T>
     return new Failure<>(List.of(error));
   }
 
-  /** Creates a failed validation result with multiple errors. */
+  /** Creates a failed validation result with multiple errors. A single error is not copied. */
   static <T> ValidationResult<T> failure(List<ValidationError> errors) {
+    if (errors.size() == 1) {
+      return new Failure<>(List.of(errors.getFirst()));
+    }
     return new Failure<>(List.copyOf(errors));
   }
 
@@ -78,7 +85,7 @@ public sealed interface ValidationResult<T>
 
     @Override
     public <R> ValidationResult<R> map(Function<? super T, ? extends R> mapper) {
-      return new Success<>(mapper.apply(value));
+      return success(mapper.apply(value));
     }
 
     @Override
@@ -0,0 +1,563 @@
+package dev.anchxt.jod.json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Pull reader for UTF-8 JSON (RFC 8259). Each call to {@link #next()} reads one token and checks
+ * that it may follow the previous one, so malformed input is reported as soon as it is read, with a
+ * {@link MalformedJsonException}, and never after the fact.
+ *
+ * <p>Nothing is built: the text of the current name, string or number is decoded into a buffer that
+ * is reused for the next token, and {@link #text()} is a view of it. Memory therefore stays
+ * constant apart from that buffer, which grows to the longest scalar, and one byte per level of
+ * nesting. Input streams are read through a fixed 8 KiB buffer; a heap {@link ByteBuffer} is read
+ * in place.
+ *
+ * <pre>{@code
+ * try (JsonReader reader = new JsonReader(in)) {
+ *   for (JsonToken token = reader.next(); token != JsonToken.END_DOCUMENT; token = reader.next()) {
+ *     ...
+ *   }
+ * }
+ * }</pre>
+ *
+ * <p>Instances are not thread-safe.
+ */
+public final class JsonReader implements Closeable {
+
+  private static final int BUFFER_SIZE = 8192;
+
+  // What the innermost open container, or the document, expects next
+  private static final byte DOCUMENT = 0;
+  private static final byte DOCUMENT_END = 1;
+  private static final byte ARRAY_FIRST = 2;
+  private static final byte ARRAY_NEXT = 3;
+  private static final byte OBJECT_FIRST = 4;
+  private static final byte OBJECT_COLON = 5;
+  private static final byte OBJECT_NEXT = 6;
+
+  // Source refilling the buffer: a stream, a direct buffer drained in chunks, or neither when the
+  // array of a heap buffer is read in place
+  private final InputStream in;
+  private final ByteBuffer source;
+  private final byte[] buffer;
+  private int pos;
+  private int limit;
+  // Input offset of buffer[0], so that the offset of buffer[pos] is consumed + pos
+  private long consumed;
+
+  private byte[] stack = new byte[32];
+  private int depth;
+
+  private char[] text = new char[64];
+  private int textLength;
+  private final Text view = new Text();
+  private boolean integral;
+  private JsonToken token;
+
+  /** Reads JSON from a stream, which is closed by {@link #close()}. */
+  public JsonReader(InputStream in) {
+    if (in == null) {
+      throw new IllegalArgumentException("Input stream cannot be null");
+    }
+    this.in = in;
+    this.source = null;
+    this.buffer = new byte[BUFFER_SIZE];
+    this.stack[depth++] = DOCUMENT;
+  }
+
+  /**
+   * Reads the JSON between the position and the limit of {@code json}, without moving its position.
+   */
+  public JsonReader(ByteBuffer json) {
+    if (json == null) {
+      throw new IllegalArgumentException("Buffer cannot be null");
+    }
+    this.in = null;
+    if (json.hasArray()) {
+      this.source = null;
+      this.buffer = json.array();
+      this.pos = json.arrayOffset() + json.position();
+      this.limit = json.arrayOffset() + json.limit();
+      this.consumed = -pos;
+    } else {
+      this.source = json.duplicate();
+      this.buffer = new byte[BUFFER_SIZE];
+    }
+    this.stack[depth++] = DOCUMENT;
+  }
+
+  // ==================== Tokens ====================
+
+  /**
+   * Reads the next token. After the single top-level value, returns {@link JsonToken#END_DOCUMENT}
+   * once the rest of the input is whitespace.
+   *
+   * @throws MalformedJsonException If the input is not well-formed JSON
+   * @throws IOException If reading the stream fails
+   */
+  public JsonToken next() throws IOException {
+    return token = advance();
+  }
+
+  /**
+   * Skips the value whose first token was just returned by {@link #next()}: for {@link
+   * JsonToken#BEGIN_OBJECT} and {@link JsonToken#BEGIN_ARRAY}, every token up to the matching end.
+   * A scalar has already been read whole, so nothing is skipped.
+   */
+  public void skipValue() throws IOException {
+    if (token != JsonToken.BEGIN_OBJECT && token != JsonToken.BEGIN_ARRAY) {
+      return;
+    }
+    int target = depth - 1;
+    JsonToken last;
+    do {
+      last = advance();
+    } while (depth > target);
+    token = last;
+  }
+
+  /** The last token returned by {@link #next()}, or null before the first. */
+  public JsonToken token() {
+    return token;
+  }
+
+  /**
+   * The decoded text of the current {@link JsonToken#NAME}, {@link JsonToken#STRING} or {@link
+   * JsonToken#NUMBER}. The view is reused and only valid until the next call to {@link #next()};
+   * copy it with {@code toString()} to keep it.
+   */
+  public CharSequence text() {
+    return view;
+  }
+
+  /** Returns true if the current text equals {@code value}, without creating a String. */
+  public boolean textEquals(String value) {
+    if (value.length() != textLength) {
+      return false;
+    }
+    for (int i = 0; i < textLength; i++) {
+      if (text[i] != value.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Returns true if the current number has neither a fraction nor an exponent. */
+  public boolean isIntegral() {
+    return integral;
+  }
+
+  /**
+   * Parses the current number as a long, without creating a String.
+   *
+   * @throws NumberFormatException If the number is not integral or out of range
+   */
+  public long longValue() {
+    return Long.parseLong(view, 0, textLength, 10);
+  }
+
+  /** Parses the current number as a double. */
+  public double doubleValue() {
+    // Up to 18 digits a long holds the value exactly, and converts without creating a String
+    if (integral && textLength <= 18) {
+      return longValue();
+    }
+    return Double.parseDouble(view.toString());
+  }
+
+  /** Byte offset of the next unread byte in the input. */
+  public long position() {
+    return consumed + pos;
+  }
+
+  /** Closes the stream, if reading one. */
+  @Override
+  public void close() throws IOException {
+    if (in != null) {
+      in.close();
+    }
+  }
+
+  private JsonToken advance() throws IOException {
+    int c = skipWhitespace();
+    switch (stack[depth - 1]) {
+      case DOCUMENT -> {
+        stack[depth - 1] = DOCUMENT_END;
+        return value(c);
+      }
+      case DOCUMENT_END -> {
+        if (c != -1) {
+          throw error("Expected end of input");
+        }
+        return JsonToken.END_DOCUMENT;
+      }
+      case ARRAY_FIRST -> {
+        if (c == ']') {
+          return end(JsonToken.END_ARRAY);
+        }
+        stack[depth - 1] = ARRAY_NEXT;
+        return value(c);
+      }
+      case ARRAY_NEXT -> {
+        if (c == ']') {
+          return end(JsonToken.END_ARRAY);
+        }
+        if (c != ',') {
+          throw error("Expected ',' or ']'");
+        }
+        pos++;
+        return value(skipWhitespace());
+      }
+      case OBJECT_FIRST -> {
+        if (c == '}') {
+          return end(JsonToken.END_OBJECT);
+        }
+        return name(c);
+      }
+      case OBJECT_COLON -> {
+        if (c != ':') {
+          throw error("Expected ':'");
+        }
+        pos++;
+        stack[depth - 1] = OBJECT_NEXT;
+        return value(skipWhitespace());
+      }
+      default -> {
+        if (c == '}') {
+          return end(JsonToken.END_OBJECT);
+        }
+        if (c != ',') {
+          throw error("Expected ',' or '}'");
+        }
+        pos++;
+        return name(skipWhitespace());
+      }
+    }
+  }
+
+  private JsonToken end(JsonToken token) {
+    pos++;
+    depth--;
+    return token;
+  }
+
+  private JsonToken name(int c) throws IOException {
+    if (c != '"') {
+      throw error("Expected a member name");
+    }
+    pos++;
+    readString();
+    stack[depth - 1] = OBJECT_COLON;
+    return JsonToken.NAME;
+  }
+
+  private JsonToken value(int c) throws IOException {
+    switch (c) {
+      case '{' -> {
+        pos++;
+        push(OBJECT_FIRST);
+        return JsonToken.BEGIN_OBJECT;
+      }
+      case '[' -> {
+        pos++;
+        push(ARRAY_FIRST);
+        return JsonToken.BEGIN_ARRAY;
+      }
+      case '"' -> {
+        pos++;
+        readString();
+        return JsonToken.STRING;
+      }
+      case 't' -> {
+        literal("true");
+        return JsonToken.TRUE;
+      }
+      case 'f' -> {
+        literal("false");
+        return JsonToken.FALSE;
+      }
+      case 'n' -> {
+        literal("null");
+        return JsonToken.NULL;
+      }
+      case -1 -> throw error("Unexpected end of input");
+      default -> {
+        if (c == '-' || isDigit(c)) {
+          readNumber();
+          return JsonToken.NUMBER;
+        }
+        throw error("Unexpected character '" + (char) c + "'");
+      }
+    }
+  }
+
+  private void push(byte context) {
+    if (depth == stack.length) {
+      stack = Arrays.copyOf(stack, depth * 2);
+    }
+    stack[depth++] = context;
+  }
+
+  // ==================== Scalars ====================
+
+  private void readString() throws IOException {
+    textLength = 0;
+    while (true) {
+      // Copy the run of plain ASCII up to a quote, backslash, control or non-ASCII byte in one go
+      int start = pos;
+      int end = start;
+      while (end < limit) {
+        byte b = buffer[end];
+        if (b == '"' || b == '\\' || b < 0x20) {
+          break;
+        }
+        end++;
+      }
+      if (end > start) {
+        ensureCapacity(end - start);
+        for (int i = start; i < end; i++) {
+          text[textLength++] = (char) buffer[i];
+        }
+        pos = end;
+      }
+      if (pos == limit) {
+        if (!fill()) {
+          throw error("Unterminated string");
+        }
+        continue;
+      }
+      byte b = buffer[pos++];
+      if (b == '"') {
+        return;
+      } else if (b == '\\') {
+        escape();
+      } else if (b >= 0) {
+        pos--;
+        throw error("Unescaped control character in string");
+      } else {
+        multiByte(b & 0xFF);
+      }
+    }
+  }
+
+  private void escape() throws IOException {
+    int e = nextByte();
+    char c =
+        switch (e) {
+          case '"', '\\', '/' -> (char) e;
+          case 'b' -> '\b';
+          case 'f' -> '\f';
+          case 'n' -> '\n';
+          case 'r' -> '\r';
+          case 't' -> '\t';
+          case 'u' -> {
+            int value = 0;
+            for (int i = 0; i < 4; i++) {
+              int digit = Character.digit(nextByte(), 16);
+              if (digit < 0) {
+                throw error("Invalid unicode escape");
+              }
+              value = value << 4 | digit;
+            }
+            yield (char) value;
+          }
+          default -> throw error("Invalid escape");
+        };
+    append(c);
+  }
+
+  /** Decodes a UTF-8 sequence of two to four bytes, rejecting overlong forms and surrogates. */
+  private void multiByte(int lead) throws IOException {
+    int continuations;
+    int codePoint;
+    if (lead >= 0xC2 && lead <= 0xDF) {
+      continuations = 1;
+      codePoint = lead & 0x1F;
+    } else if (lead >= 0xE0 && lead <= 0xEF) {
+      continuations = 2;
+      codePoint = lead & 0x0F;
+    } else if (lead >= 0xF0 && lead <= 0xF4) {
+      continuations = 3;
+      codePoint = lead & 0x07;
+    } else {
+      throw error("Invalid UTF-8");
+    }
+    for (int i = 0; i < continuations; i++) {
+      int b = nextByte();
+      if ((b & 0xC0) != 0x80) {
+        throw error("Invalid UTF-8");
+      }
+      codePoint = codePoint << 6 | b & 0x3F;
+    }
+    if (continuations == 2 && (codePoint < 0x800 || Character.isSurrogate((char) codePoint))
+        || continuations == 3 && (codePoint < 0x10000 || codePoint > Character.MAX_CODE_POINT)) {
+      throw error("Invalid UTF-8");
+    }
+    if (continuations == 3) {
+      append(Character.highSurrogate(codePoint));
+      append(Character.lowSurrogate(codePoint));
+    } else {
+      append((char) codePoint);
+    }
+  }
+
+  private void readNumber() throws IOException {
+    textLength = 0;
+    integral = true;
+    int c = peekByte();
+    if (c == '-') {
+      c = take(c);
+    }
+    if (c == '0') {
+      c = take(c);
+    } else if (isDigit(c)) {
+      c = digits(c);
+    } else {
+      throw error("Invalid number");
+    }
+    if (c == '.') {
+      integral = false;
+      c = take(c);
+      if (!isDigit(c)) {
+        throw error("Invalid number");
+      }
+      c = digits(c);
+    }
+    if (c == 'e' || c == 'E') {
+      integral = false;
+      c = take(c);
+      if (c == '+' || c == '-') {
+        c = take(c);
+      }
+      if (!isDigit(c)) {
+        throw error("Invalid number");
+      }
+      digits(c);
+    }
+  }
+
+  private int digits(int c) throws IOException {
+    while (isDigit(c)) {
+      c = take(c);
+    }
+    return c;
+  }
+
+  /** Appends the current byte {@code c} to the text and returns the byte after it. */
+  private int take(int c) throws IOException {
+    append((char) c);
+    pos++;
+    return peekByte();
+  }
+
+  private void literal(String word) throws IOException {
+    for (int i = 0; i < word.length(); i++) {
+      if (peekByte() != word.charAt(i)) {
+        throw error("Invalid literal");
+      }
+      pos++;
+    }
+  }
+
+  private static boolean isDigit(int c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private void append(char c) {
+    ensureCapacity(1);
+    text[textLength++] = c;
+  }
+
+  private void ensureCapacity(int extra) {
+    if (textLength + extra > text.length) {
+      text = Arrays.copyOf(text, Math.max(text.length * 2, textLength + extra));
+    }
+  }
+
+  // ==================== Input ====================
+
+  private int skipWhitespace() throws IOException {
+    while (true) {
+      if (pos == limit && !fill()) {
+        return -1;
+      }
+      int c = buffer[pos] & 0xFF;
+      if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+        return c;
+      }
+      pos++;
+    }
+  }
+
+  /** Returns the next byte without consuming it, or -1 at the end of the input. */
+  private int peekByte() throws IOException {
+    if (pos == limit && !fill()) {
+      return -1;
+    }
+    return buffer[pos] & 0xFF;
+  }
+
+  private int nextByte() throws IOException {
+    if (pos == limit && !fill()) {
+      throw error("Unexpected end of input");
+    }
+    return buffer[pos++] & 0xFF;
+  }
+
+  /** Refills the buffer once it has been read up to its limit; returns false at the end. */
+  private boolean fill() throws IOException {
+    int read;
+    if (in != null) {
+      read = in.read(buffer, 0, buffer.length);
+    } else if (source != null && source.hasRemaining()) {
+      read = Math.min(source.remaining(), buffer.length);
+      source.get(buffer, 0, read);
+    } else {
+      return false;
+    }
+    if (read <= 0) {
+      return false;
+    }
+    consumed += limit;
+    pos = 0;
+    limit = read;
+    return true;
+  }
+
+  private MalformedJsonException error(String message) {
+    return new MalformedJsonException(message, position());
+  }
+
+  /** The current text as a CharSequence; reused for every token. */
+  private final class Text implements CharSequence {
+
+    @Override
+    public int length() {
+      return textLength;
+    }
+
+    @Override
+    public char charAt(int index) {
+      if (index < 0 || index >= textLength) {
+        throw new IndexOutOfBoundsException(index);
+      }
+      return text[index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+      return toString().substring(start, end);
+    }
+
+    @Override
+    public String toString() {
+      return new String(text, 0, textLength);
+    }
+  }
+}
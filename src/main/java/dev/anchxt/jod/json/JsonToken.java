@@ -0,0 +1,27 @@
+package dev.anchxt.jod.json;
+
+/** Tokens returned by {@link JsonReader#next()}. */
+public enum JsonToken {
+  /** The start of an object, {@code &#123;}. */
+  BEGIN_OBJECT,
+  /** The end of an object, {@code &#125;}. */
+  END_OBJECT,
+  /** The start of an array, {@code [}. */
+  BEGIN_ARRAY,
+  /** The end of an array, {@code ]}. */
+  END_ARRAY,
+  /** The name of an object member; the name is read with {@link JsonReader#text()}. */
+  NAME,
+  /** A string value, read with {@link JsonReader#text()}. */
+  STRING,
+  /** A number, read with {@link JsonReader#text()}, {@link JsonReader#longValue()} and others. */
+  NUMBER,
+  /** The literal {@code true}. */
+  TRUE,
+  /** The literal {@code false}. */
+  FALSE,
+  /** The literal {@code null}. */
+  NULL,
+  /** The end of the input, after the single top-level value. */
+  END_DOCUMENT
+}
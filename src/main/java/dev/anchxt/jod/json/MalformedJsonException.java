@@ -0,0 +1,27 @@
+package dev.anchxt.jod.json;
+
+import java.io.IOException;
+
+/** Thrown by {@link JsonReader} when the input is not well-formed JSON. */
+public class MalformedJsonException extends IOException {
+
+  private static final long serialVersionUID = 1L;
+
+  private final long offset;
+
+  /**
+   * Creates an exception.
+   *
+   * @param message What was expected or found
+   * @param offset Byte offset in the input at which the error was detected
+   */
+  public MalformedJsonException(String message, long offset) {
+    super(message + " at byte " + offset);
+    this.offset = offset;
+  }
+
+  /** Byte offset in the input at which the error was detected. */
+  public long offset() {
+    return offset;
+  }
+}
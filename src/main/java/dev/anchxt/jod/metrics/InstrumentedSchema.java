@@ -0,0 +1,124 @@
+package dev.anchxt.jod.metrics;
+
+import dev.anchxt.jod.core.ErrorCodeSet;
+import dev.anchxt.jod.core.Schema;
+import dev.anchxt.jod.core.ValidationResult;
+
+/**
+ * Schema that reports the latency and outcome of every validation by another schema to a {@link
+ * ValidationMetrics.Recorder}, under a name such as {@code "user"} or {@code "signup.email"}.
+ *
+ * <pre>{@code
+ * var registry = new MetricsRegistry();
+ * ValidationMetrics.install(registry);
+ * Schema<User> users = Jod.instrument("user", userSchema);
+ * ...
+ * SchemaMetrics metrics = registry.snapshot().get("user");
+ * }</pre>
+ *
+ * <p>Without explicit metrics the schema reports to the {@linkplain ValidationMetrics#installed()
+ * installed} metrics, and follows later installs. While those are the no-op metrics, a validation
+ * costs one volatile read and a comparison more than the wrapped schema.
+ *
+ * @param <T> The type of value this schema validates
+ */
+public final class InstrumentedSchema<T> implements Schema<T> {
+
+  // Written by ValidationMetrics.install
+  static volatile ValidationMetrics installed = ValidationMetrics.noop();
+
+  /** The recorder resolved for some metrics; immutable, so it is safely published by any write. */
+  private record Binding(ValidationMetrics metrics, ValidationMetrics.Recorder recorder) {}
+
+  private final String name;
+  private final Schema<T> schema;
+  // Null when following the installed metrics
+  private final ValidationMetrics metrics;
+  private Binding binding;
+
+  /** Creates a schema reporting to the installed metrics; prefer {@code Jod.instrument}. */
+  public InstrumentedSchema(String name, Schema<T> schema) {
+    if (name == null || schema == null) {
+      throw new IllegalArgumentException("Name and schema cannot be null");
+    }
+    this.name = name;
+    this.schema = schema;
+    this.metrics = null;
+  }
+
+  /** Creates a schema reporting to the given metrics, regardless of the installed ones. */
+  public InstrumentedSchema(String name, Schema<T> schema, ValidationMetrics metrics) {
+    if (name == null || schema == null || metrics == null) {
+      throw new IllegalArgumentException("Name, schema and metrics cannot be null");
+    }
+    this.name = name;
+    this.schema = schema;
+    this.metrics = metrics;
+  }
+
+  /** The name this schema reports under. */
+  public String name() {
+    return name;
+  }
+
+  // ==================== Validation ====================
+
+  @Override
+  public ValidationResult<T> validate(T value) {
+    ValidationMetrics.Recorder recorder = recorder();
+    if (recorder == ValidationMetrics.Recorder.NOOP) {
+      return schema.validate(value);
+    }
+    long start = System.nanoTime();
+    ValidationResult<T> result = schema.validate(value);
+    recorder.record(System.nanoTime() - start, result);
+    return result;
+  }
+
+  @Override
+  public ValidationResult<T> validateFast(T value) {
+    ValidationMetrics.Recorder recorder = recorder();
+    if (recorder == ValidationMetrics.Recorder.NOOP) {
+      return schema.validateFast(value);
+    }
+    long start = System.nanoTime();
+    ValidationResult<T> result = schema.validateFast(value);
+    recorder.record(System.nanoTime() - start, result);
+    return result;
+  }
+
+  @Override
+  public boolean isValid(T value) {
+    ValidationMetrics.Recorder recorder = recorder();
+    if (recorder == ValidationMetrics.Recorder.NOOP) {
+      return schema.isValid(value);
+    }
+    long start = System.nanoTime();
+    boolean valid = schema.isValid(value);
+    recorder.record(System.nanoTime() - start, valid);
+    return valid;
+  }
+
+  @Override
+  public ErrorCodeSet violatedCodes(T value) {
+    ValidationMetrics.Recorder recorder = recorder();
+    if (recorder == ValidationMetrics.Recorder.NOOP) {
+      return schema.violatedCodes(value);
+    }
+    long start = System.nanoTime();
+    ErrorCodeSet violated = schema.violatedCodes(value);
+    recorder.record(System.nanoTime() - start, violated);
+    return violated;
+  }
+
+  private ValidationMetrics.Recorder recorder() {
+    ValidationMetrics current = metrics != null ? metrics : installed;
+    Binding bound = binding;
+    if (bound == null || bound.metrics() != current) {
+      // Racing threads may both resolve a recorder for the same metrics; either one is kept
+      bound = new Binding(current, current.recorder(name));
+      binding = bound;
+    }
+    return bound.recorder();
+  }
+}
@@ -0,0 +1,72 @@
+package dev.anchxt.jod.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of latencies in nanoseconds, with log-linear buckets like HdrHistogram:
+ * values below 64 have a bucket each, and every power of two above is split into 32 buckets, so a
+ * recorded value is known to within about 3%. Values from about 18 minutes up share the last
+ * bucket. The 1,152 buckets cover that whole range in a fixed 9 KB.
+ *
+ * <p>Recording increments one bucket with an atomic add and never allocates or blocks. Snapshots
+ * read the buckets one at a time, so a snapshot taken while values are recorded may include some of
+ * them and not others.
+ */
+public final class LatencyHistogram {
+
+  // Each power of two from 64 up is split into 2^SUB_BUCKET_BITS buckets
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int LINEAR_BUCKETS = 2 * SUB_BUCKETS;
+  private static final long MAX_TRACKABLE = (1L << 40) - 1;
+  static final int BUCKETS = index(MAX_TRACKABLE) + 1;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final LongAdder sum = new LongAdder();
+  private final AtomicLong max = new AtomicLong();
+
+  /** Records one latency; negative values count as zero. */
+  public void record(long nanos) {
+    long value = Math.max(0, nanos);
+    counts.getAndIncrement(index(Math.min(value, MAX_TRACKABLE)));
+    sum.add(value);
+    // Only written while the maximum rises, which stops happening once latencies settle
+    if (value > max.get()) {
+      max.accumulateAndGet(value, Math::max);
+    }
+  }
+
+  /** Returns a copy of the counts recorded so far. */
+  public LatencySnapshot snapshot() {
+    long[] copy = new long[BUCKETS];
+    long count = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      copy[i] = counts.get(i);
+      count += copy[i];
+    }
+    return new LatencySnapshot(copy, count, sum.sum(), max.get());
+  }
+
+  // ==================== Buckets ====================
+
+  /** Returns the bucket of a value between 0 and the maximum trackable value. */
+  static int index(long value) {
+    if (value < LINEAR_BUCKETS) {
+      return (int) value;
+    }
+    int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    return LINEAR_BUCKETS + (shift - 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+  }
+
+  /** Returns the largest value that falls into the bucket. */
+  static long highestValue(int index) {
+    if (index < LINEAR_BUCKETS) {
+      return index;
+    }
+    int shift = (index - LINEAR_BUCKETS) / SUB_BUCKETS + 1;
+    long subBucket = (index - LINEAR_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS;
+    return ((subBucket + 1) << shift) - 1;
+  }
+}
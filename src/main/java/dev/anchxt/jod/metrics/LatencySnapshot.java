@@ -0,0 +1,71 @@
+package dev.anchxt.jod.metrics;
+
+/**
+ * Immutable copy of a {@link LatencyHistogram}. Percentiles are the upper end of the bucket holding
+ * the value of that rank, so they overstate the exact latency by at most about 3%.
+ */
+public final class LatencySnapshot {
+
+  /** The snapshot of a histogram without values. */
+  public static final LatencySnapshot EMPTY =
+      new LatencySnapshot(new long[LatencyHistogram.BUCKETS], 0, 0, 0);
+
+  private final long[] counts;
+  private final long count;
+  private final long sum;
+  private final long max;
+
+  LatencySnapshot(long[] counts, long count, long sum, long max) {
+    this.counts = counts;
+    this.count = count;
+    this.sum = sum;
+    this.max = max;
+  }
+
+  /** Number of recorded latencies. */
+  public long count() {
+    return count;
+  }
+
+  /** Largest recorded latency in nanoseconds, exact; 0 without values. */
+  public long max() {
+    return max;
+  }
+
+  /** Mean latency in nanoseconds, exact; 0 without values. */
+  public double mean() {
+    return count == 0 ? 0 : (double) sum / count;
+  }
+
+  /**
+   * Returns the latency in nanoseconds that {@code percentile} percent of the recorded latencies do
+   * not exceed, e.g. {@code percentile(99)}; 0 without values.
+   *
+   * @throws IllegalArgumentException If {@code percentile} is not between 0 and 100
+   */
+  public long percentile(double percentile) {
+    if (!(percentile >= 0 && percentile <= 100)) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 100");
+    }
+    if (count == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+    long seen = 0;
+    for (int i = 0; i < counts.length; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        // The last bucket also holds the values above the trackable range
+        return i == counts.length - 1 ? max : Math.min(LatencyHistogram.highestValue(i), max);
+      }
+    }
+    return max;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "count=%d mean=%.0fns p50=%dns p99=%dns max=%dns",
+        count, mean(), percentile(50), percentile(99), max);
+  }
+}
@@ -0,0 +1,116 @@
+package dev.anchxt.jod.metrics;
+
+import dev.anchxt.jod.core.ErrorCode;
+import dev.anchxt.jod.core.ErrorCodeSet;
+import dev.anchxt.jod.core.ValidationError;
+import dev.anchxt.jod.core.ValidationResult;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link ValidationMetrics} counting in memory: per schema name, the calls, the failures, the
+ * failures per error code and a {@link LatencyHistogram}. Counters are {@link LongAdder}s, which
+ * stripe their cells under contention so that threads validating in parallel do not fight over one
+ * cache line.
+ *
+ * <pre>{@code
+ * var registry = new MetricsRegistry();
+ * ValidationMetrics.install(registry);
+ * ...
+ * for (SchemaMetrics schema : registry.snapshot().values()) {
+ *   log.info("{}: {} calls, {} failures, {}", schema.name(), schema.calls(), schema.failures(),
+ *       schema.latency());
+ * }
+ * }</pre>
+ *
+ * <p>Schemas with the same name share their counters. Instances are thread-safe.
+ */
+public final class MetricsRegistry implements ValidationMetrics {
+
+  private final ConcurrentHashMap<String, Counters> schemas = new ConcurrentHashMap<>();
+
+  @Override
+  public Recorder recorder(String schemaName) {
+    return schemas.computeIfAbsent(schemaName, Counters::new);
+  }
+
+  /** Returns a snapshot of every schema that reported so far, by name in alphabetical order. */
+  public Map<String, SchemaMetrics> snapshot() {
+    Map<String, SchemaMetrics> snapshot = new TreeMap<>();
+    for (Counters counters : schemas.values()) {
+      snapshot.put(counters.name, counters.snapshot());
+    }
+    return Collections.unmodifiableMap(snapshot);
+  }
+
+  // ==================== Counters ====================
+
+  /** The counters of one schema name. */
+  private static final class Counters implements Recorder {
+
+    final String name;
+    final LongAdder calls = new LongAdder();
+    final LongAdder failures = new LongAdder();
+    final ConcurrentHashMap<ErrorCode, LongAdder> failuresByCode = new ConcurrentHashMap<>();
+    final LatencyHistogram latency = new LatencyHistogram();
+
+    Counters(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public void record(long nanos, ValidationResult<?> result) {
+      record(nanos, result.isSuccess());
+      if (result.isFailure()) {
+        for (ValidationError error : result.getErrors()) {
+          if (error.errorCode() != null) {
+            count(error.errorCode());
+          }
+        }
+      }
+    }
+
+    @Override
+    public void record(long nanos, ErrorCodeSet violated) {
+      record(nanos, violated.isEmpty());
+      for (ErrorCode code : violated) {
+        count(code);
+      }
+    }
+
+    @Override
+    public void record(long nanos, boolean valid) {
+      calls.increment();
+      if (!valid) {
+        failures.increment();
+      }
+      latency.record(nanos);
+    }
+
+    private void count(ErrorCode code) {
+      LongAdder counter = failuresByCode.get(code);
+      if (counter == null) {
+        counter = failuresByCode.computeIfAbsent(code, c -> new LongAdder());
+      }
+      counter.increment();
+    }
+
+    SchemaMetrics snapshot() {
+      Map<ErrorCode, Long> byCode = new LinkedHashMap<>();
+      failuresByCode.entrySet().stream()
+          .sorted(Map.Entry.comparingByKey(Comparator.comparingInt(ErrorCode::id)))
+          .forEach(entry -> byCode.put(entry.getKey(), entry.getValue().sum()));
+      return new SchemaMetrics(
+          name,
+          calls.sum(),
+          failures.sum(),
+          Collections.unmodifiableMap(byCode),
+          latency.snapshot());
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package dev.anchxt.jod.metrics;
+
+import dev.anchxt.jod.core.ErrorCode;
+import java.util.Map;
+
+/**
+ * Snapshot of the measurements of one schema in a {@link MetricsRegistry}.
+ *
+ * @param name The name the schema reports under
+ * @param calls Validations of any kind
+ * @param failures Validations that found the value invalid
+ * @param failuresByCode Number of errors, or of {@code violatedCodes} results, per error code;
+ *     {@code isValid} calls report no codes
+ * @param latency Latencies of all validations
+ */
+public record SchemaMetrics(
+    String name,
+    long calls,
+    long failures,
+    Map<ErrorCode, Long> failuresByCode,
+    LatencySnapshot latency) {
+
+  /** Returns the number of failures with the given code, 0 if there were none. */
+  public long failures(ErrorCode code) {
+    return failuresByCode.getOrDefault(code, 0L);
+  }
+}
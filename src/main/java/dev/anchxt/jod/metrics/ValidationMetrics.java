@@ -0,0 +1,71 @@
+package dev.anchxt.jod.metrics;
+
+import dev.anchxt.jod.core.ErrorCodeSet;
+import dev.anchxt.jod.core.ValidationResult;
+
+/**
+ * Receiver of the measurements of {@link InstrumentedSchema}s: one {@link Recorder} per schema
+ * name, which is told the latency and outcome of every validation. {@link MetricsRegistry} counts
+ * them in memory; other implementations can forward them to a monitoring system.
+ *
+ * <p>Instrumented schemas created without metrics report to the installed metrics, which are {@link
+ * #noop()} until {@link #install} is called. With the no-op metrics an instrumented schema does not
+ * read the clock, so libraries can instrument their schemas unconditionally and leave the choice to
+ * the application.
+ */
+@FunctionalInterface
+public interface ValidationMetrics {
+
+  /**
+   * Returns the recorder for the schema with the given name. Called once per schema and installed
+   * metrics, not per validation; schemas with the same name may share a recorder.
+   */
+  Recorder recorder(String schemaName);
+
+  /** Returns the metrics that record nothing. */
+  static ValidationMetrics noop() {
+    return schemaName -> Recorder.NOOP;
+  }
+
+  /** Installs the metrics that instrumented schemas created without metrics report to. */
+  static void install(ValidationMetrics metrics) {
+    if (metrics == null) {
+      throw new IllegalArgumentException("Metrics cannot be null");
+    }
+    InstrumentedSchema.installed = metrics;
+  }
+
+  /** Returns the installed metrics. */
+  static ValidationMetrics installed() {
+    return InstrumentedSchema.installed;
+  }
+
+  /**
+   * Measurements of one schema. Methods are called concurrently from every validating thread, so
+   * implementations must be thread-safe and should not block.
+   */
+  interface Recorder {
+
+    /** The recorder that ignores everything; instrumented schemas skip timing for it. */
+    Recorder NOOP =
+        new Recorder() {
+          @Override
+          public void record(long nanos, ValidationResult<?> result) {}
+
+          @Override
+          public void record(long nanos, ErrorCodeSet violated) {}
+
+          @Override
+          public void record(long nanos, boolean valid) {}
+        };
+
+    /** Records a {@code validate} or {@code validateFast} call and its result. */
+    void record(long nanos, ValidationResult<?> result);
+
+    /** Records a {@code violatedCodes} call and the codes it returned. */
+    void record(long nanos, ErrorCodeSet violated);
+
+    /** Records an {@code isValid} call, which reports no codes. */
+    void record(long nanos, boolean valid);
+  }
+}
@@ -0,0 +1,88 @@
+package dev.anchxt.jod.regex;
+
+import java.util.Arrays;
+
+/**
+ * Sets of UTF-16 code units, represented as sorted, non-overlapping inclusive {@code [low, high]}
+ * pairs flattened into an int array.
+ */
+final class CharRanges {
+
+  static final int MAX_CHAR = Character.MAX_VALUE;
+
+  static final int[] DIGIT = {'0', '9'};
+  static final int[] WORD = normalize(new int[] {'0', '9', 'A', 'Z', '_', '_', 'a', 'z'});
+  static final int[] SPACE = normalize(new int[] {'\t', '\r', ' ', ' '});
+
+  /** What '.' matches: everything except the line terminators of java.util.regex. */
+  static final int[] DOT =
+      negate(normalize(new int[] {'\n', '\n', '\r', '\r', 0x85, 0x85, 0x2028, 0x2029}));
+
+  private CharRanges() {
+    // Utility class - prevent instantiation
+  }
+
+  static int[] of(int c) {
+    return new int[] {c, c};
+  }
+
+  /** Sorts the pairs by their low end and merges overlapping or adjacent pairs. */
+  static int[] normalize(int[] ranges) {
+    int pairs = ranges.length / 2;
+    long[] packed = new long[pairs];
+    for (int i = 0; i < pairs; i++) {
+      packed[i] = ((long) ranges[2 * i] << 32) | ranges[2 * i + 1];
+    }
+    Arrays.sort(packed);
+
+    int[] merged = new int[ranges.length];
+    int size = 0;
+    for (long pair : packed) {
+      int low = (int) (pair >>> 32);
+      int high = (int) pair;
+      if (size > 0 && low <= merged[size - 1] + 1) {
+        merged[size - 1] = Math.max(merged[size - 1], high);
+      } else {
+        merged[size++] = low;
+        merged[size++] = high;
+      }
+    }
+    return Arrays.copyOf(merged, size);
+  }
+
+  /** Returns the union of two normalized sets. */
+  static int[] union(int[] a, int[] b) {
+    int[] both = Arrays.copyOf(a, a.length + b.length);
+    System.arraycopy(b, 0, both, a.length, b.length);
+    return normalize(both);
+  }
+
+  /** Returns the complement of a normalized set within all UTF-16 code units. */
+  static int[] negate(int[] ranges) {
+    int[] result = new int[ranges.length + 2];
+    int size = 0;
+    int next = 0;
+    for (int i = 0; i < ranges.length; i += 2) {
+      if (ranges[i] > next) {
+        result[size++] = next;
+        result[size++] = ranges[i] - 1;
+      }
+      next = ranges[i + 1] + 1;
+    }
+    if (next <= MAX_CHAR) {
+      result[size++] = next;
+      result[size++] = MAX_CHAR;
+    }
+    return Arrays.copyOf(result, size);
+  }
+
+  /** Returns true if the normalized set contains the code unit. */
+  static boolean contains(int[] ranges, int c) {
+    for (int i = 0; i < ranges.length && ranges[i] <= c; i += 2) {
+      if (c <= ranges[i + 1]) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,235 @@
+package dev.anchxt.jod.regex;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Lazily built DFA over an {@link Nfa}. Input code units are first mapped to equivalence classes
+ * (code units no CHAR state can tell apart share a class), and each DFA state holds a transition
+ * table indexed by class. Transitions are computed by subset construction the first time they are
+ * taken, so matching is one table lookup per code unit once the DFA is warm, and never worse than
+ * one NFA step per code unit before that.
+ *
+ * <p>Built states are cached up to a fixed bound. When the cache is full it is flushed and matching
+ * continues from fresh states, which keeps memory bounded for patterns whose full DFA would be
+ * exponentially large.
+ *
+ * <p>Matching is safe from multiple threads. States are immutable apart from their transition
+ * tables, whose entries are written once under a lock and read without one: a reader either sees
+ * null and takes the lock, or sees a state safely published through its final fields.
+ */
+final class Dfa {
+
+  private final Nfa nfa;
+  private final int maxStates;
+
+  // Equivalence classes: class k covers code units [classStarts[k], classStarts[k + 1])
+  private final int[] classStarts;
+  private final int[] asciiClasses = new int[128];
+  // For each NFA state, which classes it consumes (null for non-CHAR states)
+  private final boolean[][] consumes;
+
+  private final int[] startStates;
+  private final State dead;
+  private volatile State start;
+
+  private final Object lock = new Object();
+  // Guarded by lock
+  private Map<Key, State> cache = new HashMap<>();
+  private final int[] marks;
+  private int generation;
+  private final int[] stack;
+  private final int[] collected;
+
+  Dfa(Nfa nfa, int maxStates) {
+    this.nfa = nfa;
+    this.maxStates = maxStates;
+    this.classStarts = computeClassStarts(nfa);
+    for (int c = 0; c < asciiClasses.length; c++) {
+      asciiClasses[c] = lookupClass(c);
+    }
+    this.consumes = new boolean[nfa.size()][];
+    for (int s = 0; s < nfa.size(); s++) {
+      if (nfa.type(s) == Nfa.CHAR) {
+        consumes[s] = new boolean[classStarts.length];
+        for (int k = 0; k < classStarts.length; k++) {
+          consumes[s][k] = CharRanges.contains(nfa.ranges(s), classStarts[k]);
+        }
+      }
+    }
+
+    this.marks = new int[nfa.size()];
+    this.stack = new int[nfa.size()];
+    this.collected = new int[nfa.size()];
+
+    this.dead = new State(new int[0], false, classStarts.length);
+    Arrays.fill(dead.next, dead);
+    synchronized (lock) {
+      this.startStates = closure(new int[] {nfa.start()}, 1);
+      this.start = intern(startStates);
+    }
+  }
+
+  /** Returns true if the DFA accepts the whole input. */
+  boolean matches(CharSequence input) {
+    State state = start;
+    for (int i = 0, length = input.length(); i < length; i++) {
+      int characterClass = classOf(input.charAt(i));
+      State next = state.next[characterClass];
+      if (next == null) {
+        next = transition(state, characterClass);
+      }
+      if (next == dead) {
+        return false;
+      }
+      state = next;
+    }
+    return state.accepting;
+  }
+
+  private int classOf(char c) {
+    return c < 128 ? asciiClasses[c] : lookupClass(c);
+  }
+
+  private int lookupClass(int c) {
+    int index = Arrays.binarySearch(classStarts, c);
+    return index >= 0 ? index : -index - 2;
+  }
+
+  private State transition(State from, int characterClass) {
+    synchronized (lock) {
+      State existing = from.next[characterClass];
+      if (existing != null) {
+        return existing;
+      }
+
+      int[] seeds = new int[from.nfaStates.length];
+      int count = 0;
+      for (int s : from.nfaStates) {
+        if (nfa.type(s) == Nfa.CHAR && consumes[s][characterClass]) {
+          seeds[count++] = nfa.out1(s);
+        }
+      }
+      State target = count == 0 ? dead : intern(closure(seeds, count));
+      from.next[characterClass] = target;
+      return target;
+    }
+  }
+
+  /** Returns the cached state for the NFA state set, creating it and flushing if needed. */
+  private State intern(int[] nfaStates) {
+    if (nfaStates.length == 0) {
+      return dead;
+    }
+    var key = new Key(nfaStates);
+    State state = cache.get(key);
+    if (state != null) {
+      return state;
+    }
+    if (cache.size() >= maxStates) {
+      // Drop every cached state; in-flight matches keep working on the states they hold
+      cache = new HashMap<>();
+      State fresh = new State(startStates, isAccepting(startStates), classStarts.length);
+      cache.put(new Key(startStates), fresh);
+      start = fresh;
+      if (Arrays.equals(nfaStates, startStates)) {
+        return fresh;
+      }
+    }
+    state = new State(nfaStates, isAccepting(nfaStates), classStarts.length);
+    cache.put(key, state);
+    return state;
+  }
+
+  /**
+   * Follows SPLIT states from the seeds and returns the reachable CHAR and MATCH states, sorted so
+   * that equal sets produce equal keys.
+   */
+  private int[] closure(int[] seeds, int count) {
+    generation++;
+    int top = 0;
+    int size = 0;
+    // States are marked when pushed, so each is pushed at most once and the stack cannot overflow
+    for (int i = 0; i < count; i++) {
+      top = push(seeds[i], top);
+    }
+    while (top > 0) {
+      int s = stack[--top];
+      if (nfa.type(s) == Nfa.SPLIT) {
+        top = push(nfa.out2(s), top);
+        top = push(nfa.out1(s), top);
+      } else {
+        collected[size++] = s;
+      }
+    }
+    int[] result = Arrays.copyOf(collected, size);
+    Arrays.sort(result);
+    return result;
+  }
+
+  private int push(int state, int top) {
+    if (marks[state] == generation) {
+      return top;
+    }
+    marks[state] = generation;
+    stack[top] = state;
+    return top + 1;
+  }
+
+  private boolean isAccepting(int[] nfaStates) {
+    for (int s : nfaStates) {
+      if (nfa.type(s) == Nfa.MATCH) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Sorted starts of the code unit equivalence classes, beginning with 0. */
+  private static int[] computeClassStarts(Nfa nfa) {
+    int[] boundaries = new int[16];
+    int size = 0;
+    boundaries[size++] = 0;
+    for (int s = 0; s < nfa.size(); s++) {
+      if (nfa.type(s) != Nfa.CHAR) {
+        continue;
+      }
+      int[] ranges = nfa.ranges(s);
+      for (int i = 0; i < ranges.length; i += 2) {
+        if (size + 2 > boundaries.length) {
+          boundaries = Arrays.copyOf(boundaries, boundaries.length * 2);
+        }
+        boundaries[size++] = ranges[i];
+        if (ranges[i + 1] < CharRanges.MAX_CHAR) {
+          boundaries[size++] = ranges[i + 1] + 1;
+        }
+      }
+    }
+    return Arrays.stream(boundaries, 0, size).sorted().distinct().toArray();
+  }
+
+  private static final class State {
+    final int[] nfaStates;
+    final boolean accepting;
+    final State[] next;
+
+    State(int[] nfaStates, boolean accepting, int classes) {
+      this.nfaStates = nfaStates;
+      this.accepting = accepting;
+      this.next = new State[classes];
+    }
+  }
+
+  private record Key(int[] nfaStates) {
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof Key key && Arrays.equals(nfaStates, key.nfaStates);
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode(nfaStates);
+    }
+  }
+}
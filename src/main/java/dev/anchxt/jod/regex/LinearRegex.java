@@ -0,0 +1,76 @@
+package dev.anchxt.jod.regex;
+
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * A regular expression matched in time linear in the input length, with no backtracking. The
+ * pattern is parsed into an NFA and matched through a lazily built, size-bounded DFA, so hostile
+ * input cannot trigger the catastrophic backtracking of {@link java.util.regex.Pattern}.
+ *
+ * <p>Supported syntax is the regular subset of java.util.regex: literals and escaped
+ * metacharacters, {@code .}, character classes with ranges and negation, {@code \d \D \w \W \s \S},
+ * {@code \t \n \r \f \a \e}, hexadecimal and Unicode escapes, groups {@code (...)} and {@code
+ * (?:...)}, alternation, and the quantifiers {@code * + ? {n} {n,} {n,m}} (reluctant forms are
+ * accepted). {@code ^} and {@code $} are accepted at the start and end of top-level alternatives.
+ * Everything else, such as backreferences, lookaround, possessive quantifiers, flags and class
+ * intersections, is rejected with a {@link PatternSyntaxException} when the pattern is compiled.
+ *
+ * <p>{@link #matches} requires the whole input to match, like {@link
+ * java.util.regex.Matcher#matches}. Input is matched per UTF-16 code unit, so a supplementary
+ * character counts as two characters for {@code .} and negated classes.
+ *
+ * <pre>{@code
+ * LinearRegex code = LinearRegex.compile("[A-Z]{3}-\\d{4}");
+ * code.matches("ABC-1234"); // true
+ * }</pre>
+ */
+public final class LinearRegex {
+
+  /** Default bound on the number of cached DFA states. */
+  public static final int DEFAULT_MAX_STATES = 4096;
+
+  private final String pattern;
+  private final Dfa dfa;
+
+  private LinearRegex(String pattern, Dfa dfa) {
+    this.pattern = pattern;
+    this.dfa = dfa;
+  }
+
+  /**
+   * Compiles the pattern with the default DFA cache bound.
+   *
+   * @throws PatternSyntaxException if the pattern is invalid or uses unsupported constructs
+   */
+  public static LinearRegex compile(String pattern) {
+    return compile(pattern, DEFAULT_MAX_STATES);
+  }
+
+  /**
+   * Compiles the pattern, caching at most {@code maxStates} DFA states.
+   *
+   * @throws PatternSyntaxException if the pattern is invalid or uses unsupported constructs
+   */
+  public static LinearRegex compile(String pattern, int maxStates) {
+    if (maxStates < 1) {
+      throw new IllegalArgumentException("maxStates must be positive: " + maxStates);
+    }
+    Nfa nfa = Nfa.compile(pattern, Parser.parse(pattern));
+    return new LinearRegex(pattern, new Dfa(nfa, maxStates));
+  }
+
+  /** Returns true if the whole input matches the pattern. */
+  public boolean matches(CharSequence input) {
+    return dfa.matches(input);
+  }
+
+  /** Returns the source pattern. */
+  public String pattern() {
+    return pattern;
+  }
+
+  @Override
+  public String toString() {
+    return pattern;
+  }
+}
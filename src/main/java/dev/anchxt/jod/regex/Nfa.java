@@ -0,0 +1,124 @@
+package dev.anchxt.jod.regex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Thompson NFA compiled from a {@link Node} tree. States are stored in parallel arrays: a CHAR
+ * state consumes one code unit from its ranges and moves to {@code out1}, a SPLIT state moves to
+ * both {@code out1} and {@code out2} without consuming input, and the single MATCH state accepts.
+ */
+final class Nfa {
+
+  static final int CHAR = 0;
+  static final int SPLIT = 1;
+  static final int MATCH = 2;
+
+  static final int MAX_STATES = 10_000;
+
+  private final String pattern;
+  private int[] type = new int[16];
+  private int[] out1 = new int[16];
+  private int[] out2 = new int[16];
+  private final List<int[]> ranges = new ArrayList<>();
+  private int size;
+  private int start;
+
+  private Nfa(String pattern) {
+    this.pattern = pattern;
+  }
+
+  /** Compiles the syntax tree of the pattern. */
+  static Nfa compile(String pattern, Node root) {
+    var nfa = new Nfa(pattern);
+    int match = nfa.add(MATCH, null, -1, -1);
+    nfa.start = nfa.compile(root, match);
+    return nfa;
+  }
+
+  /** Compiles the node so that it continues with state {@code next}; returns its entry state. */
+  private int compile(Node node, int next) {
+    return switch (node) {
+      case Node.Empty empty -> next;
+      case Node.CharSet set -> add(CHAR, set.ranges(), next, -1);
+      case Node.Concat concat -> {
+        int entry = next;
+        for (int i = concat.items().size() - 1; i >= 0; i--) {
+          entry = compile(concat.items().get(i), entry);
+        }
+        yield entry;
+      }
+      case Node.Alternation alternation -> {
+        List<Node> alternatives = alternation.alternatives();
+        int entry = compile(alternatives.getLast(), next);
+        for (int i = alternatives.size() - 2; i >= 0; i--) {
+          entry = add(SPLIT, null, compile(alternatives.get(i), next), entry);
+        }
+        yield entry;
+      }
+      case Node.Repeat repeat -> {
+        int entry = next;
+        if (repeat.max() == Node.Repeat.UNBOUNDED) {
+          int loop = add(SPLIT, null, -1, next);
+          // Compiled before the store, since adding its states may replace the out1 array
+          int body = compile(repeat.node(), loop);
+          out1[loop] = body;
+          entry = loop;
+        } else {
+          // Optional copies skip straight to next, so skipping one skips all later ones
+          for (int i = repeat.min(); i < repeat.max(); i++) {
+            entry = add(SPLIT, null, compile(repeat.node(), entry), next);
+          }
+        }
+        for (int i = 0; i < repeat.min(); i++) {
+          entry = compile(repeat.node(), entry);
+        }
+        yield entry;
+      }
+    };
+  }
+
+  private int add(int stateType, int[] stateRanges, int stateOut1, int stateOut2) {
+    if (size == MAX_STATES) {
+      throw new PatternSyntaxException(
+          "Pattern exceeds " + MAX_STATES + " NFA states", pattern, -1);
+    }
+    if (size == type.length) {
+      type = Arrays.copyOf(type, size * 2);
+      out1 = Arrays.copyOf(out1, size * 2);
+      out2 = Arrays.copyOf(out2, size * 2);
+    }
+    type[size] = stateType;
+    out1[size] = stateOut1;
+    out2[size] = stateOut2;
+    ranges.add(stateRanges);
+    return size++;
+  }
+
+  int size() {
+    return size;
+  }
+
+  int start() {
+    return start;
+  }
+
+  int type(int state) {
+    return type[state];
+  }
+
+  int out1(int state) {
+    return out1[state];
+  }
+
+  int out2(int state) {
+    return out2[state];
+  }
+
+  /** Returns the code unit ranges consumed by a CHAR state. */
+  int[] ranges(int state) {
+    return ranges.get(state);
+  }
+}
@@ -0,0 +1,33 @@
+package dev.anchxt.jod.regex;
+
+import java.util.List;
+
+/** Syntax tree of a parsed regular expression. */
+sealed interface Node {
+
+  /** Matches the empty string. */
+  record Empty() implements Node {}
+
+  /**
+   * Matches one UTF-16 code unit contained in the ranges.
+   *
+   * @param ranges Sorted, non-overlapping inclusive {@code [low, high]} pairs, see {@link
+   *     CharRanges}
+   */
+  record CharSet(int[] ranges) implements Node {}
+
+  /** Matches the items one after another. */
+  record Concat(List<Node> items) implements Node {}
+
+  /** Matches any one of the alternatives. */
+  record Alternation(List<Node> alternatives) implements Node {}
+
+  /**
+   * Matches the node between min and max times.
+   *
+   * @param max Maximum repetitions, or {@link #UNBOUNDED}
+   */
+  record Repeat(Node node, int min, int max) implements Node {
+    static final int UNBOUNDED = -1;
+  }
+}
@@ -0,0 +1,309 @@
+package dev.anchxt.jod.regex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Recursive descent parser for the regular subset of java.util.regex syntax supported by {@link
+ * LinearRegex}. Constructs outside the subset are rejected with a {@link PatternSyntaxException}
+ * rather than being approximated.
+ */
+final class Parser {
+
+  static final int MAX_REPETITIONS = 1000;
+
+  private final String pattern;
+  private int pos;
+
+  private Parser(String pattern) {
+    this.pattern = pattern;
+  }
+
+  /** Parses the whole pattern. */
+  static Node parse(String pattern) {
+    var parser = new Parser(pattern);
+    Node root = parser.parseAlternation(true);
+    if (parser.more()) {
+      throw parser.error("Unmatched closing ')'");
+    }
+    return root;
+  }
+
+  /**
+   * Parses alternatives separated by '|'. At the top level every alternative may start with '^' and
+   * end with '$'; since the whole input must match, those anchors are no-ops.
+   */
+  private Node parseAlternation(boolean topLevel) {
+    List<Node> alternatives = new ArrayList<>();
+    alternatives.add(parseConcat(topLevel));
+    while (more() && peek() == '|') {
+      pos++;
+      alternatives.add(parseConcat(topLevel));
+    }
+    return alternatives.size() == 1 ? alternatives.getFirst() : new Node.Alternation(alternatives);
+  }
+
+  private Node parseConcat(boolean topLevel) {
+    if (topLevel && more() && peek() == '^') {
+      pos++;
+    }
+    List<Node> items = new ArrayList<>();
+    while (more() && peek() != '|' && peek() != ')') {
+      if (topLevel && peek() == '$' && (pos + 1 == pattern.length() || at(pos + 1) == '|')) {
+        pos++;
+        break;
+      }
+      items.add(parseRepeat());
+    }
+    return switch (items.size()) {
+      case 0 -> new Node.Empty();
+      case 1 -> items.getFirst();
+      default -> new Node.Concat(items);
+    };
+  }
+
+  private Node parseRepeat() {
+    Node atom = parseAtom();
+    if (!more()) {
+      return atom;
+    }
+    int min;
+    int max;
+    switch (peek()) {
+      case '*' -> {
+        min = 0;
+        max = Node.Repeat.UNBOUNDED;
+        pos++;
+      }
+      case '+' -> {
+        min = 1;
+        max = Node.Repeat.UNBOUNDED;
+        pos++;
+      }
+      case '?' -> {
+        min = 0;
+        max = 1;
+        pos++;
+      }
+      case '{' -> {
+        int start = pos++;
+        min = parseNumber();
+        max = min;
+        if (more() && peek() == ',') {
+          pos++;
+          max = more() && peek() == '}' ? Node.Repeat.UNBOUNDED : parseNumber();
+        }
+        if (!more() || peek() != '}') {
+          throw error("Illegal repetition", start);
+        }
+        pos++;
+        if (max != Node.Repeat.UNBOUNDED && max < min) {
+          throw error("Illegal repetition range", start);
+        }
+      }
+      default -> {
+        return atom;
+      }
+    }
+    if (more() && peek() == '?') {
+      // Reluctant quantifiers change which match is found, not whether the whole input matches
+      pos++;
+    } else if (more() && peek() == '+') {
+      throw error("Possessive quantifiers are not supported");
+    }
+    if (more() && "*+?{".indexOf(peek()) >= 0) {
+      throw error("Stacked quantifiers are not supported");
+    }
+    return new Node.Repeat(atom, min, max);
+  }
+
+  private int parseNumber() {
+    int start = pos;
+    int value = 0;
+    while (more() && peek() >= '0' && peek() <= '9') {
+      value = value * 10 + (pattern.charAt(pos++) - '0');
+      if (value > MAX_REPETITIONS) {
+        throw error("Repetition count exceeds " + MAX_REPETITIONS, start);
+      }
+    }
+    if (pos == start) {
+      throw error("Illegal repetition", start - 1);
+    }
+    return value;
+  }
+
+  private Node parseAtom() {
+    char c = pattern.charAt(pos);
+    switch (c) {
+      case '(' -> {
+        int start = pos++;
+        if (more() && peek() == '?') {
+          if (pos + 1 < pattern.length() && at(pos + 1) == ':') {
+            pos += 2;
+          } else {
+            throw error("Only non-capturing groups (?:...) are supported", start);
+          }
+        }
+        Node group = parseAlternation(false);
+        if (!more() || peek() != ')') {
+          throw error("Unclosed group", start);
+        }
+        pos++;
+        return group;
+      }
+      case '[' -> {
+        return new Node.CharSet(parseClass());
+      }
+      case '.' -> {
+        pos++;
+        return new Node.CharSet(CharRanges.DOT);
+      }
+      case '\\' -> {
+        return new Node.CharSet(parseEscape());
+      }
+      case '^', '$' ->
+          throw error("Anchors are only supported at the start and end of the pattern");
+      case '*', '+', '?' -> throw error("Dangling meta character '" + c + "'");
+      case '{' -> throw error("Illegal repetition");
+      default -> {
+        pos++;
+        return new Node.CharSet(CharRanges.of(c));
+      }
+    }
+  }
+
+  /** Parses a character class starting at '['. */
+  private int[] parseClass() {
+    int start = pos++;
+    boolean negated = more() && peek() == '^';
+    if (negated) {
+      pos++;
+    }
+    int[] ranges = new int[0];
+    boolean first = true;
+    while (true) {
+      if (!more()) {
+        throw error("Unclosed character class", start);
+      }
+      char c = peek();
+      if (c == ']' && !first) {
+        pos++;
+        break;
+      }
+      first = false;
+      if (c == '[') {
+        throw error("Nested character classes are not supported");
+      }
+      if (c == '&' && pos + 1 < pattern.length() && at(pos + 1) == '&') {
+        throw error("Character class intersections are not supported");
+      }
+
+      int low;
+      if (c == '\\') {
+        int[] escaped = parseEscape();
+        if (escaped.length != 2 || escaped[0] != escaped[1]) {
+          // A predefined class such as \d cannot start a range
+          ranges = CharRanges.union(ranges, escaped);
+          continue;
+        }
+        low = escaped[0];
+      } else {
+        low = c;
+        pos++;
+      }
+
+      int high = low;
+      if (more() && peek() == '-' && pos + 1 < pattern.length() && at(pos + 1) != ']') {
+        int rangeStart = pos++;
+        if (peek() == '\\') {
+          int[] escaped = parseEscape();
+          if (escaped.length != 2 || escaped[0] != escaped[1]) {
+            throw error("Illegal character range", rangeStart);
+          }
+          high = escaped[0];
+        } else if (peek() == '[') {
+          throw error("Nested character classes are not supported");
+        } else {
+          high = pattern.charAt(pos++);
+        }
+        if (high < low) {
+          throw error("Illegal character range", rangeStart);
+        }
+      }
+      ranges = CharRanges.union(ranges, new int[] {low, high});
+    }
+    for (int i = 0; i < ranges.length; i++) {
+      if (Character.isSurrogate((char) ranges[i])) {
+        throw error("Surrogate characters in character classes are not supported", start);
+      }
+    }
+    return negated ? CharRanges.negate(ranges) : ranges;
+  }
+
+  /** Parses an escape sequence starting at '\'. */
+  private int[] parseEscape() {
+    int start = pos++;
+    if (!more()) {
+      throw error("Unexpected internal error", start);
+    }
+    char c = pattern.charAt(pos++);
+    return switch (c) {
+      case 'd' -> CharRanges.DIGIT;
+      case 'D' -> CharRanges.negate(CharRanges.DIGIT);
+      case 'w' -> CharRanges.WORD;
+      case 'W' -> CharRanges.negate(CharRanges.WORD);
+      case 's' -> CharRanges.SPACE;
+      case 'S' -> CharRanges.negate(CharRanges.SPACE);
+      case 't' -> CharRanges.of('\t');
+      case 'n' -> CharRanges.of('\n');
+      case 'r' -> CharRanges.of('\r');
+      case 'f' -> CharRanges.of('\f');
+      case 'a' -> CharRanges.of('\u0007');
+      case 'e' -> CharRanges.of('\u001B');
+      case 'x' -> CharRanges.of(parseHex(2, start));
+      case 'u' -> CharRanges.of(parseHex(4, start));
+      default -> {
+        if (Character.isLetterOrDigit(c)) {
+          throw error("Unsupported escape sequence \\" + c, start);
+        }
+        yield CharRanges.of(c);
+      }
+    };
+  }
+
+  private int parseHex(int digits, int start) {
+    if (pos + digits > pattern.length()) {
+      throw error("Illegal hexadecimal escape sequence", start);
+    }
+    int value = 0;
+    for (int i = 0; i < digits; i++) {
+      int digit = Character.digit(pattern.charAt(pos++), 16);
+      if (digit < 0) {
+        throw error("Illegal hexadecimal escape sequence", start);
+      }
+      value = value * 16 + digit;
+    }
+    return value;
+  }
+
+  private boolean more() {
+    return pos < pattern.length();
+  }
+
+  private char peek() {
+    return pattern.charAt(pos);
+  }
+
+  private char at(int index) {
+    return pattern.charAt(index);
+  }
+
+  private PatternSyntaxException error(String description) {
+    return error(description, pos);
+  }
+
+  private PatternSyntaxException error(String description, int index) {
+    return new PatternSyntaxException(description, pattern, index);
+  }
+}
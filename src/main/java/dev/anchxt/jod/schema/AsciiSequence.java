@@ -0,0 +1,82 @@
+package dev.anchxt.jod.schema;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Read-only {@link CharSequence} view over ASCII bytes in a {@link ByteBuffer}. ASCII is the common
+ * subset of UTF-8 and UTF-16, so every check written against a CharSequence runs on the bytes
+ * directly, without decoding them or allocating a String. The view reads the buffer with absolute
+ * gets and never moves its position; the bytes must not change while the view is in use.
+ */
+final class AsciiSequence implements CharSequence {
+
+  // High bit of every byte in a long; set in any byte that is not ASCII
+  private static final long NON_ASCII = 0x8080808080808080L;
+
+  private final ByteBuffer buffer;
+  // Backing array of a heap buffer, read directly as it is faster than ByteBuffer.get; else null
+  private final byte[] array;
+  // Index of the first character in the array, or in the buffer when there is no array
+  private final int offset;
+  private final int length;
+
+  private AsciiSequence(ByteBuffer buffer, byte[] array, int offset, int length) {
+    this.buffer = buffer;
+    this.array = array;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  /**
+   * Returns a view of the bytes between the position and the limit of {@code buffer}, or null if
+   * any of them is not ASCII. Scans eight bytes at a time.
+   */
+  static AsciiSequence of(ByteBuffer buffer) {
+    int start = buffer.position();
+    int end = buffer.limit();
+    int i = start;
+    for (; i <= end - Long.BYTES; i += Long.BYTES) {
+      if ((buffer.getLong(i) & NON_ASCII) != 0) {
+        return null;
+      }
+    }
+    for (; i < end; i++) {
+      if (buffer.get(i) < 0) {
+        return null;
+      }
+    }
+    if (buffer.hasArray()) {
+      return new AsciiSequence(buffer, buffer.array(), buffer.arrayOffset() + start, end - start);
+    }
+    return new AsciiSequence(buffer, null, start, end - start);
+  }
+
+  @Override
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public char charAt(int index) {
+    Objects.checkIndex(index, length);
+    return (char) (array != null ? array[offset + index] : buffer.get(offset + index));
+  }
+
+  @Override
+  public AsciiSequence subSequence(int start, int end) {
+    Objects.checkFromToIndex(start, end, length);
+    return new AsciiSequence(buffer, array, offset + start, end - start);
+  }
+
+  @Override
+  public String toString() {
+    if (array != null) {
+      return new String(array, offset, length, StandardCharsets.US_ASCII);
+    }
+    byte[] bytes = new byte[length];
+    buffer.get(offset, bytes);
+    return new String(bytes, StandardCharsets.US_ASCII);
+  }
+}
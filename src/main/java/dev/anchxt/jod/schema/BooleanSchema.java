@@ -1,7 +1,7 @@
 package dev.anchxt.jod.schema;
 
+import dev.anchxt.jod.core.ErrorCodeSet;
 import dev.anchxt.jod.core.Schema;
-import dev.anchxt.jod.core.ValidationError;
 import dev.anchxt.jod.core.ValidationResult;
 import java.util.ArrayList;
 import java.util.List;
@@ -9,44 +9,61 @@ import java.util.List;
 /** Schema for validating Boolean values. Supports isTrue() and isFalse() constraints. */
 public class BooleanSchema implements Schema<Boolean> {
 
-  private final List<Constraint> constraints = new ArrayList<>();
+  private final List<Constraint<Boolean>> constraints = new ArrayList<>();
 
   /** Requires the value to be true. */
   public BooleanSchema isTrue() {
-    constraints.add(new Constraint(value -> value, "Value must be true", "NOT_TRUE"));
+    constraints.add(new Constraint<>(value -> value, "Value must be true", "NOT_TRUE"));
     return this;
   }
 
   /** Requires the value to be false. */
   public BooleanSchema isFalse() {
-    constraints.add(new Constraint(value -> !value, "Value must be false", "NOT_FALSE"));
+    constraints.add(new Constraint<>(value -> !value, "Value must be false", "NOT_FALSE"));
     return this;
   }
 
   @Override
   public ValidationResult<Boolean> validate(Boolean value) {
     if (value == null) {
-      return ValidationResult.failure("Value cannot be null", "NULL_VALUE");
+      return Constraint.NOT_NULL.failure();
     }
 
-    List<ValidationError> errors = new ArrayList<>();
-    for (Constraint constraint : constraints) {
-      if (!constraint.test(value)) {
-        errors.add(ValidationError.of(constraint.message(), constraint.code()));
-      }
-    }
+    ValidationResult<Boolean> failure = Constraint.failures(constraints, value);
+    return failure != null ? failure : ValidationResult.success(value);
+  }
 
-    if (errors.isEmpty()) {
+  @Override
+  public ValidationResult<Boolean> validateFast(Boolean value) {
+    if (value == null) {
+      return Constraint.NOT_NULL.failure();
+    }
+    Constraint<Boolean> failed = Constraint.firstFailure(constraints, value);
+    if (failed == null) {
       return ValidationResult.success(value);
     }
-    return ValidationResult.failure(errors);
+    return failed.failure();
+  }
+
+  @Override
+  public boolean isValid(Boolean value) {
+    return value != null && Constraint.firstFailure(constraints, value) == null;
   }
 
-  /** Internal constraint representation. */
-  private record Constraint(
-      java.util.function.Predicate<Boolean> predicate, String message, String code) {
-    boolean test(Boolean value) {
-      return predicate.test(value);
+  @Override
+  public ErrorCodeSet violatedCodes(Boolean value) {
+    if (value == null) {
+      return Constraint.NOT_NULL.codes();
     }
+    return Constraint.violatedCodes(constraints, value);
+  }
+
+  List<Constraint<Boolean>> constraints() {
+    return List.copyOf(constraints);
+  }
+
+  /** Freezes the current constraints into an immutable, thread-safe schema. */
+  public CompiledSchema<Boolean> compile() {
+    return new CompiledSchema<>(Boolean.class, List.of(), constraints);
   }
 }
@@ -0,0 +1,94 @@
+package dev.anchxt.jod.schema;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compact result of validating a whole primitive array at once, as returned by {@code validateAll}
+ * on the numeric schemas. Instead of one {@code ValidationResult} per element it holds a bitmask of
+ * the failing indices and, per constraint, how many elements violated it.
+ *
+ * <pre>{@code
+ * BulkValidationResult result = Jod.intType().min(0).validateAll(readings);
+ * result.failures().stream().forEach(i -> log.warn("Bad reading at {}", i));
+ * }</pre>
+ */
+public final class BulkValidationResult {
+
+  private final int size;
+  private final long[] failed;
+  private final List<ConstraintFailures> constraintFailures = new ArrayList<>();
+
+  BulkValidationResult(int size) {
+    this.size = size;
+    this.failed = new long[words(size)];
+  }
+
+  /** Number of 64-bit words needed for a mask of the given number of elements. */
+  static int words(int size) {
+    return (size + 63) >>> 6;
+  }
+
+  /** Records the failure mask of one constraint, where bit i is set if element i violated it. */
+  void add(String message, String code, long[] constraintFailed) {
+    int count = 0;
+    for (int i = 0; i < failed.length; i++) {
+      failed[i] |= constraintFailed[i];
+      count += Long.bitCount(constraintFailed[i]);
+    }
+    constraintFailures.add(new ConstraintFailures(message, code, count));
+  }
+
+  /** Returns the number of validated elements. */
+  public int size() {
+    return size;
+  }
+
+  /** Returns true if every element passed validation. */
+  public boolean isSuccess() {
+    for (long word : failed) {
+      if (word != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Returns the number of elements that violated at least one constraint. */
+  public int failureCount() {
+    int count = 0;
+    for (long word : failed) {
+      count += Long.bitCount(word);
+    }
+    return count;
+  }
+
+  /** Returns true if the element at the given index passed validation. */
+  public boolean isValid(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+    }
+    return (failed[index >>> 6] & (1L << index)) == 0;
+  }
+
+  /** Returns the indices of the failing elements. The returned set is a copy. */
+  public BitSet failures() {
+    return BitSet.valueOf(failed);
+  }
+
+  /** Returns the failure count of every constraint, in the order the constraints were added. */
+  public List<ConstraintFailures> constraintFailures() {
+    return Collections.unmodifiableList(constraintFailures);
+  }
+
+  /**
+   * Number of elements that violated a single constraint.
+   *
+   * @param message Human-readable error message of the constraint
+   * @param code Machine-readable error code of the constraint
+   * @param count Number of elements that violated the constraint
+   */
+  public record ConstraintFailures(String message, String code, int count) {}
+}
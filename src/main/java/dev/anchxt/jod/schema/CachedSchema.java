@@ -0,0 +1,218 @@
+package dev.anchxt.jod.schema;
+
+import dev.anchxt.jod.core.ErrorCodeSet;
+import dev.anchxt.jod.core.Schema;
+import dev.anchxt.jod.core.ValidationResult;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Schema that memoizes the results of another schema per input value, created by {@link
+ * StringSchema#cached}. Worth it when the same values are validated again and again and the checks
+ * are expensive, such as the format scanners and regexes of a {@link StringSchema}: a repeated
+ * value costs one hash lookup instead of running the constraints.
+ *
+ * <pre>{@code
+ * CachedSchema<String> email = Jod.string().trim().email().cached(10_000);
+ * }</pre>
+ *
+ * <p>At most {@code maxEntries} results are kept, evicted by the CLOCK policy: every entry has a
+ * reference bit that a hit sets, and when the cache is full a hand sweeps the entries, clearing set
+ * bits, until it finds an entry that was not hit since its last sweep. New entries start with the
+ * bit cleared, so values seen only once are evicted before values that are hit again. Hits only
+ * read the map and set the bit; a miss that finds another thread inserting returns its result
+ * without caching it rather than waiting. The clock's slots grow with the cache rather than being
+ * allocated for {@code maxEntries} up front.
+ *
+ * <p>The cache is populated by {@link #validate} and {@link #isValid}, and by {@link #validateFast}
+ * when it succeeds. {@link #violatedCodes} only reads it: a miss returns the codes of the wrapped
+ * schema, which are not a result that could be cached. Every call with a non-null value counts as a
+ * hit or a miss.
+ *
+ * <p>Instances are thread-safe. The cached schema is a compiled snapshot, so later changes to the
+ * builder do not affect it. Null values are never cached.
+ *
+ * @param <T> The type of value this schema validates
+ */
+public final class CachedSchema<T> implements Schema<T> {
+
+  /** A cached result and its CLOCK reference bit. */
+  private static final class Entry<T> {
+    final T key;
+    final ValidationResult<T> result;
+    volatile boolean referenced;
+
+    Entry(T key, ValidationResult<T> result) {
+      this.key = key;
+      this.result = result;
+    }
+  }
+
+  private final Schema<T> schema;
+  private final int maxEntries;
+  private final ConcurrentHashMap<T, Entry<T>> entries;
+
+  // The clock: entries in insertion slots, swept by the hand; guarded by the lock
+  private final ReentrantLock lock = new ReentrantLock();
+  private Entry<T>[] slots;
+  private int size;
+  private int hand;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  CachedSchema(Schema<T> schema, int maxEntries) {
+    if (maxEntries < 1) {
+      throw new IllegalArgumentException("Max entries must be positive");
+    }
+    this.schema = schema;
+    this.maxEntries = maxEntries;
+    this.entries = new ConcurrentHashMap<>(Math.min(maxEntries, 1 << 16));
+    this.slots = newSlots(Math.min(maxEntries, 16));
+  }
+
+  // ==================== Validation ====================
+
+  @Override
+  public ValidationResult<T> validate(T value) {
+    if (value == null) {
+      return schema.validate(null);
+    }
+    Entry<T> entry = entries.get(value);
+    if (entry != null) {
+      hit(entry);
+      return entry.result;
+    }
+    misses.increment();
+    ValidationResult<T> result = schema.validate(value);
+    admit(value, result);
+    return result;
+  }
+
+  /**
+   * Returns a cached result if it is a success, since it is also the fail-fast result; failures are
+   * validated again and count as misses, because a cached failure may carry more than the single
+   * error this method reports. For the same reason only successes of this method are cached.
+   */
+  @Override
+  public ValidationResult<T> validateFast(T value) {
+    if (value == null) {
+      return schema.validateFast(null);
+    }
+    Entry<T> entry = entries.get(value);
+    if (entry != null && entry.result.isSuccess()) {
+      hit(entry);
+      return entry.result;
+    }
+    misses.increment();
+    ValidationResult<T> result = schema.validateFast(value);
+    if (entry == null && result.isSuccess()) {
+      admit(value, result);
+    }
+    return result;
+  }
+
+  @Override
+  public boolean isValid(T value) {
+    return value != null && validate(value).isSuccess();
+  }
+
+  /** Returns the codes of a cached result; misses ask the wrapped schema and cache nothing. */
+  @Override
+  public ErrorCodeSet violatedCodes(T value) {
+    if (value == null) {
+      return schema.violatedCodes(null);
+    }
+    Entry<T> entry = entries.get(value);
+    if (entry != null) {
+      hit(entry);
+      return entry.result.isSuccess()
+          ? ErrorCodeSet.EMPTY
+          : ErrorCodeSet.of(entry.result.getErrors());
+    }
+    misses.increment();
+    return schema.violatedCodes(value);
+  }
+
+  // ==================== Statistics ====================
+
+  /** Number of validations answered from the cache. */
+  public long hits() {
+    return hits.sum();
+  }
+
+  /** Number of validations that ran the schema because their result was not cached. */
+  public long misses() {
+    return misses.sum();
+  }
+
+  /** Number of entries evicted to make room for new ones. */
+  public long evictions() {
+    return evictions.sum();
+  }
+
+  /** Number of results currently cached. */
+  public int size() {
+    return entries.size();
+  }
+
+  /** Maximum number of results cached. */
+  public int maxEntries() {
+    return maxEntries;
+  }
+
+  Schema<T> schema() {
+    return schema;
+  }
+
+  // ==================== Clock ====================
+
+  private void hit(Entry<T> entry) {
+    // Only write when the bit changes, so hot entries stay read-shared between cores
+    if (!entry.referenced) {
+      entry.referenced = true;
+    }
+    hits.increment();
+  }
+
+  private void admit(T value, ValidationResult<T> result) {
+    if (!lock.tryLock()) {
+      return;
+    }
+    try {
+      if (entries.containsKey(value)) {
+        return;
+      }
+      int slot;
+      if (size < maxEntries) {
+        if (size == slots.length) {
+          slots = Arrays.copyOf(slots, (int) Math.min(maxEntries, 2L * size));
+        }
+        slot = size++;
+      } else {
+        // Terminates within two sweeps: the first clears every bit it passes
+        while (slots[hand].referenced) {
+          slots[hand].referenced = false;
+          hand = (hand + 1) % maxEntries;
+        }
+        entries.remove(slots[hand].key);
+        evictions.increment();
+        slot = hand;
+        hand = (hand + 1) % maxEntries;
+      }
+      Entry<T> entry = new Entry<>(value, result);
+      slots[slot] = entry;
+      entries.put(value, entry);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> Entry<T>[] newSlots(int length) {
+    return (Entry<T>[]) new Entry<?>[length];
+  }
+}
@@ -0,0 +1,193 @@
+package dev.anchxt.jod.schema;
+
+import dev.anchxt.jod.core.ErrorCode;
+import dev.anchxt.jod.core.ErrorCodeSet;
+import dev.anchxt.jod.core.ValidationError;
+import dev.anchxt.jod.core.ValidationResult;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * A single check of a schema: the predicate a value must satisfy and the error reported when it
+ * does not.
+ *
+ * <p>The error is created once with the constraint, together with a failed result holding only that
+ * error. Both are immutable and shared by every validation the constraint fails, so a value
+ * rejected by a single constraint costs no allocation. The same holds for the set holding only the
+ * constraint's code, returned by {@link dev.anchxt.jod.core.Schema#violatedCodes}.
+ *
+ * @param <T> The type of value checked
+ */
+public final class Constraint<T> {
+
+  /** The check every schema applies before its own constraints: values cannot be null. */
+  static final Constraint<Object> NOT_NULL =
+      new Constraint<>(Objects::nonNull, "Value cannot be null", "NULL_VALUE");
+
+  // Cost.values() clones its array on every call
+  private static final Cost[] COSTS = Cost.values();
+
+  private final Predicate<T> predicate;
+  private final String message;
+  private final String code;
+  private final Cost cost;
+  private final ValidationError error;
+  private final ValidationResult<?> failure;
+  private final ErrorCodeSet codes;
+
+  /** Relative evaluation cost of a constraint. Cheaper constraints run first when failing fast. */
+  public enum Cost {
+    /** Constant-time checks such as length, range and sign. */
+    CHEAP,
+    /** Checks that scan the value, such as regex, email and UUID matching. */
+    EXPENSIVE
+  }
+
+  /**
+   * Creates a constraint.
+   *
+   * @param predicate Returns true if the value is valid
+   * @param message Human-readable error message
+   * @param code Machine-readable error code
+   * @param cost Relative cost of the check, used to order constraints in fail-fast validation
+   */
+  public Constraint(Predicate<T> predicate, String message, String code, Cost cost) {
+    this.predicate = predicate;
+    this.message = message;
+    this.code = code;
+    this.cost = cost;
+    this.error = ValidationError.of(message, code);
+    this.failure = ValidationResult.failure(error);
+    // A constraint declares its code, so it is registered with the schema rather than on failure
+    this.codes = ErrorCodeSet.of(ErrorCode.of(code));
+  }
+
+  /** Creates a constraint with a typed code. */
+  public Constraint(Predicate<T> predicate, String message, ErrorCode code, Cost cost) {
+    this(predicate, message, code.name(), cost);
+  }
+
+  /** Creates a cheap constraint with a typed code. */
+  public Constraint(Predicate<T> predicate, String message, ErrorCode code) {
+    this(predicate, message, code.name(), Cost.CHEAP);
+  }
+
+  /** Creates a cheap constraint. */
+  public Constraint(Predicate<T> predicate, String message, String code) {
+    this(predicate, message, code, Cost.CHEAP);
+  }
+
+  /** Returns true if the value is valid. */
+  public Predicate<T> predicate() {
+    return predicate;
+  }
+
+  /** Human-readable error message. */
+  public String message() {
+    return message;
+  }
+
+  /** Machine-readable error code. */
+  public String code() {
+    return code;
+  }
+
+  /** Relative cost of the check, used to order constraints in fail-fast validation. */
+  public Cost cost() {
+    return cost;
+  }
+
+  /** The root-level error reported when a value violates this constraint; shared, not copied. */
+  public ValidationError error() {
+    return error;
+  }
+
+  /** Machine-readable error code as an interned {@link ErrorCode}. */
+  public ErrorCode errorCode() {
+    return error.errorCode();
+  }
+
+  /** Returns true if the value satisfies this constraint. */
+  public boolean test(T value) {
+    return predicate.test(value);
+  }
+
+  /** Returns the shared failed result holding only {@link #error()}. */
+  @SuppressWarnings("unchecked")
+  <R> ValidationResult<R> failure() {
+    // A Failure holds no value, so one instance serves every result type
+    return (ValidationResult<R>) failure;
+  }
+
+  /** Returns the shared set holding only {@link #errorCode()}. */
+  ErrorCodeSet codes() {
+    return codes;
+  }
+
+  /**
+   * Returns the first constraint the value violates, evaluating cheap constraints before expensive
+   * ones, or null if all constraints hold.
+   */
+  static <T> Constraint<T> firstFailure(List<Constraint<T>> constraints, T value) {
+    for (Cost cost : COSTS) {
+      for (Constraint<T> constraint : constraints) {
+        if (constraint.cost() == cost && !constraint.test(value)) {
+          return constraint;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns a failure listing the errors of all constraints the value violates, in order, or null
+   * if all constraints hold. A single violation returns that constraint's shared failure.
+   */
+  static <T, R> ValidationResult<R> failures(List<Constraint<T>> constraints, T value) {
+    Constraint<T> first = null;
+    List<ValidationError> errors = null;
+    for (Constraint<T> constraint : constraints) {
+      if (!constraint.test(value)) {
+        if (first == null) {
+          first = constraint;
+        } else {
+          if (errors == null) {
+            errors = new ArrayList<>();
+            errors.add(first.error());
+          }
+          errors.add(constraint.error());
+        }
+      }
+    }
+    if (first == null) {
+      return null;
+    }
+    return errors == null ? first.failure() : ValidationResult.failure(errors);
+  }
+
+  /** Returns the codes of all constraints the value violates; without allocating if at most one. */
+  static <T> ErrorCodeSet violatedCodes(List<Constraint<T>> constraints, T value) {
+    ErrorCodeSet codes = ErrorCodeSet.EMPTY;
+    for (Constraint<T> constraint : constraints) {
+      if (!constraint.test(value)) {
+        codes = codes.union(constraint.codes());
+      }
+    }
+    return codes;
+  }
+
+  @Override
+  public String toString() {
+    return "Constraint[predicate="
+        + predicate
+        + ", message="
+        + message
+        + ", code="
+        + code
+        + ", cost="
+        + cost
+        + "]";
+  }
+}
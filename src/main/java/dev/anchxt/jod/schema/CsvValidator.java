@@ -0,0 +1,242 @@
+package dev.anchxt.jod.schema;
+
+import dev.anchxt.jod.core.Schema;
+import dev.anchxt.jod.core.StandardErrorCode;
+import dev.anchxt.jod.core.ValidationError;
+import dev.anchxt.jod.core.ValidationResult;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validates CSV records (RFC 4180, one record per line) against a schema. Cells are matched to the
+ * fields of an {@link ObjectSchema} by the column names in the header line; columns without a field
+ * are ignored and fields without a column are validated as null. Each cell is converted to the type
+ * its field schema validates: text for {@link StringSchema}, a number for the numeric schemas and
+ * {@code true} or {@code false} for {@link BooleanSchema}, or for compiled and cached schemas of
+ * these. An empty cell is validated as null, and a field schema for another known type fails the
+ * cell with INVALID_TYPE. Custom field schemas receive the text and must check its type themselves.
+ *
+ * <p>Any other schema receives the record as a {@code Map<String, String>} from column name to
+ * cell, in column order, unless it is known to validate another type.
+ *
+ * <p>A record with an unterminated quoted cell, text after the closing quote of a cell or another
+ * number of cells than the header fails with INVALID_CSV; a cell that does not convert to its
+ * field's type fails with INVALID_TYPE. Instances are thread-safe as long as the schema is not
+ * changed.
+ *
+ * @param <T> The type of value the schema validates
+ */
+public final class CsvValidator<T> {
+
+  private static final ValidationResult<Void> SUCCESS = ValidationResult.success(null);
+
+  private static final ValidationError EXPECTED_NUMBER = typeError("Expected a number");
+  private static final ValidationError EXPECTED_INT = typeError("Expected an int");
+  private static final ValidationError EXPECTED_LONG = typeError("Expected a long");
+  private static final ValidationError EXPECTED_BOOLEAN = typeError("Expected true or false");
+  private static final ValidationError UNEXPECTED_TYPE = typeError("Unexpected type");
+  private static final ValidationError UNTERMINATED_QUOTE =
+      ValidationError.of("Unterminated quoted cell", StandardErrorCode.INVALID_CSV);
+  private static final ValidationError TEXT_AFTER_QUOTE =
+      ValidationError.of("Text after the closing quote of a cell", StandardErrorCode.INVALID_CSV);
+
+  private final Schema<T> schema;
+  private final List<String> columns;
+  // Fields of an ObjectSchema, and the field index of every column or -1; both null otherwise
+  private final List<? extends ObjectSchema.Field<?, ?>> fields;
+  private final int[] fieldOfColumn;
+  private final ValidationError wrongCellCount;
+
+  /**
+   * Creates a validator for records with the columns named in {@code header}.
+   *
+   * @throws IllegalArgumentException If the header is not a valid CSV record
+   */
+  public CsvValidator(Schema<T> schema, String header) {
+    if (schema == null || header == null) {
+      throw new IllegalArgumentException("Schema and header cannot be null");
+    }
+    List<String> columns = new ArrayList<>();
+    ValidationError malformed = cells(header, columns);
+    if (malformed != null) {
+      throw new IllegalArgumentException("Invalid header: " + malformed.message());
+    }
+    this.schema = schema;
+    this.columns = List.copyOf(columns);
+    this.wrongCellCount =
+        ValidationError.of(
+            "Expected " + columns.size() + " cells like the header", StandardErrorCode.INVALID_CSV);
+
+    Schema<?> target =
+        schema instanceof GeneratedObjectSchema<?> generated ? generated.interpreter() : schema;
+    if (target instanceof ObjectSchema<?> object) {
+      this.fields = object.fields();
+      this.fieldOfColumn = new int[columns.size()];
+      for (int c = 0; c < columns.size(); c++) {
+        fieldOfColumn[c] = -1;
+        for (int f = 0; f < fields.size(); f++) {
+          if (fields.get(f).name().equals(columns.get(c))) {
+            fieldOfColumn[c] = f;
+          }
+        }
+      }
+    } else {
+      this.fields = null;
+      this.fieldOfColumn = null;
+    }
+  }
+
+  /** The column names read from the header. */
+  public List<String> columns() {
+    return columns;
+  }
+
+  // ==================== Validation ====================
+
+  /** Validates one record, given without its line terminator. */
+  @SuppressWarnings("unchecked")
+  public ValidationResult<Void> validate(CharSequence record) {
+    List<String> cells = new ArrayList<>(columns.size());
+    ValidationError malformed = cells(record, cells);
+    if (malformed != null) {
+      return ValidationResult.failure(malformed);
+    }
+    if (cells.size() != columns.size()) {
+      return ValidationResult.failure(wrongCellCount);
+    }
+
+    if (fields == null) {
+      Map<String, String> row = new LinkedHashMap<>();
+      for (int c = 0; c < cells.size(); c++) {
+        row.put(columns.get(c), cells.get(c));
+      }
+      Class<?> type = ValueTypes.of(schema);
+      if (type != null && !type.isInstance(row)) {
+        return ValidationResult.failure(UNEXPECTED_TYPE);
+      }
+      ValidationResult<?> result = ((Schema<Object>) schema).validate(row);
+      return result.isSuccess() ? SUCCESS : ValidationResult.failure(result.getErrors());
+    }
+
+    List<ValidationError> errors = null;
+    boolean[] present = new boolean[fields.size()];
+    for (int c = 0; c < cells.size(); c++) {
+      int f = fieldOfColumn[c];
+      if (f >= 0) {
+        present[f] = true;
+        errors = addErrors(errors, cell(fields.get(f).schema(), cells.get(c)), fields.get(f));
+      }
+    }
+    for (int f = 0; f < present.length; f++) {
+      if (!present[f]) {
+        errors = addErrors(errors, cell(fields.get(f).schema(), ""), fields.get(f));
+      }
+    }
+    return errors == null ? SUCCESS : ValidationResult.failure(errors);
+  }
+
+  // ==================== Helpers ====================
+
+  @SuppressWarnings("unchecked")
+  private static ValidationResult<?> cell(Schema<?> schema, String text) {
+    Schema<Object> target = (Schema<Object>) schema;
+    if (text.isEmpty()) {
+      return target.validate(null);
+    }
+    Class<?> type = ValueTypes.of(schema);
+    try {
+      if (type == Integer.class) {
+        int value = Integer.parseInt(text);
+        return schema instanceof IntSchema ints ? ints.validateInt(value) : target.validate(value);
+      } else if (type == Long.class) {
+        long value = Long.parseLong(text);
+        return schema instanceof LongSchema longs
+            ? longs.validateLong(value)
+            : target.validate(value);
+      } else if (type == Double.class) {
+        double value = Double.parseDouble(text);
+        return schema instanceof DoubleSchema doubles
+            ? doubles.validateDouble(value)
+            : target.validate(value);
+      }
+    } catch (NumberFormatException e) {
+      return ValidationResult.failure(
+          type == Integer.class
+              ? EXPECTED_INT
+              : type == Long.class ? EXPECTED_LONG : EXPECTED_NUMBER);
+    }
+    if (type == Boolean.class) {
+      if (!text.equals("true") && !text.equals("false")) {
+        return ValidationResult.failure(EXPECTED_BOOLEAN);
+      }
+      return target.validate(Boolean.valueOf(text));
+    }
+    if (type != null && type != String.class) {
+      return ValidationResult.failure(UNEXPECTED_TYPE);
+    }
+    return target.validate(text);
+  }
+
+  /**
+   * Splits a record into {@code cells}, unquoting quoted ones. Returns null, or the error if a
+   * quote is unterminated or followed by text before the next comma.
+   */
+  static ValidationError cells(CharSequence record, List<String> cells) {
+    StringBuilder cell = new StringBuilder();
+    int i = 0;
+    int length = record.length();
+    while (true) {
+      cell.setLength(0);
+      if (i < length && record.charAt(i) == '"') {
+        i++;
+        while (true) {
+          if (i >= length) {
+            return UNTERMINATED_QUOTE;
+          }
+          char c = record.charAt(i++);
+          if (c != '"') {
+            cell.append(c);
+          } else if (i < length && record.charAt(i) == '"') {
+            // A doubled quote stands for one quote
+            cell.append('"');
+            i++;
+          } else {
+            break;
+          }
+        }
+        if (i < length && record.charAt(i) != ',') {
+          return TEXT_AFTER_QUOTE;
+        }
+      } else {
+        while (i < length && record.charAt(i) != ',') {
+          cell.append(record.charAt(i++));
+        }
+      }
+      cells.add(cell.toString());
+      if (i >= length) {
+        return null;
+      }
+      i++;
+    }
+  }
+
+  private static List<ValidationError> addErrors(
+      List<ValidationError> errors, ValidationResult<?> result, ObjectSchema.Field<?, ?> field) {
+    if (result.isSuccess()) {
+      return errors;
+    }
+    if (errors == null) {
+      errors = new ArrayList<>();
+    }
+    for (ValidationError error : result.getErrors()) {
+      errors.add(error.withPathPrefix(field.name()));
+    }
+    return errors;
+  }
+
+  private static ValidationError typeError(String message) {
+    return ValidationError.of(message, StandardErrorCode.INVALID_TYPE);
+  }
+}
@@ -1,10 +1,27 @@
 package dev.anchxt.jod.schema;
 
-/** Schema for validating Double values. */
+import dev.anchxt.jod.core.ValidationResult;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.DoublePredicate;
+
+/**
+ * Schema for validating Double values. {@link #validateDouble(double)} and {@link
+ * #isValidDouble(double)} check primitive values without boxing: min/max are folded into
+ * precomputed bounds and the remaining constraints are {@link DoublePredicate}s.
+ */
 public class DoubleSchema extends NumberSchema<Double, DoubleSchema> {
 
   private static final double EPSILON = 1e-10;
 
+  private final List<DoubleConstraint> doubleConstraints = new ArrayList<>();
+  // Constraints other than min/max, which are covered by the bounds below
+  private final List<DoublePredicate> doubleChecks = new ArrayList<>();
+  private double lowerBound = Double.NEGATIVE_INFINITY;
+  // Bounds are compared with Double.compare, which orders NaN above every other value
+  private double upperBound = Double.NaN;
+
   @Override
   protected boolean isPositive(Double value) {
     return value > 0.0;
@@ -17,6 +34,15 @@ public class DoubleSchema extends NumberSchema<Double, DoubleSchema> {
 
   @Override
   protected boolean isMultipleOf(Double value, Double divisor) {
+    return isMultipleOf(value.doubleValue(), divisor.doubleValue());
+  }
+
+  @Override
+  protected Class<Double> valueType() {
+    return Double.class;
+  }
+
+  private static boolean isMultipleOf(double value, double divisor) {
     if (divisor == 0.0) {
       return false;
     }
@@ -24,4 +50,118 @@ public class DoubleSchema extends NumberSchema<Double, DoubleSchema> {
     // Handle floating point precision issues
     return Math.abs(remainder) < EPSILON || Math.abs(remainder - divisor) < EPSILON;
   }
+
+  @Override
+  protected void onConstraint(Kind kind, Double operand, Constraint<Double> constraint) {
+    DoublePredicate predicate =
+        switch (kind) {
+          case MIN -> {
+            double min = operand;
+            if (Double.compare(min, lowerBound) > 0) {
+              lowerBound = min;
+            }
+            yield value -> Double.compare(value, min) >= 0;
+          }
+          case MAX -> {
+            double max = operand;
+            if (Double.compare(max, upperBound) < 0) {
+              upperBound = max;
+            }
+            yield value -> Double.compare(value, max) <= 0;
+          }
+          case POSITIVE -> value -> value > 0.0;
+          case NEGATIVE -> value -> value < 0.0;
+          case MULTIPLE_OF -> {
+            double divisor = operand;
+            yield value -> isMultipleOf(value, divisor);
+          }
+        };
+    if (kind != Kind.MIN && kind != Kind.MAX) {
+      doubleChecks.add(predicate);
+    }
+    double value = operand == null ? 0.0 : operand;
+    doubleConstraints.add(new DoubleConstraint(kind, value, predicate, constraint));
+  }
+
+  /**
+   * Validates a primitive double. Produces the same result as {@link #validate}, checking the value
+   * without boxing it; only a failing value is boxed, to collect its errors.
+   */
+  public ValidationResult<Double> validateDouble(double value) {
+    if (isValidDouble(value)) {
+      return ValidationResult.success(value);
+    }
+    // The mirrors accept exactly what the boxed constraints accept
+    return Constraint.failures(constraints, value);
+  }
+
+  /** Returns true if the primitive double satisfies all constraints. Never boxes. */
+  public boolean isValidDouble(double value) {
+    if (Double.compare(value, lowerBound) < 0 || Double.compare(value, upperBound) > 0) {
+      return false;
+    }
+    for (DoublePredicate check : doubleChecks) {
+      if (!check.test(value)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Validates every element of the array. Each constraint runs as one branch-free loop over the
+   * whole array that sets a bit per failing element, which the JIT can unroll and vectorize,
+   * instead of building a {@code ValidationResult} per element. When the Vector API is enabled
+   * ({@code --add-modules jdk.incubator.vector}) the loops run on explicit SIMD kernels instead.
+   */
+  public BulkValidationResult validateAll(double[] values) {
+    var result = new BulkValidationResult(values.length);
+    long[] failed = new long[BulkValidationResult.words(values.length)];
+    for (DoubleConstraint constraint : doubleConstraints) {
+      Arrays.fill(failed, 0L);
+      double operand = constraint.operand();
+      int start =
+          VectorSupport.ENABLED
+              ? VectorKernels.doubleMask(constraint.kind(), operand, values, failed)
+              : 0;
+      switch (constraint.kind()) {
+        case MIN -> {
+          for (int i = start; i < values.length; i++) {
+            failed[i >>> 6] |= (Double.compare(values[i], operand) < 0 ? 1L : 0L) << i;
+          }
+        }
+        case MAX -> {
+          for (int i = start; i < values.length; i++) {
+            failed[i >>> 6] |= (Double.compare(values[i], operand) > 0 ? 1L : 0L) << i;
+          }
+        }
+        case POSITIVE -> {
+          for (int i = start; i < values.length; i++) {
+            failed[i >>> 6] |= (values[i] > 0.0 ? 0L : 1L) << i;
+          }
+        }
+        case NEGATIVE -> {
+          for (int i = start; i < values.length; i++) {
+            failed[i >>> 6] |= (values[i] < 0.0 ? 0L : 1L) << i;
+          }
+        }
+        case MULTIPLE_OF -> {
+          for (int i = start; i < values.length; i++) {
+            failed[i >>> 6] |= (isMultipleOf(values[i], operand) ? 0L : 1L) << i;
+          }
+        }
+      }
+      result.add(constraint.constraint().message(), constraint.constraint().code(), failed);
+    }
+    return result;
+  }
+
+  /** Returns the predicates of all constraints, min/max included, in the order they were added. */
+  List<DoublePredicate> predicates() {
+    return doubleConstraints.stream().map(DoubleConstraint::predicate).toList();
+  }
+
+  /** Primitive mirror of a {@link Constraint}. */
+  private record DoubleConstraint(
+      Kind kind, double operand, DoublePredicate predicate, Constraint<Double> constraint) {}
 }
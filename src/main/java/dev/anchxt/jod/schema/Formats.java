@@ -0,0 +1,158 @@
+package dev.anchxt.jod.schema;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Hand-written, allocation-free scanners for the built-in string formats. Each scanner makes a
+ * single pass over the input using a lookup table of ASCII character classes, and accepts exactly
+ * the same inputs as the regular expression it replaces.
+ */
+final class Formats {
+
+  private static final byte EMAIL_LOCAL = 1;
+  private static final byte EMAIL_DOMAIN = 1 << 1;
+  private static final byte ALPHA = 1 << 2;
+  private static final byte HEX = 1 << 3;
+  private static final byte DASH = 1 << 4;
+
+  private static final byte[] CLASSES = new byte[128];
+  private static final byte[] HEX_VALUES = new byte[128];
+
+  // Expected character class at each position of 8-4-4-4-12 UUID text
+  private static final int UUID_LENGTH = 36;
+  private static final byte[] UUID_LAYOUT = new byte[UUID_LENGTH];
+  // Position of the dash between the most and least significant 64 bits
+  private static final int UUID_HALF = 18;
+
+  static {
+    for (char c = 'a'; c <= 'z'; c++) {
+      CLASSES[c] |= EMAIL_LOCAL | EMAIL_DOMAIN | ALPHA;
+      CLASSES[Character.toUpperCase(c)] |= EMAIL_LOCAL | EMAIL_DOMAIN | ALPHA;
+    }
+    for (char c = '0'; c <= '9'; c++) {
+      CLASSES[c] |= EMAIL_LOCAL | EMAIL_DOMAIN;
+    }
+    for (char c : "._%+-".toCharArray()) {
+      CLASSES[c] |= EMAIL_LOCAL;
+    }
+    for (char c : ".-".toCharArray()) {
+      CLASSES[c] |= EMAIL_DOMAIN;
+    }
+    CLASSES['-'] |= DASH;
+
+    Arrays.fill(HEX_VALUES, (byte) -1);
+    String hexDigits = "0123456789abcdef";
+    for (int i = 0; i < hexDigits.length(); i++) {
+      char c = hexDigits.charAt(i);
+      CLASSES[c] |= HEX;
+      CLASSES[Character.toUpperCase(c)] |= HEX;
+      HEX_VALUES[c] = (byte) i;
+      HEX_VALUES[Character.toUpperCase(c)] = (byte) i;
+    }
+
+    Arrays.fill(UUID_LAYOUT, HEX);
+    UUID_LAYOUT[8] = DASH;
+    UUID_LAYOUT[13] = DASH;
+    UUID_LAYOUT[UUID_HALF] = DASH;
+    UUID_LAYOUT[23] = DASH;
+  }
+
+  private Formats() {
+    // Utility class - prevent instantiation
+  }
+
+  /**
+   * Returns true if the value is an email address, with the same semantics as matching the whole
+   * value against {@code ^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\.[a-zA-Z]{2,}$}.
+   *
+   * <p>Neither character set contains '@', so the first '@' separates the local part from the
+   * domain. The top-level domain is letters only, so it must follow the last '.' of the domain.
+   */
+  static boolean isEmail(CharSequence value) {
+    int length = value.length();
+
+    int at = 0;
+    while (at < length && value.charAt(at) != '@') {
+      if (!is(value.charAt(at), EMAIL_LOCAL)) {
+        return false;
+      }
+      at++;
+    }
+    if (at == 0 || at == length) {
+      return false;
+    }
+
+    int lastDot = -1;
+    for (int i = at + 1; i < length; i++) {
+      char c = value.charAt(i);
+      if (c == '.') {
+        lastDot = i;
+      } else if (!is(c, EMAIL_DOMAIN)) {
+        return false;
+      }
+    }
+    // At least one domain character before the last dot and two TLD letters after it
+    if (lastDot < at + 2 || length - lastDot < 3) {
+      return false;
+    }
+    for (int i = lastDot + 1; i < length; i++) {
+      if (!is(value.charAt(i), ALPHA)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns true if the value is a UUID in 8-4-4-4-12 hex form, with the same semantics as matching
+   * the whole value against {@code
+   * ^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$}.
+   */
+  static boolean isUuid(CharSequence value) {
+    if (value.length() != UUID_LENGTH) {
+      return false;
+    }
+    for (int i = 0; i < UUID_LENGTH; i++) {
+      if (!is(value.charAt(i), UUID_LAYOUT[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Parses a UUID accepted by {@link #isUuid} in the same pass that validates it. Returns null if
+   * the value is not a UUID.
+   */
+  static UUID parseUuid(CharSequence value) {
+    if (value.length() != UUID_LENGTH) {
+      return null;
+    }
+    long mostSigBits = 0;
+    long leastSigBits = 0;
+    for (int i = 0; i < UUID_LENGTH; i++) {
+      char c = value.charAt(i);
+      if (UUID_LAYOUT[i] == DASH) {
+        if (c != '-') {
+          return null;
+        }
+        continue;
+      }
+      int digit = c < 128 ? HEX_VALUES[c] : -1;
+      if (digit < 0) {
+        return null;
+      }
+      if (i < UUID_HALF) {
+        mostSigBits = (mostSigBits << 4) | digit;
+      } else {
+        leastSigBits = (leastSigBits << 4) | digit;
+      }
+    }
+    return new UUID(mostSigBits, leastSigBits);
+  }
+
+  private static boolean is(char c, byte characterClass) {
+    return c < 128 && (CLASSES[c] & characterClass) != 0;
+  }
+}
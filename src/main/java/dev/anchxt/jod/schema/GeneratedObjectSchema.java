@@ -0,0 +1,57 @@
+package dev.anchxt.jod.schema;
+
+import dev.anchxt.jod.core.ErrorCodeSet;
+import dev.anchxt.jod.core.Schema;
+import dev.anchxt.jod.core.ValidationResult;
+
+/**
+ * An {@link ObjectSchema} backed by a generated validator. Valid, unchanged objects are decided by
+ * the generated code alone; invalid objects and records that need rebuilding are handed to the
+ * interpreting schema, which produces the errors or the new record.
+ *
+ * @param <T> The type of the validated object
+ */
+final class GeneratedObjectSchema<T> implements Schema<T> {
+
+  private final ObjectSchema<T> interpreter;
+  private final GeneratedValidator validator;
+
+  GeneratedObjectSchema(ObjectSchema<T> interpreter, GeneratedValidator validator) {
+    this.interpreter = interpreter;
+    this.validator = validator;
+  }
+
+  /** The interpreting schema, which holds the fields. */
+  ObjectSchema<T> interpreter() {
+    return interpreter;
+  }
+
+  @Override
+  public ValidationResult<T> validate(T value) {
+    if (value != null && validator.check(value) == GeneratedValidator.VALID) {
+      return ValidationResult.success(value);
+    }
+    return interpreter.validate(value);
+  }
+
+  @Override
+  public ValidationResult<T> validateFast(T value) {
+    if (value != null && validator.check(value) == GeneratedValidator.VALID) {
+      return ValidationResult.success(value);
+    }
+    return interpreter.validateFast(value);
+  }
+
+  @Override
+  public boolean isValid(T value) {
+    return value != null && validator.check(value) != GeneratedValidator.INVALID;
+  }
+
+  @Override
+  public ErrorCodeSet violatedCodes(T value) {
+    if (value != null && validator.check(value) != GeneratedValidator.INVALID) {
+      return ErrorCodeSet.EMPTY;
+    }
+    return interpreter.violatedCodes(value);
+  }
+}
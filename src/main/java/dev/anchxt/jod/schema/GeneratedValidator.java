@@ -0,0 +1,21 @@
+package dev.anchxt.jod.schema;
+
+/**
+ * Straight-line validator for the fields of an {@link ObjectSchema}, implemented by classes that
+ * {@link ValidatorGenerator} generates at runtime. It only decides whether a value is valid; errors
+ * and rebuilt records still come from the interpreting {@link ObjectSchema}.
+ */
+interface GeneratedValidator {
+
+  /** All fields are valid and unchanged by their schemas. */
+  int VALID = 0;
+
+  /** All fields are valid, but a schema transformed a record component. */
+  int CHANGED = 1;
+
+  /** At least one field is invalid. */
+  int INVALID = 2;
+
+  /** Checks a non-null object, returning {@link #VALID}, {@link #CHANGED} or {@link #INVALID}. */
+  int check(Object value);
+}
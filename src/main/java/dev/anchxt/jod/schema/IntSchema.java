@@ -1,8 +1,24 @@
 package dev.anchxt.jod.schema;
 
-/** Schema for validating Integer values. */
+import dev.anchxt.jod.core.ValidationResult;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * Schema for validating Integer values. {@link #validateInt(int)} and {@link #isValidInt(int)}
+ * check primitive values without boxing: min/max are folded into precomputed bounds and the
+ * remaining constraints are {@link IntPredicate}s.
+ */
 public class IntSchema extends NumberSchema<Integer, IntSchema> {
 
+  private final List<IntConstraint> intConstraints = new ArrayList<>();
+  // Constraints other than min/max, which are covered by the bounds below
+  private final List<IntPredicate> intChecks = new ArrayList<>();
+  private int lowerBound = Integer.MIN_VALUE;
+  private int upperBound = Integer.MAX_VALUE;
+
   @Override
   protected boolean isPositive(Integer value) {
     return value > 0;
@@ -17,4 +33,119 @@ public class IntSchema extends NumberSchema<Integer, IntSchema> {
   protected boolean isMultipleOf(Integer value, Integer divisor) {
     return divisor != 0 && value % divisor == 0;
   }
+
+  @Override
+  protected Class<Integer> valueType() {
+    return Integer.class;
+  }
+
+  @Override
+  protected void onConstraint(Kind kind, Integer operand, Constraint<Integer> constraint) {
+    IntPredicate predicate =
+        switch (kind) {
+          case MIN -> {
+            int min = operand;
+            lowerBound = Math.max(lowerBound, min);
+            yield value -> value >= min;
+          }
+          case MAX -> {
+            int max = operand;
+            upperBound = Math.min(upperBound, max);
+            yield value -> value <= max;
+          }
+          case POSITIVE -> value -> value > 0;
+          case NEGATIVE -> value -> value < 0;
+          case MULTIPLE_OF -> {
+            int divisor = operand;
+            yield value -> divisor != 0 && value % divisor == 0;
+          }
+        };
+    if (kind != Kind.MIN && kind != Kind.MAX) {
+      intChecks.add(predicate);
+    }
+    int value = operand == null ? 0 : operand;
+    intConstraints.add(new IntConstraint(kind, value, predicate, constraint));
+  }
+
+  /**
+   * Validates a primitive int. Produces the same result as {@link #validate}, checking the value
+   * without boxing it; only a failing value is boxed, to collect its errors.
+   */
+  public ValidationResult<Integer> validateInt(int value) {
+    if (isValidInt(value)) {
+      return ValidationResult.success(value);
+    }
+    // The mirrors accept exactly what the boxed constraints accept
+    return Constraint.failures(constraints, value);
+  }
+
+  /** Returns true if the primitive int satisfies all constraints. Never boxes. */
+  public boolean isValidInt(int value) {
+    if (value < lowerBound || value > upperBound) {
+      return false;
+    }
+    for (IntPredicate check : intChecks) {
+      if (!check.test(value)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Validates every element of the array. Each constraint runs as one branch-free loop over the
+   * whole array that sets a bit per failing element, which the JIT can unroll and vectorize,
+   * instead of building a {@code ValidationResult} per element. When the Vector API is enabled
+   * ({@code --add-modules jdk.incubator.vector}) the loops run on explicit SIMD kernels instead.
+   */
+  public BulkValidationResult validateAll(int[] values) {
+    var result = new BulkValidationResult(values.length);
+    long[] failed = new long[BulkValidationResult.words(values.length)];
+    for (IntConstraint constraint : intConstraints) {
+      Arrays.fill(failed, 0L);
+      int operand = constraint.operand();
+      int start =
+          VectorSupport.ENABLED
+              ? VectorKernels.intMask(constraint.kind(), operand, values, failed)
+              : 0;
+      switch (constraint.kind()) {
+        case MIN -> {
+          for (int i = start; i < values.length; i++) {
+            failed[i >>> 6] |= (values[i] < operand ? 1L : 0L) << i;
+          }
+        }
+        case MAX -> {
+          for (int i = start; i < values.length; i++) {
+            failed[i >>> 6] |= (values[i] > operand ? 1L : 0L) << i;
+          }
+        }
+        case POSITIVE -> {
+          for (int i = start; i < values.length; i++) {
+            failed[i >>> 6] |= (values[i] <= 0 ? 1L : 0L) << i;
+          }
+        }
+        case NEGATIVE -> {
+          for (int i = start; i < values.length; i++) {
+            failed[i >>> 6] |= (values[i] >= 0 ? 1L : 0L) << i;
+          }
+        }
+        case MULTIPLE_OF -> {
+          for (int i = start; i < values.length; i++) {
+            failed[i >>> 6] |= (operand == 0 || values[i] % operand != 0 ? 1L : 0L) << i;
+          }
+        }
+      }
+      result.add(constraint.constraint().message(), constraint.constraint().code(), failed);
+    }
+    return result;
+  }
+
+  /** Returns the predicates of all constraints, min/max included, in the order they were added. */
+  List<IntPredicate> predicates() {
+    return intConstraints.stream().map(IntConstraint::predicate).toList();
+  }
+
+  /** Primitive mirror of a {@link Constraint}. */
+  private record IntConstraint(
+      Kind kind, int operand, IntPredicate predicate, Constraint<Integer> constraint) {}
 }
@@ -0,0 +1,481 @@
+package dev.anchxt.jod.schema;
+
+import dev.anchxt.jod.core.Schema;
+import dev.anchxt.jod.core.StandardErrorCode;
+import dev.anchxt.jod.core.ValidationError;
+import dev.anchxt.jod.core.ValidationResult;
+import dev.anchxt.jod.json.JsonReader;
+import dev.anchxt.jod.json.JsonToken;
+import dev.anchxt.jod.json.MalformedJsonException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Validates JSON against a schema while it is read, without building the document. The schema tree
+ * drives a {@link JsonReader}: each value is checked as soon as its tokens are read, and members or
+ * elements the schema does not describe are skipped without being decoded into values.
+ *
+ * <ul>
+ *   <li>{@link StringSchema} checks the decoded text in place, creating a String only for errors or
+ *       case conversion.
+ *   <li>{@link IntSchema}, {@link LongSchema} and {@link DoubleSchema} check the number as a
+ *       primitive. An int or long schema rejects fractions and numbers out of its range.
+ *   <li>{@link BooleanSchema} checks {@code true} and {@code false}.
+ *   <li>{@link ObjectSchema} matches members to fields by name. Fields without a member are
+ *       validated as null, so the field schema reports them; unknown members are ignored.
+ *   <li>{@link ListSchema} validates arrays element by element and {@link MapSchema} validates
+ *       objects member by member, keys as strings; their size constraints run on the counts.
+ *   <li>Other schemas receive the value built as a String, Integer, Long, Double, Boolean, List or
+ *       Map. Compiled and cached schemas only receive values of their type, with integers widened
+ *       for long and double schemas; any other schema must accept every one of these types.
+ * </ul>
+ *
+ * <p>A value of the wrong JSON type fails with INVALID_TYPE. Paths are the same as for the built
+ * objects, but errors come in document order, and errors of a container as a whole (missing fields,
+ * size) follow the errors of its members. Malformed JSON is fatal: validation stops there and adds
+ * INVALID_JSON to the errors found so far. {@link #validateFast} also stops at the first validation
+ * error, without reading the rest of the input.
+ *
+ * <pre>{@code
+ * var validator = Jod.json(userSchema);
+ * ValidationResult<Void> result = validator.validate(request.getInputStream());
+ * }</pre>
+ *
+ * <p>Instances are thread-safe as long as the schema is not changed.
+ *
+ * @param <T> The type of value the schema validates
+ */
+public final class JsonValidator<T> {
+
+  private static final ValidationResult<Void> SUCCESS = ValidationResult.success(null);
+
+  private static final ValidationError EXPECTED_STRING = typeError("Expected a string");
+  private static final ValidationError EXPECTED_NUMBER = typeError("Expected a number");
+  private static final ValidationError EXPECTED_INT = typeError("Expected an int");
+  private static final ValidationError EXPECTED_LONG = typeError("Expected a long");
+  private static final ValidationError EXPECTED_BOOLEAN = typeError("Expected a boolean");
+  private static final ValidationError EXPECTED_OBJECT = typeError("Expected an object");
+  private static final ValidationError EXPECTED_ARRAY = typeError("Expected an array");
+  private static final ValidationError UNEXPECTED_TYPE = typeError("Unexpected type");
+
+  private final Schema<T> schema;
+
+  /** Creates a validator for JSON documents holding one value of {@code schema}. */
+  public JsonValidator(Schema<T> schema) {
+    if (schema == null) {
+      throw new IllegalArgumentException("Schema cannot be null");
+    }
+    this.schema = schema;
+  }
+
+  // ==================== Validation ====================
+
+  /**
+   * Validates the JSON document read from {@code json}, reporting every error up to the end of the
+   * input or the first malformed token. The stream is not closed.
+   *
+   * @throws IOException If reading the stream fails
+   */
+  public ValidationResult<Void> validate(InputStream json) throws IOException {
+    return run(new JsonReader(json), false);
+  }
+
+  /** Validates the JSON document between the position and the limit of {@code json}. */
+  public ValidationResult<Void> validate(ByteBuffer json) {
+    return runInMemory(json, false);
+  }
+
+  /**
+   * Validates the JSON document read from {@code json}, stopping at the first error. The stream is
+   * not closed, and is left after the token at which validation stopped.
+   *
+   * @throws IOException If reading the stream fails
+   */
+  public ValidationResult<Void> validateFast(InputStream json) throws IOException {
+    return run(new JsonReader(json), true);
+  }
+
+  /** Validates the JSON document in {@code json}, stopping at the first error. */
+  public ValidationResult<Void> validateFast(ByteBuffer json) {
+    return runInMemory(json, true);
+  }
+
+  private ValidationResult<Void> runInMemory(ByteBuffer json, boolean failFast) {
+    try {
+      return run(new JsonReader(json), failFast);
+    } catch (IOException e) {
+      // Only a stream can fail to be read, and malformed input is reported as an error
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private ValidationResult<Void> run(JsonReader reader, boolean failFast) throws IOException {
+    Pass pass = new Pass(reader, failFast);
+    try {
+      if (pass.value(schema, reader.next())) {
+        reader.next();
+      }
+    } catch (MalformedJsonException e) {
+      pass.errors = addError(pass.errors, malformed(e));
+    }
+    return pass.errors == null ? SUCCESS : ValidationResult.failure(pass.errors);
+  }
+
+  // ==================== Pass ====================
+
+  /**
+   * One validation of a document. Every method validates the value whose first token was just read
+   * and returns false once validation must stop, which is at the first error when failing fast.
+   * Nested errors get their path prefix on the way back out.
+   */
+  private static final class Pass {
+
+    private final JsonReader reader;
+    private final boolean failFast;
+    private List<ValidationError> errors;
+
+    Pass(JsonReader reader, boolean failFast) {
+      this.reader = reader;
+      this.failFast = failFast;
+    }
+
+    @SuppressWarnings("unchecked")
+    boolean value(Schema<?> schema, JsonToken token) throws IOException {
+      if (token == JsonToken.NULL) {
+        return add(((Schema<Object>) schema).validate(null));
+      }
+      if (schema instanceof GeneratedObjectSchema<?> generated) {
+        schema = generated.interpreter();
+      }
+      if (schema instanceof StringSchema string) {
+        return string(string, token);
+      } else if (schema instanceof IntSchema ints) {
+        return intValue(ints, token);
+      } else if (schema instanceof LongSchema longs) {
+        return longValue(longs, token);
+      } else if (schema instanceof DoubleSchema doubles) {
+        return doubleValue(doubles, token);
+      } else if (schema instanceof BooleanSchema bool) {
+        return bool(bool, token);
+      } else if (schema instanceof ObjectSchema<?> object) {
+        return object(object, token);
+      } else if (schema instanceof ListSchema<?> list) {
+        return list(list, token);
+      } else if (schema instanceof MapSchema<?, ?> map) {
+        return map(map, token);
+      }
+      return built((Schema<Object>) schema, build(token));
+    }
+
+    private boolean string(StringSchema schema, JsonToken token) throws IOException {
+      if (token != JsonToken.STRING) {
+        return mismatch(EXPECTED_STRING);
+      }
+      CharSequence text = reader.text();
+      return schema.isValid(text) || add(schema.validate(text));
+    }
+
+    private boolean intValue(IntSchema schema, JsonToken token) throws IOException {
+      if (token != JsonToken.NUMBER) {
+        return mismatch(EXPECTED_INT);
+      }
+      if (!reader.isIntegral() || reader.text().length() > 11) {
+        return add(EXPECTED_INT);
+      }
+      long value = reader.longValue();
+      if (value != (int) value) {
+        return add(EXPECTED_INT);
+      }
+      return schema.isValidInt((int) value) || add(schema.validateInt((int) value));
+    }
+
+    private boolean longValue(LongSchema schema, JsonToken token) throws IOException {
+      if (token != JsonToken.NUMBER) {
+        return mismatch(EXPECTED_LONG);
+      }
+      if (!reader.isIntegral()) {
+        return add(EXPECTED_LONG);
+      }
+      long value;
+      try {
+        value = reader.longValue();
+      } catch (NumberFormatException e) {
+        return add(EXPECTED_LONG);
+      }
+      return schema.isValidLong(value) || add(schema.validateLong(value));
+    }
+
+    private boolean doubleValue(DoubleSchema schema, JsonToken token) throws IOException {
+      if (token != JsonToken.NUMBER) {
+        return mismatch(EXPECTED_NUMBER);
+      }
+      double value = reader.doubleValue();
+      return schema.isValidDouble(value) || add(schema.validateDouble(value));
+    }
+
+    private boolean bool(BooleanSchema schema, JsonToken token) throws IOException {
+      if (token != JsonToken.TRUE && token != JsonToken.FALSE) {
+        return mismatch(EXPECTED_BOOLEAN);
+      }
+      return add(schema.validate(token == JsonToken.TRUE));
+    }
+
+    private <T> boolean object(ObjectSchema<T> schema, JsonToken token) throws IOException {
+      if (token != JsonToken.BEGIN_OBJECT) {
+        return mismatch(EXPECTED_OBJECT);
+      }
+      List<ObjectSchema.Field<T, ?>> fields = schema.fields();
+      // Fields seen, as bits for the usual object of at most 64 fields
+      long present = 0;
+      boolean[] presentBeyond = fields.size() > Long.SIZE ? new boolean[fields.size()] : null;
+      for (JsonToken name = reader.next(); name != JsonToken.END_OBJECT; name = reader.next()) {
+        int index = indexOf(fields);
+        JsonToken first = reader.next();
+        if (index < 0) {
+          reader.skipValue();
+          continue;
+        }
+        if (index < Long.SIZE) {
+          present |= 1L << index;
+        } else {
+          presentBeyond[index] = true;
+        }
+        ObjectSchema.Field<T, ?> field = fields.get(index);
+        int start = errorCount();
+        boolean proceed = value(field.schema(), first);
+        prefix(start, field.name());
+        if (!proceed) {
+          return false;
+        }
+      }
+      for (int i = 0; i < fields.size(); i++) {
+        if (i < Long.SIZE ? (present & 1L << i) == 0 : !presentBeyond[i]) {
+          ObjectSchema.Field<T, ?> field = fields.get(i);
+          int start = errorCount();
+          boolean proceed = add(field.schema().validate(null));
+          prefix(start, field.name());
+          if (!proceed) {
+            return false;
+          }
+        }
+      }
+      return true;
+    }
+
+    private <E> boolean list(ListSchema<E> schema, JsonToken token) throws IOException {
+      if (token != JsonToken.BEGIN_ARRAY) {
+        return mismatch(EXPECTED_ARRAY);
+      }
+      int count = 0;
+      for (JsonToken first = reader.next(); first != JsonToken.END_ARRAY; first = reader.next()) {
+        int start = errorCount();
+        boolean proceed = value(schema.elementSchema(), first);
+        for (int i = start; i < errorCount(); i++) {
+          errors.set(i, errors.get(i).withIndexPrefix(count));
+        }
+        if (!proceed) {
+          return false;
+        }
+        count++;
+      }
+      // A list of nulls is a constant-size view standing in for the elements
+      return sizeChecks(schema.constraints(), Collections.<E>nCopies(count, null));
+    }
+
+    private <K, V> boolean map(MapSchema<K, V> schema, JsonToken token) throws IOException {
+      if (token != JsonToken.BEGIN_OBJECT) {
+        return mismatch(EXPECTED_OBJECT);
+      }
+      List<K> requiredKeys = schema.requiredKeys();
+      boolean[] present = new boolean[requiredKeys.size()];
+      int count = 0;
+      for (JsonToken name = reader.next(); name != JsonToken.END_OBJECT; name = reader.next()) {
+        count++;
+        int required = indexOfKey(requiredKeys);
+        if (required >= 0) {
+          present[required] = true;
+        } else if (schema.isRequiredOnly()) {
+          reader.next();
+          reader.skipValue();
+          continue;
+        }
+        String key = reader.text().toString();
+        int start = errorCount();
+        boolean proceed = schema.isRequiredOnly() || key(schema.keySchema(), key);
+        proceed = proceed && value(schema.valueSchema(), reader.next());
+        prefix(start, MapSchema.path(key));
+        if (!proceed) {
+          return false;
+        }
+      }
+      if (!sizeChecks(schema.constraints(), JsonValidator.<K, V>sizeOnly(count))) {
+        return false;
+      }
+      for (int i = 0; i < present.length; i++) {
+        if (!present[i] && !add(MapSchema.missing(requiredKeys.get(i)))) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean key(Schema<?> schema, String key) {
+      if (schema instanceof StringSchema string) {
+        return add(string.validate(key));
+      }
+      return built((Schema<Object>) schema, key);
+    }
+
+    /** Validates a value built from the JSON, for schemas that cannot read the tokens. */
+    private boolean built(Schema<Object> schema, Object value) {
+      Class<?> type = ValueTypes.of(schema);
+      if (type != null) {
+        value = ValueTypes.widen(value, type);
+        if (!type.isInstance(value)) {
+          return add(UNEXPECTED_TYPE);
+        }
+      }
+      return add(schema.validate(value));
+    }
+
+    /** Builds the value whose first token was just read. */
+    private Object build(JsonToken token) throws IOException {
+      switch (token) {
+        case STRING -> {
+          return reader.text().toString();
+        }
+        case NUMBER -> {
+          if (reader.isIntegral() && reader.text().length() <= 18) {
+            long value = reader.longValue();
+            return value == (int) value ? (Object) (int) value : (Object) value;
+          }
+          return reader.doubleValue();
+        }
+        case TRUE -> {
+          return Boolean.TRUE;
+        }
+        case FALSE -> {
+          return Boolean.FALSE;
+        }
+        case BEGIN_ARRAY -> {
+          List<Object> list = new ArrayList<>();
+          for (JsonToken first = reader.next(); first != JsonToken.END_ARRAY; ) {
+            list.add(build(first));
+            first = reader.next();
+          }
+          return Collections.unmodifiableList(list);
+        }
+        case BEGIN_OBJECT -> {
+          Map<String, Object> map = new LinkedHashMap<>();
+          for (JsonToken name = reader.next(); name != JsonToken.END_OBJECT; ) {
+            String key = reader.text().toString();
+            map.put(key, build(reader.next()));
+            name = reader.next();
+          }
+          return Collections.unmodifiableMap(map);
+        }
+        default -> {
+          return null;
+        }
+      }
+    }
+
+    private <C> boolean sizeChecks(List<Constraint<C>> constraints, C sized) {
+      return constraints.isEmpty() || add(Constraint.failures(constraints, sized));
+    }
+
+    private <T> int indexOf(List<ObjectSchema.Field<T, ?>> fields) {
+      for (int i = 0; i < fields.size(); i++) {
+        if (reader.textEquals(fields.get(i).name())) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    private int indexOfKey(List<?> keys) {
+      for (int i = 0; i < keys.size(); i++) {
+        if (keys.get(i) instanceof String key && reader.textEquals(key)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    /** Skips the rest of a value of the wrong type and reports it. */
+    private boolean mismatch(ValidationError error) throws IOException {
+      reader.skipValue();
+      return add(error);
+    }
+
+    private boolean add(ValidationResult<?> result) {
+      if (result == null || result.isSuccess()) {
+        return true;
+      }
+      if (errors == null) {
+        errors = new ArrayList<>();
+      }
+      errors.addAll(result.getErrors());
+      return !failFast;
+    }
+
+    private boolean add(ValidationError error) {
+      errors = addError(errors, error);
+      return !failFast;
+    }
+
+    private int errorCount() {
+      return errors == null ? 0 : errors.size();
+    }
+
+    private void prefix(int start, String name) {
+      for (int i = start; i < errorCount(); i++) {
+        errors.set(i, errors.get(i).withPathPrefix(name));
+      }
+    }
+  }
+
+  // ==================== Helpers ====================
+
+  /** A map reporting a size but no entries, for size constraints that only read {@code size()}. */
+  private static <K, V> Map<K, V> sizeOnly(int size) {
+    return new AbstractMap<>() {
+      @Override
+      public int size() {
+        return size;
+      }
+
+      @Override
+      public Set<Entry<K, V>> entrySet() {
+        return Set.of();
+      }
+    };
+  }
+
+  private static List<ValidationError> addError(
+      List<ValidationError> errors, ValidationError error) {
+    if (errors == null) {
+      errors = new ArrayList<>();
+    }
+    errors.add(error);
+    return errors;
+  }
+
+  private static ValidationError typeError(String message) {
+    return ValidationError.of(message, StandardErrorCode.INVALID_TYPE);
+  }
+
+  private static ValidationError malformed(MalformedJsonException e) {
+    return ValidationError.of("Malformed JSON: " + e.getMessage(), StandardErrorCode.INVALID_JSON);
+  }
+}
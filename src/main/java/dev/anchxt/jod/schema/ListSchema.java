@@ -0,0 +1,350 @@
+package dev.anchxt.jod.schema;
+
+import dev.anchxt.jod.core.ErrorCodeSet;
+import dev.anchxt.jod.core.Schema;
+import dev.anchxt.jod.core.ValidationError;
+import dev.anchxt.jod.core.ValidationResult;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Schema for validating lists. Supports size constraints (min, max) and validates every element
+ * against an element schema; element errors are reported with the index as path prefix ({@code
+ * [3]}, or {@code [3].name} for nested paths).
+ *
+ * <p>Lists at or above the threshold given to {@link #parallel(int)} are split into chunks that are
+ * validated concurrently, on the common {@link ForkJoinPool} or a supplied executor. Errors are
+ * merged in index order, so the result is the same as for sequential validation.
+ *
+ * <p>If the element schema transforms an element (e.g. {@code trim()}), the validated value is an
+ * unmodifiable copy of the list with the transformed elements; otherwise it is the original list.
+ *
+ * @param <E> The type of the list elements
+ */
+public class ListSchema<E> implements Schema<List<E>> {
+
+  private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+  // Chunks per available processor, so that uneven chunks still keep every worker busy
+  private static final int CHUNKS_PER_PROCESSOR = 4;
+
+  private final Schema<E> elementSchema;
+  private final List<Constraint<List<E>>> constraints = new ArrayList<>();
+  private int parallelThreshold = Integer.MAX_VALUE;
+  private Executor executor = ForkJoinPool.commonPool();
+
+  /**
+   * Creates a schema validating every element with {@code elementSchema}; prefer {@code Jod.list}.
+   */
+  public ListSchema(Schema<E> elementSchema) {
+    if (elementSchema == null) {
+      throw new IllegalArgumentException("Element schema cannot be null");
+    }
+    this.elementSchema = elementSchema;
+  }
+
+  /** Minimum size constraint. */
+  public ListSchema<E> min(int minSize) {
+    constraints.add(
+        new Constraint<>(
+            value -> value.size() >= minSize,
+            "List must contain at least " + minSize + " elements",
+            "LIST_TOO_SHORT"));
+    return this;
+  }
+
+  /** Maximum size constraint. */
+  public ListSchema<E> max(int maxSize) {
+    constraints.add(
+        new Constraint<>(
+            value -> value.size() <= maxSize,
+            "List must contain at most " + maxSize + " elements",
+            "LIST_TOO_LONG"));
+    return this;
+  }
+
+  /**
+   * Validates the elements of lists with at least {@code threshold} elements concurrently on the
+   * common {@link ForkJoinPool}. Only worth it when validating the elements costs more than handing
+   * chunks to other threads, i.e. for lists of thousands of elements or expensive element schemas.
+   */
+  public ListSchema<E> parallel(int threshold) {
+    return parallel(threshold, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Validates the elements of lists with at least {@code threshold} elements concurrently on {@code
+   * executor}. The calling thread validates one chunk itself and waits for the others, so the
+   * executor must not be one whose threads are all busy waiting for this validation.
+   */
+  public ListSchema<E> parallel(int threshold, Executor executor) {
+    if (threshold < 1) {
+      throw new IllegalArgumentException("Parallel threshold must be positive");
+    }
+    if (executor == null) {
+      throw new IllegalArgumentException("Executor cannot be null");
+    }
+    this.parallelThreshold = threshold;
+    this.executor = executor;
+    return this;
+  }
+
+  // ==================== Validation ====================
+
+  @Override
+  public ValidationResult<List<E>> validate(List<E> value) {
+    if (value == null) {
+      return Constraint.NOT_NULL.failure();
+    }
+
+    List<ValidationError> errors = null;
+    for (Constraint<List<E>> constraint : constraints) {
+      if (!constraint.test(value)) {
+        if (errors == null) {
+          errors = new ArrayList<>();
+        }
+        errors.add(constraint.error());
+      }
+    }
+
+    int size = value.size();
+    Chunk chunk;
+    if (size >= parallelThreshold && size > 1) {
+      List<E> elements = randomAccess(value);
+      chunk =
+          Chunk.merge(elements, inChunks(size, (from, to) -> validateRange(elements, from, to)));
+    } else {
+      chunk = validateSequentially(value);
+    }
+
+    if (chunk.errors() != null) {
+      if (errors == null) {
+        errors = chunk.errors();
+      } else {
+        errors.addAll(chunk.errors());
+      }
+    }
+    if (errors != null) {
+      return ValidationResult.failure(errors);
+    }
+    return ValidationResult.success(chunk.validated() == null ? value : copyOf(chunk.validated()));
+  }
+
+  @Override
+  public ValidationResult<List<E>> validateFast(List<E> value) {
+    if (value == null) {
+      return Constraint.NOT_NULL.failure();
+    }
+    Constraint<List<E>> failed = Constraint.firstFailure(constraints, value);
+    if (failed != null) {
+      return failed.failure();
+    }
+
+    // Stops at the first invalid element, so splitting the list rarely pays off
+    Object[] validated = null;
+    int index = 0;
+    for (E element : value) {
+      ValidationResult<E> result = elementSchema.validateFast(element);
+      if (result.isFailure()) {
+        return ValidationResult.failure(result.getErrors().getFirst().withIndexPrefix(index));
+      }
+      if (result.getValue() != element) {
+        if (validated == null) {
+          validated = value.toArray();
+        }
+        validated[index] = result.getValue();
+      }
+      index++;
+    }
+    return ValidationResult.success(validated == null ? value : copyOf(validated));
+  }
+
+  @Override
+  public boolean isValid(List<E> value) {
+    if (value == null || Constraint.firstFailure(constraints, value) != null) {
+      return false;
+    }
+
+    int size = value.size();
+    if (size >= parallelThreshold && size > 1) {
+      List<E> elements = randomAccess(value);
+      // Set by the first chunk that finds an invalid element, so that the others stop early
+      AtomicBoolean invalid = new AtomicBoolean();
+      inChunks(size, (from, to) -> isRangeValid(elements, from, to, invalid));
+      return !invalid.get();
+    }
+    for (E element : value) {
+      if (!elementSchema.isValid(element)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public ErrorCodeSet violatedCodes(List<E> value) {
+    if (value == null) {
+      return Constraint.NOT_NULL.codes();
+    }
+    ErrorCodeSet codes = Constraint.violatedCodes(constraints, value);
+    for (E element : value) {
+      codes = codes.union(elementSchema.violatedCodes(element));
+    }
+    return codes;
+  }
+
+  Schema<E> elementSchema() {
+    return elementSchema;
+  }
+
+  /** The size constraints, which only read {@code size()}. */
+  List<Constraint<List<E>>> constraints() {
+    return constraints;
+  }
+
+  // ==================== Chunks ====================
+
+  /**
+   * Errors and validated values of the elements from index {@code from} on, or of the whole list
+   * once merged. The validated values are only copied out once an element schema changes an
+   * element, so they are null while every element is returned as it is.
+   */
+  private record Chunk(int from, List<ValidationError> errors, Object[] validated) {
+
+    static Chunk merge(List<?> elements, List<Chunk> chunks) {
+      List<ValidationError> errors = null;
+      Object[] validated = null;
+      for (Chunk chunk : chunks) {
+        if (chunk.errors() != null) {
+          if (errors == null) {
+            errors = new ArrayList<>();
+          }
+          errors.addAll(chunk.errors());
+        }
+        if (chunk.validated() != null) {
+          if (validated == null) {
+            validated = elements.toArray();
+          }
+          System.arraycopy(chunk.validated(), 0, validated, chunk.from(), chunk.validated().length);
+        }
+      }
+      return new Chunk(0, errors, validated);
+    }
+  }
+
+  @FunctionalInterface
+  private interface RangeTask<R> {
+    R run(int from, int to);
+  }
+
+  private Chunk validateSequentially(List<E> value) {
+    List<ValidationError> errors = null;
+    Object[] validated = null;
+    int index = 0;
+    for (E element : value) {
+      ValidationResult<E> result = elementSchema.validate(element);
+      if (result.isFailure()) {
+        errors = addErrors(errors, result, index);
+      } else if (result.getValue() != element) {
+        if (validated == null) {
+          validated = value.toArray();
+        }
+        validated[index] = result.getValue();
+      }
+      index++;
+    }
+    return new Chunk(0, errors, validated);
+  }
+
+  /** Validates the elements in {@code [from, to)}. */
+  private Chunk validateRange(List<E> elements, int from, int to) {
+    List<ValidationError> errors = null;
+    Object[] validated = null;
+    for (int i = from; i < to; i++) {
+      E element = elements.get(i);
+      ValidationResult<E> result = elementSchema.validate(element);
+      if (result.isFailure()) {
+        errors = addErrors(errors, result, i);
+      } else if (result.getValue() != element) {
+        if (validated == null) {
+          validated = elements.subList(from, to).toArray();
+        }
+        validated[i - from] = result.getValue();
+      }
+    }
+    return new Chunk(from, errors, validated);
+  }
+
+  private Void isRangeValid(List<E> elements, int from, int to, AtomicBoolean invalid) {
+    for (int i = from; i < to && !invalid.get(); i++) {
+      if (!elementSchema.isValid(elements.get(i))) {
+        invalid.set(true);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Splits {@code [0, size)} into contiguous chunks, runs all but the last on the executor and the
+   * last on the calling thread, and returns the results in index order.
+   */
+  private <R> List<R> inChunks(int size, RangeTask<R> task) {
+    int chunks = Math.min(size, PARALLELISM * CHUNKS_PER_PROCESSOR);
+    List<CompletableFuture<R>> forked = new ArrayList<>(chunks - 1);
+    for (int c = 0; c < chunks - 1; c++) {
+      int from = (int) ((long) size * c / chunks);
+      int to = (int) ((long) size * (c + 1) / chunks);
+      forked.add(CompletableFuture.supplyAsync(() -> task.run(from, to), executor));
+    }
+    R last = task.run((int) ((long) size * (chunks - 1) / chunks), size);
+
+    List<R> results = new ArrayList<>(chunks);
+    try {
+      for (CompletableFuture<R> future : forked) {
+        results.add(future.join());
+      }
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw e;
+    }
+    results.add(last);
+    return results;
+  }
+
+  // ==================== Helpers ====================
+
+  private static List<ValidationError> addErrors(
+      List<ValidationError> errors, ValidationResult<?> result, int index) {
+    if (errors == null) {
+      errors = new ArrayList<>();
+    }
+    for (ValidationError error : result.getErrors()) {
+      errors.add(error.withIndexPrefix(index));
+    }
+    return errors;
+  }
+
+  /** Returns the list itself if it supports fast indexed access, else a copy of its elements. */
+  @SuppressWarnings("unchecked")
+  private static <E> List<E> randomAccess(List<E> value) {
+    return value instanceof RandomAccess ? value : (List<E>) Arrays.asList(value.toArray());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <E> List<E> copyOf(Object[] elements) {
+    // Element schemas may return null, which List.copyOf rejects
+    return (List<E>) Collections.unmodifiableList(Arrays.asList(elements));
+  }
+}
@@ -1,8 +1,24 @@
 package dev.anchxt.jod.schema;
 
-/** Schema for validating Long values. */
+import dev.anchxt.jod.core.ValidationResult;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongPredicate;
+
+/**
+ * Schema for validating Long values. {@link #validateLong(long)} and {@link #isValidLong(long)}
+ * check primitive values without boxing: min/max are folded into precomputed bounds and the
+ * remaining constraints are {@link LongPredicate}s.
+ */
 public class LongSchema extends NumberSchema<Long, LongSchema> {
 
+  private final List<LongConstraint> longConstraints = new ArrayList<>();
+  // Constraints other than min/max, which are covered by the bounds below
+  private final List<LongPredicate> longChecks = new ArrayList<>();
+  private long lowerBound = Long.MIN_VALUE;
+  private long upperBound = Long.MAX_VALUE;
+
   @Override
   protected boolean isPositive(Long value) {
     return value > 0L;
@@ -17,4 +33,119 @@ public class LongSchema extends NumberSchema<Long, LongSchema> {
   protected boolean isMultipleOf(Long value, Long divisor) {
     return divisor != 0L && value % divisor == 0L;
   }
+
+  @Override
+  protected Class<Long> valueType() {
+    return Long.class;
+  }
+
+  @Override
+  protected void onConstraint(Kind kind, Long operand, Constraint<Long> constraint) {
+    LongPredicate predicate =
+        switch (kind) {
+          case MIN -> {
+            long min = operand;
+            lowerBound = Math.max(lowerBound, min);
+            yield value -> value >= min;
+          }
+          case MAX -> {
+            long max = operand;
+            upperBound = Math.min(upperBound, max);
+            yield value -> value <= max;
+          }
+          case POSITIVE -> value -> value > 0L;
+          case NEGATIVE -> value -> value < 0L;
+          case MULTIPLE_OF -> {
+            long divisor = operand;
+            yield value -> divisor != 0L && value % divisor == 0L;
+          }
+        };
+    if (kind != Kind.MIN && kind != Kind.MAX) {
+      longChecks.add(predicate);
+    }
+    long value = operand == null ? 0L : operand;
+    longConstraints.add(new LongConstraint(kind, value, predicate, constraint));
+  }
+
+  /**
+   * Validates a primitive long. Produces the same result as {@link #validate}, checking the value
+   * without boxing it; only a failing value is boxed, to collect its errors.
+   */
+  public ValidationResult<Long> validateLong(long value) {
+    if (isValidLong(value)) {
+      return ValidationResult.success(value);
+    }
+    // The mirrors accept exactly what the boxed constraints accept
+    return Constraint.failures(constraints, value);
+  }
+
+  /** Returns true if the primitive long satisfies all constraints. Never boxes. */
+  public boolean isValidLong(long value) {
+    if (value < lowerBound || value > upperBound) {
+      return false;
+    }
+    for (LongPredicate check : longChecks) {
+      if (!check.test(value)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Validates every element of the array. Each constraint runs as one branch-free loop over the
+   * whole array that sets a bit per failing element, which the JIT can unroll and vectorize,
+   * instead of building a {@code ValidationResult} per element. When the Vector API is enabled
+   * ({@code --add-modules jdk.incubator.vector}) the loops run on explicit SIMD kernels instead.
+   */
+  public BulkValidationResult validateAll(long[] values) {
+    var result = new BulkValidationResult(values.length);
+    long[] failed = new long[BulkValidationResult.words(values.length)];
+    for (LongConstraint constraint : longConstraints) {
+      Arrays.fill(failed, 0L);
+      long operand = constraint.operand();
+      int start =
+          VectorSupport.ENABLED
+              ? VectorKernels.longMask(constraint.kind(), operand, values, failed)
+              : 0;
+      switch (constraint.kind()) {
+        case MIN -> {
+          for (int i = start; i < values.length; i++) {
+            failed[i >>> 6] |= (values[i] < operand ? 1L : 0L) << i;
+          }
+        }
+        case MAX -> {
+          for (int i = start; i < values.length; i++) {
+            failed[i >>> 6] |= (values[i] > operand ? 1L : 0L) << i;
+          }
+        }
+        case POSITIVE -> {
+          for (int i = start; i < values.length; i++) {
+            failed[i >>> 6] |= (values[i] <= 0L ? 1L : 0L) << i;
+          }
+        }
+        case NEGATIVE -> {
+          for (int i = start; i < values.length; i++) {
+            failed[i >>> 6] |= (values[i] >= 0L ? 1L : 0L) << i;
+          }
+        }
+        case MULTIPLE_OF -> {
+          for (int i = start; i < values.length; i++) {
+            failed[i >>> 6] |= (operand == 0L || values[i] % operand != 0L ? 1L : 0L) << i;
+          }
+        }
+      }
+      result.add(constraint.constraint().message(), constraint.constraint().code(), failed);
+    }
+    return result;
+  }
+
+  /** Returns the predicates of all constraints, min/max included, in the order they were added. */
+  List<LongPredicate> predicates() {
+    return longConstraints.stream().map(LongConstraint::predicate).toList();
+  }
+
+  /** Primitive mirror of a {@link Constraint}. */
+  private record LongConstraint(
+      Kind kind, long operand, LongPredicate predicate, Constraint<Long> constraint) {}
 }
@@ -0,0 +1,373 @@
+package dev.anchxt.jod.schema;
+
+import dev.anchxt.jod.core.ErrorCodeSet;
+import dev.anchxt.jod.core.Schema;
+import dev.anchxt.jod.core.StandardErrorCode;
+import dev.anchxt.jod.core.ValidationError;
+import dev.anchxt.jod.core.ValidationResult;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Schema for validating maps. Supports size constraints (min, max) and validates every key and
+ * value against their schemas; errors are reported with the key as path prefix ({@code host}, or
+ * {@code host.port} for nested paths). The empty key is written {@code [""]}, so that its errors
+ * are not reported at the path of the map itself.
+ *
+ * <p>Entries are validated while iterating the map's entry set, without copying them. Keys listed
+ * with {@link #required} must be present; with {@link #requiredOnly()} only those keys are looked
+ * up, each with a single {@code get()}, and the rest of the map is never iterated, which keeps
+ * validating a few settings of a large configuration map independent of its size.
+ *
+ * <p>If a schema transforms a key or value (e.g. {@code trim()}), the validated value is an
+ * unmodifiable copy of the map in iteration order; otherwise it is the original map.
+ *
+ * @param <K> The type of the map keys
+ * @param <V> The type of the map values
+ */
+public class MapSchema<K, V> implements Schema<Map<K, V>> {
+
+  private final Schema<K> keySchema;
+  private final Schema<V> valueSchema;
+  private final List<Constraint<Map<K, V>>> constraints = new ArrayList<>();
+  private final List<K> requiredKeys = new ArrayList<>();
+  private boolean requiredOnly;
+
+  /** Creates a schema validating keys and values with the given schemas; prefer {@code Jod.map}. */
+  public MapSchema(Schema<K> keySchema, Schema<V> valueSchema) {
+    if (keySchema == null || valueSchema == null) {
+      throw new IllegalArgumentException("Key and value schemas cannot be null");
+    }
+    this.keySchema = keySchema;
+    this.valueSchema = valueSchema;
+  }
+
+  /** Minimum size constraint. */
+  public MapSchema<K, V> min(int minSize) {
+    constraints.add(
+        new Constraint<>(
+            value -> value.size() >= minSize,
+            "Map must contain at least " + minSize + " entries",
+            "MAP_TOO_SMALL"));
+    return this;
+  }
+
+  /** Maximum size constraint. */
+  public MapSchema<K, V> max(int maxSize) {
+    constraints.add(
+        new Constraint<>(
+            value -> value.size() <= maxSize,
+            "Map must contain at most " + maxSize + " entries",
+            "MAP_TOO_LARGE"));
+    return this;
+  }
+
+  /** Requires the map to contain the given keys. */
+  @SafeVarargs
+  public final MapSchema<K, V> required(K... keys) {
+    for (K key : keys) {
+      if (!requiredKeys.contains(key)) {
+        requiredKeys.add(key);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Validates only the values of the {@link #required} keys, found with one {@code get()} each,
+   * instead of iterating the whole map. The required keys are not checked against the key schema,
+   * and entries with other keys are neither validated nor rejected.
+   */
+  public MapSchema<K, V> requiredOnly() {
+    this.requiredOnly = true;
+    return this;
+  }
+
+  // ==================== Validation ====================
+
+  @Override
+  public ValidationResult<Map<K, V>> validate(Map<K, V> value) {
+    if (value == null) {
+      return Constraint.NOT_NULL.failure();
+    }
+
+    List<ValidationError> errors = null;
+    for (Constraint<Map<K, V>> constraint : constraints) {
+      if (!constraint.test(value)) {
+        if (errors == null) {
+          errors = new ArrayList<>();
+        }
+        errors.add(constraint.error());
+      }
+    }
+
+    Map<K, V> validated = null;
+    if (requiredOnly) {
+      for (K key : requiredKeys) {
+        V entryValue = value.get(key);
+        if (entryValue == null && !value.containsKey(key)) {
+          errors = addError(errors, missing(key));
+          continue;
+        }
+        ValidationResult<V> result = valueSchema.validate(entryValue);
+        if (result.isFailure()) {
+          errors = addErrors(errors, result, key);
+        } else if (errors == null && result.getValue() != entryValue) {
+          if (validated == null) {
+            validated = new LinkedHashMap<>(value);
+          }
+          validated.put(key, result.getValue());
+        }
+      }
+    } else {
+      for (K key : requiredKeys) {
+        if (!value.containsKey(key)) {
+          errors = addError(errors, missing(key));
+        }
+      }
+      int index = 0;
+      for (Map.Entry<K, V> entry : value.entrySet()) {
+        K key = entry.getKey();
+        ValidationResult<K> keyResult = keySchema.validate(key);
+        ValidationResult<V> valueResult = valueSchema.validate(entry.getValue());
+        if (keyResult.isFailure() || valueResult.isFailure()) {
+          errors = addErrors(errors, keyResult, key);
+          errors = addErrors(errors, valueResult, key);
+        } else if (errors == null) {
+          K validatedKey = keyResult.getValue();
+          V validatedValue = valueResult.getValue();
+          if (validated == null && (validatedKey != key || validatedValue != entry.getValue())) {
+            validated = copyPrefix(value, index);
+          }
+          if (validated != null) {
+            if (validated.containsKey(validatedKey)) {
+              errors = addError(errors, duplicate(key));
+            } else {
+              validated.put(validatedKey, validatedValue);
+            }
+          }
+        }
+        index++;
+      }
+    }
+
+    if (errors != null) {
+      return ValidationResult.failure(errors);
+    }
+    return ValidationResult.success(
+        validated == null ? value : Collections.unmodifiableMap(validated));
+  }
+
+  @Override
+  public ValidationResult<Map<K, V>> validateFast(Map<K, V> value) {
+    if (value == null) {
+      return Constraint.NOT_NULL.failure();
+    }
+    Constraint<Map<K, V>> failed = Constraint.firstFailure(constraints, value);
+    if (failed != null) {
+      return failed.failure();
+    }
+
+    Map<K, V> validated = null;
+    if (requiredOnly) {
+      for (K key : requiredKeys) {
+        V entryValue = value.get(key);
+        if (entryValue == null && !value.containsKey(key)) {
+          return ValidationResult.failure(missing(key));
+        }
+        ValidationResult<V> result = valueSchema.validateFast(entryValue);
+        if (result.isFailure()) {
+          return firstError(result, key);
+        }
+        if (result.getValue() != entryValue) {
+          if (validated == null) {
+            validated = new LinkedHashMap<>(value);
+          }
+          validated.put(key, result.getValue());
+        }
+      }
+    } else {
+      for (K key : requiredKeys) {
+        if (!value.containsKey(key)) {
+          return ValidationResult.failure(missing(key));
+        }
+      }
+      int index = 0;
+      for (Map.Entry<K, V> entry : value.entrySet()) {
+        K key = entry.getKey();
+        ValidationResult<K> keyResult = keySchema.validateFast(key);
+        if (keyResult.isFailure()) {
+          return firstError(keyResult, key);
+        }
+        ValidationResult<V> valueResult = valueSchema.validateFast(entry.getValue());
+        if (valueResult.isFailure()) {
+          return firstError(valueResult, key);
+        }
+        K validatedKey = keyResult.getValue();
+        V validatedValue = valueResult.getValue();
+        if (validated == null && (validatedKey != key || validatedValue != entry.getValue())) {
+          validated = copyPrefix(value, index);
+        }
+        if (validated != null) {
+          if (validated.containsKey(validatedKey)) {
+            return ValidationResult.failure(duplicate(key));
+          }
+          validated.put(validatedKey, validatedValue);
+        }
+        index++;
+      }
+    }
+    return ValidationResult.success(
+        validated == null ? value : Collections.unmodifiableMap(validated));
+  }
+
+  @Override
+  public boolean isValid(Map<K, V> value) {
+    if (value == null || Constraint.firstFailure(constraints, value) != null) {
+      return false;
+    }
+    if (requiredOnly) {
+      for (K key : requiredKeys) {
+        V entryValue = value.get(key);
+        if (entryValue == null && !value.containsKey(key) || !valueSchema.isValid(entryValue)) {
+          return false;
+        }
+      }
+      return true;
+    }
+    for (K key : requiredKeys) {
+      if (!value.containsKey(key)) {
+        return false;
+      }
+    }
+    if (mayTransformKeys()) {
+      // Transformed keys may collide, which only shows when the transformed keys are collected
+      return validateFast(value).isSuccess();
+    }
+    for (Map.Entry<K, V> entry : value.entrySet()) {
+      if (!keySchema.isValid(entry.getKey()) || !valueSchema.isValid(entry.getValue())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public ErrorCodeSet violatedCodes(Map<K, V> value) {
+    if (value == null) {
+      return Constraint.NOT_NULL.codes();
+    }
+    if (!requiredOnly && mayTransformKeys()) {
+      // Duplicate keys only show once the transformed keys are collected
+      return ErrorCodeSet.of(validate(value).getErrors());
+    }
+
+    ErrorCodeSet codes = Constraint.violatedCodes(constraints, value);
+    for (K key : requiredKeys) {
+      V entryValue = value.get(key);
+      if (entryValue == null && !value.containsKey(key)) {
+        codes = codes.with(StandardErrorCode.REQUIRED_KEY_MISSING);
+      } else if (requiredOnly) {
+        codes = codes.union(valueSchema.violatedCodes(entryValue));
+      }
+    }
+    if (!requiredOnly) {
+      for (Map.Entry<K, V> entry : value.entrySet()) {
+        codes = codes.union(keySchema.violatedCodes(entry.getKey()));
+        codes = codes.union(valueSchema.violatedCodes(entry.getValue()));
+      }
+    }
+    return codes;
+  }
+
+  Schema<K> keySchema() {
+    return keySchema;
+  }
+
+  Schema<V> valueSchema() {
+    return valueSchema;
+  }
+
+  /** The size constraints, which only read {@code size()}. */
+  List<Constraint<Map<K, V>>> constraints() {
+    return constraints;
+  }
+
+  List<K> requiredKeys() {
+    return requiredKeys;
+  }
+
+  boolean isRequiredOnly() {
+    return requiredOnly;
+  }
+
+  // ==================== Helpers ====================
+
+  /** Returns false if the key schema is a built-in one known to return keys as they are. */
+  private boolean mayTransformKeys() {
+    return !(keySchema instanceof IntSchema
+        || keySchema instanceof LongSchema
+        || keySchema instanceof DoubleSchema
+        || keySchema instanceof BooleanSchema
+        || keySchema instanceof StringSchema string && string.transformation() == null);
+  }
+
+  /** Copies the first {@code count} entries, which are all valid and unchanged, in order. */
+  private static <K, V> Map<K, V> copyPrefix(Map<K, V> value, int count) {
+    Map<K, V> copy = new LinkedHashMap<>();
+    for (Map.Entry<K, V> entry : value.entrySet()) {
+      if (count-- == 0) {
+        break;
+      }
+      copy.put(entry.getKey(), entry.getValue());
+    }
+    return copy;
+  }
+
+  private static List<ValidationError> addError(
+      List<ValidationError> errors, ValidationError error) {
+    if (errors == null) {
+      errors = new ArrayList<>();
+    }
+    errors.add(error);
+    return errors;
+  }
+
+  private static List<ValidationError> addErrors(
+      List<ValidationError> errors, ValidationResult<?> result, Object key) {
+    if (result.isSuccess()) {
+      return errors;
+    }
+    if (errors == null) {
+      errors = new ArrayList<>();
+    }
+    String path = path(key);
+    for (ValidationError error : result.getErrors()) {
+      errors.add(error.withPathPrefix(path));
+    }
+    return errors;
+  }
+
+  private static <T> ValidationResult<T> firstError(ValidationResult<?> result, Object key) {
+    return ValidationResult.failure(result.getErrors().getFirst().withPathPrefix(path(key)));
+  }
+
+  static ValidationError missing(Object key) {
+    return ValidationError.of("Required key is missing", "REQUIRED_KEY_MISSING")
+        .withPathPrefix(path(key));
+  }
+
+  private static ValidationError duplicate(Object key) {
+    return ValidationError.of("Key is a duplicate after transformation", "DUPLICATE_KEY")
+        .withPathPrefix(path(key));
+  }
+
+  /** The path segment of a key. */
+  static String path(Object key) {
+    String name = String.valueOf(key);
+    return name.isEmpty() ? "[\"\"]" : name;
+  }
+}
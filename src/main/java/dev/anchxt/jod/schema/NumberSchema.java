@@ -1,7 +1,7 @@
 package dev.anchxt.jod.schema;
 
+import dev.anchxt.jod.core.ErrorCodeSet;
 import dev.anchxt.jod.core.Schema;
-import dev.anchxt.jod.core.ValidationError;
 import dev.anchxt.jod.core.ValidationResult;
 import java.util.ArrayList;
 import java.util.List;
@@ -26,46 +26,78 @@ public abstract class NumberSchema<T extends Number & Comparable<T>, S extends N
 
   /** Minimum value constraint (inclusive). */
   public S min(T minValue) {
-    constraints.add(
+    return add(
+        Kind.MIN,
+        minValue,
         new Constraint<>(
             value -> value.compareTo(minValue) >= 0,
             "Value must be at least " + minValue,
             "NUMBER_TOO_SMALL"));
-    return self();
   }
 
   /** Maximum value constraint (inclusive). */
   public S max(T maxValue) {
-    constraints.add(
+    return add(
+        Kind.MAX,
+        maxValue,
         new Constraint<>(
             value -> value.compareTo(maxValue) <= 0,
             "Value must be at most " + maxValue,
             "NUMBER_TOO_LARGE"));
-    return self();
   }
 
   /** Positive number constraint (value > 0). */
   public S positive() {
-    constraints.add(new Constraint<>(this::isPositive, "Value must be positive", "NOT_POSITIVE"));
-    return self();
+    return add(
+        Kind.POSITIVE,
+        null,
+        new Constraint<>(this::isPositive, "Value must be positive", "NOT_POSITIVE"));
   }
 
   /** Negative number constraint (value < 0). */
   public S negative() {
-    constraints.add(new Constraint<>(this::isNegative, "Value must be negative", "NOT_NEGATIVE"));
-    return self();
+    return add(
+        Kind.NEGATIVE,
+        null,
+        new Constraint<>(this::isNegative, "Value must be negative", "NOT_NEGATIVE"));
   }
 
   /** Multiple of constraint. */
   public S multipleOf(T divisor) {
-    constraints.add(
+    return add(
+        Kind.MULTIPLE_OF,
+        divisor,
         new Constraint<>(
             value -> isMultipleOf(value, divisor),
             "Value must be a multiple of " + divisor,
             "NOT_MULTIPLE"));
+  }
+
+  private S add(Kind kind, T operand, Constraint<T> constraint) {
+    constraints.add(constraint);
+    onConstraint(kind, operand, constraint);
     return self();
   }
 
+  /** The built-in numeric constraints, as reported to {@link #onConstraint}. */
+  protected enum Kind {
+    MIN,
+    MAX,
+    POSITIVE,
+    NEGATIVE,
+    MULTIPLE_OF
+  }
+
+  /**
+   * Called after a built-in constraint is added. Subclasses override it to mirror the constraint in
+   * a primitive representation that validates without boxing.
+   *
+   * @param kind The kind of constraint
+   * @param operand The bound or divisor, or null for sign constraints
+   * @param constraint The boxed constraint that was added
+   */
+  protected void onConstraint(Kind kind, T operand, Constraint<T> constraint) {}
+
   /** Check if value is positive. Subclasses override for type-specific comparison. */
   protected abstract boolean isPositive(T value);
 
@@ -75,30 +107,46 @@ public abstract class NumberSchema<T extends Number & Comparable<T>, S extends N
   /** Check if value is a multiple of divisor. Subclasses override for type-specific modulo. */
   protected abstract boolean isMultipleOf(T value, T divisor);
 
+  /** The boxed type of the values, recorded by {@link #compile()}. */
+  protected abstract Class<T> valueType();
+
   @Override
   public ValidationResult<T> validate(T value) {
     if (value == null) {
-      return ValidationResult.failure("Value cannot be null", "NULL_VALUE");
+      return Constraint.NOT_NULL.failure();
     }
 
-    List<ValidationError> errors = new ArrayList<>();
-    for (Constraint<T> constraint : constraints) {
-      if (!constraint.test(value)) {
-        errors.add(ValidationError.of(constraint.message(), constraint.code()));
-      }
-    }
+    ValidationResult<T> failure = Constraint.failures(constraints, value);
+    return failure != null ? failure : ValidationResult.success(value);
+  }
 
-    if (errors.isEmpty()) {
+  @Override
+  public ValidationResult<T> validateFast(T value) {
+    if (value == null) {
+      return Constraint.NOT_NULL.failure();
+    }
+    Constraint<T> failed = Constraint.firstFailure(constraints, value);
+    if (failed == null) {
       return ValidationResult.success(value);
     }
-    return ValidationResult.failure(errors);
+    return failed.failure();
   }
 
-  /** Internal constraint representation. */
-  protected record Constraint<T>(
-      java.util.function.Predicate<T> predicate, String message, String code) {
-    boolean test(T value) {
-      return predicate.test(value);
+  @Override
+  public boolean isValid(T value) {
+    return value != null && Constraint.firstFailure(constraints, value) == null;
+  }
+
+  @Override
+  public ErrorCodeSet violatedCodes(T value) {
+    if (value == null) {
+      return Constraint.NOT_NULL.codes();
     }
+    return Constraint.violatedCodes(constraints, value);
+  }
+
+  /** Freezes the current constraints into an immutable, thread-safe schema. */
+  public CompiledSchema<T> compile() {
+    return new CompiledSchema<>(valueType(), List.of(), constraints);
   }
 }
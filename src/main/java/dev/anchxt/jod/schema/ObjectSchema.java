@@ -0,0 +1,391 @@
+package dev.anchxt.jod.schema;
+
+import dev.anchxt.jod.core.ErrorCodeSet;
+import dev.anchxt.jod.core.Schema;
+import dev.anchxt.jod.core.ValidationError;
+import dev.anchxt.jod.core.ValidationResult;
+import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.SerializedLambda;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Schema for validating objects field by field. Each field is read with an accessor and checked
+ * against its own schema; errors are reported with the field name as path prefix.
+ *
+ * <p>Everything reflective happens once in {@link Builder#build()}: field names are resolved from
+ * the accessor method references, and for records the canonical constructor is bound to a {@link
+ * MethodHandle}. Validation itself only calls the accessors, which are the getters the JDK already
+ * generated for the method references, and the field schemas.
+ *
+ * <p>For a record, a field whose schema transforms its value (e.g. {@code trim()}) yields a new
+ * record built with the canonical constructor; when nothing changes the original instance is
+ * returned. Other classes are returned as they are.
+ *
+ * <pre>{@code
+ * var userSchema = Jod.object(User.class)
+ *     .field(User::name, Jod.string().min(2).max(50).trim())
+ *     .field(User::age, Jod.intType().min(0).max(120))
+ *     .build();
+ * }</pre>
+ *
+ * @param <T> The type of the validated object
+ */
+public final class ObjectSchema<T> implements Schema<T> {
+
+  /**
+   * Reads a field from an object. Serializable so that a method reference such as {@code
+   * User::name} can be resolved to the field it reads.
+   */
+  @FunctionalInterface
+  public interface Accessor<T, F> extends Function<T, F>, Serializable {}
+
+  /** A field to validate: its path name, accessor, schema and record component index. */
+  record Field<T, F>(String name, Function<T, F> accessor, Schema<F> schema, int component) {
+
+    static final int NO_COMPONENT = -1;
+  }
+
+  private final Class<T> type;
+  private final Field<T, ?>[] fields;
+  private final List<Field<T, ?>> fieldList;
+  // Canonical constructor taking all components as an Object[]; null if T is not a record
+  private final MethodHandle constructor;
+  // Record component accessors as (Object)Object handles; null if T is not a record
+  private final MethodHandle[] components;
+
+  private ObjectSchema(
+      Class<T> type, Field<T, ?>[] fields, MethodHandle constructor, MethodHandle[] components) {
+    this.type = type;
+    this.fields = fields;
+    this.fieldList = List.of(fields);
+    this.constructor = constructor;
+    this.components = components;
+  }
+
+  /** Returns the validated type. */
+  public Class<T> type() {
+    return type;
+  }
+
+  /** Returns the fields in declaration order. */
+  List<Field<T, ?>> fields() {
+    return fieldList;
+  }
+
+  @Override
+  public ValidationResult<T> validate(T value) {
+    if (value == null) {
+      return Constraint.NOT_NULL.failure();
+    }
+
+    List<ValidationError> errors = null;
+    Object[] changed = null;
+    for (int i = 0; i < fields.length; i++) {
+      Field<T, ?> field = fields[i];
+      Object fieldValue = field.accessor().apply(value);
+      ValidationResult<?> result = validateField(field, fieldValue);
+      if (result.isFailure()) {
+        if (errors == null) {
+          errors = new ArrayList<>();
+        }
+        for (ValidationError error : result.getErrors()) {
+          errors.add(error.withPathPrefix(field.name()));
+        }
+      } else if (errors == null
+          && field.component() != Field.NO_COMPONENT
+          && result.getValue() != fieldValue) {
+        if (changed == null) {
+          changed = new Object[fields.length];
+        }
+        changed[i] = result.getValue();
+      }
+    }
+
+    if (errors != null) {
+      return ValidationResult.failure(errors);
+    }
+    return ValidationResult.success(changed == null ? value : rebuild(value, changed));
+  }
+
+  @Override
+  public ValidationResult<T> validateFast(T value) {
+    if (value == null) {
+      return Constraint.NOT_NULL.failure();
+    }
+
+    Object[] changed = null;
+    for (int i = 0; i < fields.length; i++) {
+      Field<T, ?> field = fields[i];
+      Object fieldValue = field.accessor().apply(value);
+      ValidationResult<?> result = validateFieldFast(field, fieldValue);
+      if (result.isFailure()) {
+        return ValidationResult.failure(result.getErrors().getFirst().withPathPrefix(field.name()));
+      }
+      if (field.component() != Field.NO_COMPONENT && result.getValue() != fieldValue) {
+        if (changed == null) {
+          changed = new Object[fields.length];
+        }
+        changed[i] = result.getValue();
+      }
+    }
+    return ValidationResult.success(changed == null ? value : rebuild(value, changed));
+  }
+
+  @Override
+  public boolean isValid(T value) {
+    if (value == null) {
+      return false;
+    }
+    for (Field<T, ?> field : fields) {
+      if (!isFieldValid(field, field.accessor().apply(value))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public ErrorCodeSet violatedCodes(T value) {
+    if (value == null) {
+      return Constraint.NOT_NULL.codes();
+    }
+    ErrorCodeSet codes = ErrorCodeSet.EMPTY;
+    for (Field<T, ?> field : fields) {
+      codes = codes.union(fieldCodes(field, field.accessor().apply(value)));
+    }
+    return codes;
+  }
+
+  /**
+   * Generates a validator class for this schema's fields, in which every check is straight-line
+   * code the JIT can inline. Field schemas are captured as they are now. Returns this schema if
+   * code generation is disabled with {@code -Djod.codegen=false} or not possible.
+   */
+  public Schema<T> compile() {
+    GeneratedValidator validator = ValidatorGenerator.generate(this);
+    return validator == null ? this : new GeneratedObjectSchema<>(this, validator);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T, F> ValidationResult<F> validateField(Field<T, F> field, Object value) {
+    return field.schema().validate((F) value);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T, F> ValidationResult<F> validateFieldFast(Field<T, F> field, Object value) {
+    return field.schema().validateFast((F) value);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T, F> boolean isFieldValid(Field<T, F> field, Object value) {
+    return field.schema().isValid((F) value);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T, F> ErrorCodeSet fieldCodes(Field<T, F> field, Object value) {
+    return field.schema().violatedCodes((F) value);
+  }
+
+  /** Creates a copy of the record with the changed field values, indexed by field. */
+  @SuppressWarnings("unchecked")
+  private T rebuild(T value, Object[] changed) {
+    Object[] arguments = new Object[components.length];
+    for (int i = 0; i < components.length; i++) {
+      arguments[i] = invoke(components[i], value);
+    }
+    for (int i = 0; i < fields.length; i++) {
+      if (changed[i] != null) {
+        arguments[fields[i].component()] = changed[i];
+      }
+    }
+    try {
+      return (T) (Object) constructor.invokeExact(arguments);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException("Cannot rebuild " + type.getName(), e);
+    }
+  }
+
+  private static Object invoke(MethodHandle accessor, Object value) {
+    try {
+      return (Object) accessor.invokeExact(value);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Builder for {@link ObjectSchema}. Fields are validated in the order they are added.
+   *
+   * @param <T> The type of the validated object
+   */
+  public static final class Builder<T> {
+
+    private final Class<T> type;
+    private final List<PendingField<T, ?>> fields = new ArrayList<>();
+
+    private record PendingField<T, F>(String name, Function<T, F> accessor, Schema<F> schema) {}
+
+    /** Creates a builder for objects of {@code type}; prefer {@code Jod.object(type)}. */
+    public Builder(Class<T> type) {
+      if (type == null) {
+        throw new IllegalArgumentException("Type cannot be null");
+      }
+      this.type = type;
+    }
+
+    /**
+     * Adds a field read by a method reference, such as a record component accessor ({@code
+     * User::name}) or a JavaBean getter ({@code User::getName}). The field name used in error paths
+     * is derived from the method when the schema is built.
+     */
+    public <F> Builder<T> field(Accessor<T, F> accessor, Schema<F> schema) {
+      return field(null, accessor, schema);
+    }
+
+    /** Adds a field with an explicit name, read by any function. */
+    public <F> Builder<T> field(String name, Function<T, F> accessor, Schema<F> schema) {
+      if (accessor == null || schema == null) {
+        throw new IllegalArgumentException("Accessor and schema cannot be null");
+      }
+      fields.add(new PendingField<>(name, accessor, schema));
+      return this;
+    }
+
+    /**
+     * Resolves field names and record components and creates the schema.
+     *
+     * @throws IllegalArgumentException if a field name cannot be derived from its accessor
+     */
+    public ObjectSchema<T> build() {
+      RecordComponent[] recordComponents = type.isRecord() ? type.getRecordComponents() : null;
+
+      @SuppressWarnings("unchecked")
+      Field<T, ?>[] resolved = (Field<T, ?>[]) new Field<?, ?>[fields.size()];
+      for (int i = 0; i < resolved.length; i++) {
+        resolved[i] = resolve(fields.get(i), recordComponents);
+      }
+      if (recordComponents == null) {
+        return new ObjectSchema<>(type, resolved, null, null);
+      }
+
+      MethodHandles.Lookup lookup = lookup();
+      MethodHandle[] components = new MethodHandle[recordComponents.length];
+      Class<?>[] parameterTypes = new Class<?>[recordComponents.length];
+      try {
+        for (int i = 0; i < recordComponents.length; i++) {
+          parameterTypes[i] = recordComponents[i].getType();
+          components[i] =
+              lookup
+                  .unreflect(recordComponents[i].getAccessor())
+                  .asType(MethodType.methodType(Object.class, Object.class));
+        }
+        MethodHandle constructor =
+            lookup
+                .findConstructor(type, MethodType.methodType(void.class, parameterTypes))
+                .asSpreader(Object[].class, parameterTypes.length)
+                .asType(MethodType.methodType(Object.class, Object[].class));
+        return new ObjectSchema<>(type, resolved, constructor, components);
+      } catch (ReflectiveOperationException e) {
+        throw new IllegalArgumentException("Cannot access record " + type.getName(), e);
+      }
+    }
+
+    private <F> Field<T, F> resolve(PendingField<T, F> field, RecordComponent[] recordComponents) {
+      Method method = field.accessor() instanceof Accessor<?, ?> ? accessedMethod(field) : null;
+      int component = Field.NO_COMPONENT;
+      if (method != null && recordComponents != null) {
+        for (int i = 0; i < recordComponents.length; i++) {
+          if (recordComponents[i].getAccessor().equals(method)) {
+            component = i;
+            break;
+          }
+        }
+      }
+
+      String name = field.name();
+      if (name == null && method != null) {
+        name = fieldName(method, component != Field.NO_COMPONENT);
+      }
+      if (name == null) {
+        throw new IllegalArgumentException(
+            "Cannot derive a field name of "
+                + type.getName()
+                + " from a lambda or an inaccessible method reference;"
+                + " use field(name, accessor, schema)");
+      }
+      return new Field<>(name, field.accessor(), field.schema(), component);
+    }
+
+    /**
+     * Returns the method a serializable method reference calls, or null for other lambdas and for
+     * method references that cannot be inspected, such as those of a module not open to Jod.
+     */
+    private Method accessedMethod(PendingField<T, ?> field) {
+      try {
+        Method writeReplace = field.accessor().getClass().getDeclaredMethod("writeReplace");
+        writeReplace.setAccessible(true);
+        SerializedLambda lambda = (SerializedLambda) writeReplace.invoke(field.accessor());
+        if (lambda.getImplMethodName().startsWith("lambda$")) {
+          return null;
+        }
+        Class<?> owner =
+            Class.forName(lambda.getImplClass().replace('/', '.'), false, type.getClassLoader());
+        return findMethod(owner, lambda.getImplMethodName());
+      } catch (ReflectiveOperationException | RuntimeException e) {
+        // Includes InaccessibleObjectException from setAccessible and ClassCastException
+        return null;
+      }
+    }
+
+    /**
+     * Finds a no-arg method declared by {@code owner}, a superclass or an interface; a method
+     * reference may name the type it was written against, which need not declare the method.
+     */
+    static Method findMethod(Class<?> owner, String name) throws NoSuchMethodException {
+      for (Class<?> c = owner; c != null; c = c.getSuperclass()) {
+        for (Method method : c.getDeclaredMethods()) {
+          if (method.getName().equals(name) && method.getParameterCount() == 0) {
+            return method;
+          }
+        }
+      }
+      // Default methods of interfaces
+      return owner.getMethod(name);
+    }
+
+    private static String fieldName(Method method, boolean recordComponent) {
+      String name = method.getName();
+      if (recordComponent) {
+        return name;
+      }
+      for (String prefix : new String[] {"get", "is"}) {
+        if (name.length() > prefix.length()
+            && name.startsWith(prefix)
+            && Character.isUpperCase(name.charAt(prefix.length()))) {
+          return Character.toLowerCase(name.charAt(prefix.length()))
+              + name.substring(prefix.length() + 1);
+        }
+      }
+      return name;
+    }
+
+    private MethodHandles.Lookup lookup() {
+      try {
+        return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+      } catch (IllegalAccessException e) {
+        throw new IllegalArgumentException("Cannot access " + type.getName(), e);
+      }
+    }
+  }
+}
@@ -1,33 +1,42 @@
 package dev.anchxt.jod.schema;
 
+import dev.anchxt.jod.core.ErrorCodeSet;
 import dev.anchxt.jod.core.Schema;
-import dev.anchxt.jod.core.ValidationError;
 import dev.anchxt.jod.core.ValidationResult;
+import dev.anchxt.jod.regex.LinearRegex;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 import java.util.function.UnaryOperator;
 import java.util.regex.Pattern;
 
 /**
  * Schema for validating and transforming String values. Supports constraints (min, max, email,
- * regex, uuid) and transformations (trim, toLowerCase, toUpperCase). Transformations are applied
- * before constraints.
+ * regex, regexLinear, uuid) and transformations (trim, toLowerCase, toUpperCase). Transformations
+ * are fused into a single step and applied before constraints.
+ *
+ * <p>Besides Strings, values can be validated as any {@link CharSequence} or as UTF-8 bytes in a
+ * {@link ByteBuffer}, so that invalid input is rejected before it is decoded into a String.
  */
 public class StringSchema implements Schema<String> {
 
-  private static final Pattern EMAIL_PATTERN =
-      Pattern.compile("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$");
-  private static final Pattern UUID_PATTERN =
-      Pattern.compile(
-          "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
-
-  private final List<UnaryOperator<String>> transformations = new ArrayList<>();
-  private final List<Constraint> constraints = new ArrayList<>();
+  private final List<StringTransform.Op> transformations = new ArrayList<>();
+  // All transformations fused into one operator; null when there are none
+  private UnaryOperator<String> transformation;
+  // Case conversion needs a String; trimming alone can be applied to any CharSequence as a view
+  private boolean trims;
+  private boolean convertsCase;
+  // Every built-in check only reads characters, so all of them accept any CharSequence
+  private final List<Constraint<CharSequence>> constraints = new ArrayList<>();
 
   /** Minimum length constraint. */
   public StringSchema min(int minLength) {
     constraints.add(
-        new Constraint(
+        new Constraint<>(
             value -> value.length() >= minLength,
             "String must be at least " + minLength + " characters",
             "STRING_TOO_SHORT"));
@@ -37,7 +46,7 @@ public class StringSchema implements Schema<String> {
   /** Maximum length constraint. */
   public StringSchema max(int maxLength) {
     constraints.add(
-        new Constraint(
+        new Constraint<>(
             value -> value.length() <= maxLength,
             "String must be at most " + maxLength + " characters",
             "STRING_TOO_LONG"));
@@ -47,20 +56,19 @@ public class StringSchema implements Schema<String> {
   /** Email format constraint. */
   public StringSchema email() {
     constraints.add(
-        new Constraint(
-            value -> EMAIL_PATTERN.matcher(value).matches(),
-            "Invalid email format",
-            "INVALID_EMAIL"));
+        new Constraint<>(
+            Formats::isEmail, "Invalid email format", "INVALID_EMAIL", Constraint.Cost.EXPENSIVE));
     return this;
   }
 
   /** Custom regex pattern constraint. */
   public StringSchema regex(Pattern pattern) {
     constraints.add(
-        new Constraint(
+        new Constraint<>(
             value -> pattern.matcher(value).matches(),
             "String does not match pattern: " + pattern.pattern(),
-            "REGEX_MISMATCH"));
+            "REGEX_MISMATCH",
+            Constraint.Cost.EXPENSIVE));
     return this;
   }
 
@@ -69,11 +77,29 @@ public class StringSchema implements Schema<String> {
     return regex(Pattern.compile(pattern));
   }
 
+  /**
+   * Regex pattern constraint matched in guaranteed linear time by a {@link LinearRegex}, immune to
+   * catastrophic backtracking on hostile input. Only the regular subset of the regex syntax is
+   * supported; anything else is rejected here rather than at validation time.
+   *
+   * @throws java.util.regex.PatternSyntaxException if the pattern is invalid or unsupported
+   */
+  public StringSchema regexLinear(String pattern) {
+    LinearRegex regex = LinearRegex.compile(pattern);
+    constraints.add(
+        new Constraint<>(
+            regex::matches,
+            "String does not match pattern: " + pattern,
+            "REGEX_MISMATCH",
+            Constraint.Cost.EXPENSIVE));
+    return this;
+  }
+
   /** UUID format constraint. */
   public StringSchema uuid() {
     constraints.add(
-        new Constraint(
-            value -> UUID_PATTERN.matcher(value).matches(), "Invalid UUID format", "INVALID_UUID"));
+        new Constraint<>(
+            Formats::isUuid, "Invalid UUID format", "INVALID_UUID", Constraint.Cost.EXPENSIVE));
     return this;
   }
 
@@ -81,19 +107,24 @@ public class StringSchema implements Schema<String> {
 
   /** Trims whitespace from both ends of the string. */
   public StringSchema trim() {
-    transformations.add(String::trim);
-    return this;
+    return transform(StringTransform.Op.TRIM);
   }
 
   /** Converts the string to lowercase. */
   public StringSchema toLowerCase() {
-    transformations.add(String::toLowerCase);
-    return this;
+    return transform(StringTransform.Op.LOWER_CASE);
   }
 
   /** Converts the string to uppercase. */
   public StringSchema toUpperCase() {
-    transformations.add(String::toUpperCase);
+    return transform(StringTransform.Op.UPPER_CASE);
+  }
+
+  private StringSchema transform(StringTransform.Op op) {
+    transformations.add(op);
+    transformation = StringTransform.fuse(transformations);
+    trims |= op == StringTransform.Op.TRIM;
+    convertsCase |= op != StringTransform.Op.TRIM;
     return this;
   }
 
@@ -102,34 +133,189 @@ public class StringSchema implements Schema<String> {
   @Override
   public ValidationResult<String> validate(String value) {
     if (value == null) {
-      return ValidationResult.failure("Value cannot be null", "NULL_VALUE");
+      return Constraint.NOT_NULL.failure();
     }
 
     // Apply transformations first
-    String transformed = value;
-    for (UnaryOperator<String> transform : transformations) {
-      transformed = transform.apply(transformed);
-    }
+    String transformed = applyTransformations(value);
+
+    ValidationResult<String> failure = Constraint.failures(constraints, transformed);
+    return failure != null ? failure : ValidationResult.success(transformed);
+  }
 
-    // Collect all constraint violations
-    List<ValidationError> errors = new ArrayList<>();
-    for (Constraint constraint : constraints) {
-      if (!constraint.test(transformed)) {
-        errors.add(ValidationError.of(constraint.message(), constraint.code()));
-      }
+  @Override
+  public ValidationResult<String> validateFast(String value) {
+    if (value == null) {
+      return Constraint.NOT_NULL.failure();
     }
 
-    if (errors.isEmpty()) {
+    String transformed = applyTransformations(value);
+    Constraint<CharSequence> failed = Constraint.firstFailure(constraints, transformed);
+    if (failed == null) {
       return ValidationResult.success(transformed);
     }
-    return ValidationResult.failure(errors);
+    return failed.failure();
+  }
+
+  /**
+   * Validates the value and parses it into a {@link UUID}. The UUID is decoded by the same scanner
+   * that checks the format, so there is no second parse through {@link UUID#fromString}. Fails with
+   * INVALID_UUID if the validated value is not a UUID, even when {@link #uuid()} was not added.
+   */
+  public ValidationResult<UUID> validateUuid(String value) {
+    return validate(value)
+        .flatMap(
+            valid -> {
+              UUID uuid = Formats.parseUuid(valid);
+              if (uuid == null) {
+                return ValidationResult.failure("Invalid UUID format", "INVALID_UUID");
+              }
+              return ValidationResult.success(uuid);
+            });
+  }
+
+  @Override
+  public boolean isValid(String value) {
+    return value != null
+        && Constraint.firstFailure(constraints, applyTransformations(value)) == null;
+  }
+
+  @Override
+  public ErrorCodeSet violatedCodes(String value) {
+    if (value == null) {
+      return Constraint.NOT_NULL.codes();
+    }
+    return Constraint.violatedCodes(constraints, applyTransformations(value));
+  }
+
+  /**
+   * Validates any character sequence, running the constraints on it directly. A String is only
+   * created for a valid value, or earlier when {@link #toLowerCase()} or {@link #toUpperCase()}
+   * needs one; trimming is applied as a view.
+   */
+  public ValidationResult<String> validate(CharSequence value) {
+    if (value == null) {
+      return Constraint.NOT_NULL.failure();
+    }
+
+    CharSequence transformed = applyTransformations(value);
+    ValidationResult<String> failure = Constraint.failures(constraints, transformed);
+    return failure != null ? failure : ValidationResult.success(transformed.toString());
+  }
+
+  /** Checks any character sequence without creating a String unless case conversion needs one. */
+  public boolean isValid(CharSequence value) {
+    return value != null
+        && Constraint.firstFailure(constraints, applyTransformations(value)) == null;
+  }
+
+  /**
+   * Validates UTF-8 text between the position and the limit of {@code utf8}, without moving its
+   * position. ASCII text, the common case for identifiers, emails and UUIDs, is checked in place
+   * and only decoded once it is valid. Other text is decoded first; malformed UTF-8 fails with
+   * INVALID_UTF8. Lengths are counted in UTF-16 units, as for Strings. Wrap a {@code byte[]} with
+   * {@link ByteBuffer#wrap(byte[], int, int)}.
+   */
+  public ValidationResult<String> validateUtf8(ByteBuffer utf8) {
+    if (utf8 == null) {
+      return Constraint.NOT_NULL.failure();
+    }
+
+    AsciiSequence ascii = AsciiSequence.of(utf8);
+    if (ascii != null) {
+      return validate(ascii);
+    }
+    String decoded = decodeUtf8(utf8);
+    if (decoded == null) {
+      return ValidationResult.failure("Invalid UTF-8", "INVALID_UTF8");
+    }
+    return validate(decoded);
   }
 
-  /** Internal constraint representation. */
-  private record Constraint(
-      java.util.function.Predicate<String> predicate, String message, String code) {
-    boolean test(String value) {
-      return predicate.test(value);
+  /**
+   * Checks UTF-8 text between the position and the limit of {@code utf8}. ASCII text is checked
+   * without decoding or allocating; malformed UTF-8 is invalid.
+   */
+  public boolean isValidUtf8(ByteBuffer utf8) {
+    if (utf8 == null) {
+      return false;
     }
+    AsciiSequence ascii = AsciiSequence.of(utf8);
+    if (ascii != null) {
+      return isValid(ascii);
+    }
+    String decoded = decodeUtf8(utf8);
+    return decoded != null && isValid(decoded);
+  }
+
+  private static String decodeUtf8(ByteBuffer utf8) {
+    try {
+      // A new decoder reports malformed input instead of replacing it
+      return StandardCharsets.UTF_8.newDecoder().decode(utf8.duplicate()).toString();
+    } catch (CharacterCodingException e) {
+      return null;
+    }
+  }
+
+  private String applyTransformations(String value) {
+    return transformation == null ? value : transformation.apply(value);
+  }
+
+  private CharSequence applyTransformations(CharSequence value) {
+    if (convertsCase) {
+      return applyTransformations(value.toString());
+    }
+    if (!trims) {
+      return value;
+    }
+    // Same definition of whitespace as String.trim()
+    int start = 0;
+    int end = value.length();
+    while (start < end && value.charAt(start) <= ' ') {
+      start++;
+    }
+    while (end > start && value.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    if (start == 0 && end == value.length()) {
+      return value;
+    }
+    return value instanceof AsciiSequence ascii
+        ? ascii.subSequence(start, end)
+        : CharBuffer.wrap(value, start, end);
+  }
+
+  /** Returns the fused transformations, or null when there are none. */
+  UnaryOperator<String> transformation() {
+    return transformation;
+  }
+
+  List<Constraint<CharSequence>> constraints() {
+    return List.copyOf(constraints);
+  }
+
+  /**
+   * Freezes the current transformations and constraints into an immutable, thread-safe schema.
+   * Later changes to this builder do not affect the compiled schema.
+   */
+  @SuppressWarnings("unchecked")
+  public CompiledSchema<String> compile() {
+    // Safe: a constraint on any CharSequence accepts every String
+    List<Constraint<String>> stringConstraints = (List<Constraint<String>>) (List<?>) constraints;
+    return new CompiledSchema<>(
+        String.class,
+        transformation == null ? List.of() : List.of(transformation),
+        stringConstraints);
+  }
+
+  /**
+   * Compiles this schema and memoizes its results for up to {@code maxEntries} distinct values, for
+   * traffic that repeats the same values. See {@link CachedSchema} for the eviction policy and
+   * hit/miss counters.
+   *
+   * @throws IllegalArgumentException If {@code maxEntries} is not positive
+   */
+  public CachedSchema<String> cached(int maxEntries) {
+    return new CachedSchema<>(compile(), maxEntries);
   }
 }
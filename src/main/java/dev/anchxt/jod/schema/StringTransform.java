@@ -0,0 +1,65 @@
+package dev.anchxt.jod.schema;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * Fuses a chain of the built-in string transformations into a single operator, planned once when
+ * the schema is built. Trimming commutes with case conversion, so any number of trims collapse into
+ * one that runs first, and repeated case conversions in a row collapse into one. The common chains
+ * get a dedicated operator, so they run as one call instead of a loop over steps. Every step
+ * returns its input instance when nothing changes.
+ */
+final class StringTransform {
+
+  enum Op {
+    TRIM,
+    LOWER_CASE,
+    UPPER_CASE
+  }
+
+  private static final UnaryOperator<String> TRIM = String::trim;
+  private static final UnaryOperator<String> LOWER_CASE = String::toLowerCase;
+  private static final UnaryOperator<String> UPPER_CASE = String::toUpperCase;
+  private static final UnaryOperator<String> TRIM_LOWER_CASE = value -> value.trim().toLowerCase();
+  private static final UnaryOperator<String> TRIM_UPPER_CASE = value -> value.trim().toUpperCase();
+
+  private StringTransform() {}
+
+  /** Returns a single operator equivalent to applying {@code ops} in order, or null if empty. */
+  static UnaryOperator<String> fuse(List<Op> ops) {
+    boolean trim = false;
+    List<Op> caseOps = new ArrayList<>();
+    for (Op op : ops) {
+      if (op == Op.TRIM) {
+        trim = true;
+      } else if (caseOps.isEmpty() || caseOps.getLast() != op) {
+        caseOps.add(op);
+      }
+    }
+
+    if (caseOps.size() > 1) {
+      List<UnaryOperator<String>> steps = caseOps.stream().map(StringTransform::step).toList();
+      boolean trimFirst = trim;
+      return value -> {
+        String transformed = trimFirst ? value.trim() : value;
+        for (UnaryOperator<String> step : steps) {
+          transformed = step.apply(transformed);
+        }
+        return transformed;
+      };
+    }
+    if (caseOps.isEmpty()) {
+      return trim ? TRIM : null;
+    }
+    if (caseOps.getFirst() == Op.LOWER_CASE) {
+      return trim ? TRIM_LOWER_CASE : LOWER_CASE;
+    }
+    return trim ? TRIM_UPPER_CASE : UPPER_CASE;
+  }
+
+  private static UnaryOperator<String> step(Op op) {
+    return op == Op.LOWER_CASE ? LOWER_CASE : UPPER_CASE;
+  }
+}
@@ -0,0 +1,582 @@
+package dev.anchxt.jod.schema;
+
+import dev.anchxt.jod.core.Schema;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates a {@link GeneratedValidator} for an {@link ObjectSchema} as a hidden class, turning the
+ * fields and their constraints into one straight-line method.
+ *
+ * <p>Every accessor, transformation and constraint predicate becomes a static final field of the
+ * generated class, initialized from its class data. The JIT treats static finals as constants, so
+ * calls on them are devirtualized and inlined, where the interpreter makes megamorphic calls
+ * through lists. Number and boolean constraints are tested on the unboxed value. Fields with any
+ * other schema are checked by calling {@link Schema#validate} on it.
+ *
+ * <p>The class is written in class file version 49, which is verified by type inference and so
+ * needs no stack map frames. Schemas too large for one method, whose code would exceed 64 KiB or
+ * need branches or constants beyond their 16-bit operands, are left to the interpreter; the reason
+ * is logged at DEBUG level. Generation is disabled with {@code -Djod.codegen=false}.
+ */
+final class ValidatorGenerator {
+
+  static final boolean ENABLED = !"false".equalsIgnoreCase(System.getProperty("jod.codegen"));
+
+  private static final System.Logger LOGGER = System.getLogger(ValidatorGenerator.class.getName());
+
+  // Limits of the class file format
+  private static final int MAX_CODE_LENGTH = 65535;
+  private static final int MAX_POOL_ENTRIES = 65535;
+
+  private static final String OBJECT = "java/lang/Object";
+  private static final String FUNCTION = "java/util/function/Function";
+  private static final String PREDICATE = "java/util/function/Predicate";
+  private static final String UNARY_OPERATOR = "java/util/function/UnaryOperator";
+  private static final String SCHEMA = "dev/anchxt/jod/core/Schema";
+  private static final String RESULT = "dev/anchxt/jod/core/ValidationResult";
+
+  // Local variable slots of check(Object)
+  private static final int VALUE = 1;
+  private static final int FIELD = 2;
+  private static final int CHANGED = 3;
+  private static final int PRIMITIVE = 4; // two slots for long and double
+  private static final int CHECKED = 6;
+
+  private final ConstantPool pool = new ConstantPool();
+  private final Code code = new Code();
+  private final List<Object> constants = new ArrayList<>();
+  private final List<String> constantTypes = new ArrayList<>();
+  private final String className;
+
+  private ValidatorGenerator() {
+    this.className =
+        ValidatorGenerator.class.getPackageName().replace('.', '/') + "/GeneratedValidator$Impl";
+  }
+
+  /**
+   * Returns a validator for the fields of {@code schema}, or null if generation is disabled or the
+   * class cannot be defined.
+   */
+  static GeneratedValidator generate(ObjectSchema<?> schema) {
+    if (!ENABLED) {
+      return null;
+    }
+    try {
+      ValidatorGenerator generator = new ValidatorGenerator();
+      byte[] bytes = generator.write(schema.fields());
+      MethodHandles.Lookup lookup =
+          MethodHandles.lookup()
+              .defineHiddenClassWithClassData(bytes, generator.constants.toArray(), true);
+      return (GeneratedValidator) lookup.lookupClass().getConstructor().newInstance();
+    } catch (LinkageError
+        | ReflectiveOperationException
+        | IOException
+        | IllegalArgumentException e) {
+      // The interpreter is always correct, so a schema that cannot be generated just falls back
+      LOGGER.log(System.Logger.Level.DEBUG, "Interpreting object schema: {0}", e.toString());
+      return null;
+    }
+  }
+
+  private byte[] write(List<? extends ObjectSchema.Field<?, ?>> fields) throws IOException {
+    int fail = code.newLabel();
+    code.op(Op.ICONST_0).local(Op.ISTORE, CHANGED);
+    for (ObjectSchema.Field<?, ?> field : fields) {
+      writeField(field, fail);
+    }
+    code.local(Op.ILOAD, CHANGED).op(Op.IRETURN);
+    code.bind(fail);
+    code.op(Op.ICONST_2).op(Op.IRETURN);
+    return writeClass(code.toByteArray());
+  }
+
+  private void writeField(ObjectSchema.Field<?, ?> field, int fail) {
+    code.field(Op.GETSTATIC, constant(field.accessor(), FUNCTION))
+        .local(Op.ALOAD, VALUE)
+        .invokeInterface(FUNCTION, "apply", "(Ljava/lang/Object;)Ljava/lang/Object;")
+        .local(Op.ASTORE, FIELD);
+
+    Schema<?> schema = field.schema();
+    boolean component = field.component() != ObjectSchema.Field.NO_COMPONENT;
+    Class<?> type = schema.getClass();
+    if (type == StringSchema.class) {
+      writeString((StringSchema) schema, component, fail);
+    } else if (type == IntSchema.class) {
+      writeUnboxed("java/lang/Integer", "intValue", "I", fail);
+      for (Object predicate : ((IntSchema) schema).predicates()) {
+        writeTest(predicate, "java/util/function/IntPredicate", "(I)Z", Op.ILOAD, fail);
+      }
+    } else if (type == LongSchema.class) {
+      writeUnboxed("java/lang/Long", "longValue", "J", fail);
+      for (Object predicate : ((LongSchema) schema).predicates()) {
+        writeTest(predicate, "java/util/function/LongPredicate", "(J)Z", Op.LLOAD, fail);
+      }
+    } else if (type == DoubleSchema.class) {
+      writeUnboxed("java/lang/Double", "doubleValue", "D", fail);
+      for (Object predicate : ((DoubleSchema) schema).predicates()) {
+        writeTest(predicate, "java/util/function/DoublePredicate", "(D)Z", Op.DLOAD, fail);
+      }
+    } else if (type == BooleanSchema.class) {
+      code.local(Op.ALOAD, FIELD).jump(Op.IFNULL, fail);
+      for (Constraint<Boolean> constraint : ((BooleanSchema) schema).constraints()) {
+        writeTest(
+            constraint.predicate(), PREDICATE, "(Ljava/lang/Object;)Z", Op.ALOAD, FIELD, fail);
+      }
+    } else {
+      writeSchema(schema, component, fail);
+    }
+  }
+
+  private void writeString(StringSchema schema, boolean component, int fail) {
+    code.local(Op.ALOAD, FIELD).jump(Op.IFNULL, fail);
+    if (schema.transformation() == null) {
+      code.local(Op.ALOAD, FIELD).local(Op.ASTORE, CHECKED);
+    } else {
+      code.field(Op.GETSTATIC, constant(schema.transformation(), UNARY_OPERATOR))
+          .local(Op.ALOAD, FIELD)
+          .invokeInterface(UNARY_OPERATOR, "apply", "(Ljava/lang/Object;)Ljava/lang/Object;")
+          .local(Op.ASTORE, CHECKED);
+      if (component) {
+        writeChangeCheck();
+      }
+    }
+    for (Constraint<CharSequence> constraint : schema.constraints()) {
+      writeTest(
+          constraint.predicate(), PREDICATE, "(Ljava/lang/Object;)Z", Op.ALOAD, CHECKED, fail);
+    }
+  }
+
+  private void writeSchema(Schema<?> schema, boolean component, int fail) {
+    code.field(Op.GETSTATIC, constant(schema, SCHEMA))
+        .local(Op.ALOAD, FIELD)
+        .invokeInterface(SCHEMA, "validate", "(Ljava/lang/Object;)L" + RESULT + ";")
+        .local(Op.ASTORE, CHECKED)
+        .local(Op.ALOAD, CHECKED)
+        .invokeInterface(RESULT, "isSuccess", "()Z")
+        .jump(Op.IFEQ, fail);
+    if (component) {
+      code.local(Op.ALOAD, CHECKED)
+          .invokeInterface(RESULT, "getValue", "()Ljava/lang/Object;")
+          .local(Op.ASTORE, CHECKED);
+      writeChangeCheck();
+    }
+  }
+
+  /** Sets the changed flag if the checked value is not the field value itself. */
+  private void writeChangeCheck() {
+    int same = code.newLabel();
+    code.local(Op.ALOAD, CHECKED)
+        .local(Op.ALOAD, FIELD)
+        .jump(Op.IF_ACMPEQ, same)
+        .op(Op.ICONST_1)
+        .local(Op.ISTORE, CHANGED);
+    code.bind(same);
+  }
+
+  private void writeUnboxed(String boxType, String method, String descriptor, int fail) {
+    int store =
+        switch (descriptor) {
+          case "J" -> Op.LSTORE;
+          case "D" -> Op.DSTORE;
+          default -> Op.ISTORE;
+        };
+    code.local(Op.ALOAD, FIELD)
+        .jump(Op.IFNULL, fail)
+        .local(Op.ALOAD, FIELD)
+        .type(Op.CHECKCAST, boxType)
+        .method(Op.INVOKEVIRTUAL, boxType, method, "()" + descriptor)
+        .local(store, PRIMITIVE);
+  }
+
+  private void writeTest(Object predicate, String type, String descriptor, int load, int fail) {
+    writeTest(predicate, type, descriptor, load, PRIMITIVE, fail);
+  }
+
+  private void writeTest(
+      Object predicate, String type, String descriptor, int load, int slot, int fail) {
+    code.field(Op.GETSTATIC, constant(predicate, type))
+        .local(load, slot)
+        .invokeInterface(type, "test", descriptor)
+        .jump(Op.IFEQ, fail);
+  }
+
+  /** Registers a constant for a static final field and returns its field reference. */
+  private int constant(Object value, String type) {
+    String name = "c" + constants.size();
+    constants.add(value);
+    constantTypes.add(type);
+    return pool.fieldRef(className, name, "L" + type + ";");
+  }
+
+  private byte[] writeClass(byte[] checkCode) throws IOException {
+    byte[] initCode =
+        new Code()
+            .local(Op.ALOAD, 0)
+            .method(Op.INVOKESPECIAL, OBJECT, "<init>", "()V")
+            .op(Op.RETURN)
+            .toByteArray();
+
+    Code clinit =
+        new Code()
+            .method(
+                Op.INVOKESTATIC,
+                "java/lang/invoke/MethodHandles",
+                "lookup",
+                "()Ljava/lang/invoke/MethodHandles$Lookup;")
+            .ldc(pool.string("_"))
+            .ldc(pool.classRef("[Ljava/lang/Object;"))
+            .method(
+                Op.INVOKESTATIC,
+                "java/lang/invoke/MethodHandles",
+                "classData",
+                "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/Class;)"
+                    + "Ljava/lang/Object;")
+            .type(Op.CHECKCAST, "[Ljava/lang/Object;")
+            .local(Op.ASTORE, 0);
+    for (int i = 0; i < constants.size(); i++) {
+      clinit
+          .local(Op.ALOAD, 0)
+          .push(i)
+          .op(Op.AALOAD)
+          .type(Op.CHECKCAST, constantTypes.get(i))
+          .field(Op.PUTSTATIC, pool.fieldRef(className, "c" + i, "L" + constantTypes.get(i) + ";"));
+    }
+    byte[] clinitCode = clinit.op(Op.RETURN).toByteArray();
+
+    int thisClass = pool.classRef(className);
+    int superClass = pool.classRef(OBJECT);
+    int validator = pool.classRef(GeneratedValidator.class.getName().replace('.', '/'));
+    int codeName = pool.utf8("Code");
+    int init = pool.utf8("<init>");
+    int voidDescriptor = pool.utf8("()V");
+    int clinitName = pool.utf8("<clinit>");
+    int checkName = pool.utf8("check");
+    int checkDescriptor = pool.utf8("(Ljava/lang/Object;)I");
+    int[] fieldNames = new int[constants.size()];
+    int[] fieldDescriptors = new int[constants.size()];
+    for (int i = 0; i < constants.size(); i++) {
+      fieldNames[i] = pool.utf8("c" + i);
+      fieldDescriptors[i] = pool.utf8("L" + constantTypes.get(i) + ";");
+    }
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+    out.writeInt(0xCAFEBABE);
+    out.writeShort(0); // minor version
+    out.writeShort(49); // major version: Java 5, the last without stack map frames
+    pool.writeTo(out);
+    out.writeShort(Access.FINAL | Access.SUPER);
+    out.writeShort(thisClass);
+    out.writeShort(superClass);
+    out.writeShort(1);
+    out.writeShort(validator);
+
+    out.writeShort(constants.size());
+    for (int i = 0; i < constants.size(); i++) {
+      out.writeShort(Access.PRIVATE | Access.STATIC | Access.FINAL);
+      out.writeShort(fieldNames[i]);
+      out.writeShort(fieldDescriptors[i]);
+      out.writeShort(0);
+    }
+
+    out.writeShort(3);
+    writeMethod(out, Access.PUBLIC, init, voidDescriptor, codeName, initCode, 1, 1);
+    writeMethod(out, Access.STATIC, clinitName, voidDescriptor, codeName, clinitCode, 3, 1);
+    writeMethod(out, Access.PUBLIC, checkName, checkDescriptor, codeName, checkCode, 4, 7);
+
+    out.writeShort(0); // class attributes
+    return bytes.toByteArray();
+  }
+
+  private static void writeMethod(
+      DataOutputStream out,
+      int access,
+      int name,
+      int descriptor,
+      int codeName,
+      byte[] code,
+      int maxStack,
+      int maxLocals)
+      throws IOException {
+    out.writeShort(access);
+    out.writeShort(name);
+    out.writeShort(descriptor);
+    out.writeShort(1);
+    out.writeShort(codeName);
+    out.writeInt(12 + code.length);
+    out.writeShort(maxStack);
+    out.writeShort(maxLocals);
+    out.writeInt(code.length);
+    out.write(code);
+    out.writeShort(0); // exception table
+    out.writeShort(0); // code attributes
+  }
+
+  private static final class Access {
+    static final int PUBLIC = 0x0001;
+    static final int PRIVATE = 0x0002;
+    static final int STATIC = 0x0008;
+    static final int FINAL = 0x0010;
+    static final int SUPER = 0x0020;
+  }
+
+  private static final class Op {
+    static final int ICONST_0 = 0x03;
+    static final int ICONST_1 = 0x04;
+    static final int ICONST_2 = 0x05;
+    static final int BIPUSH = 0x10;
+    static final int SIPUSH = 0x11;
+    static final int LDC_W = 0x13;
+    static final int ILOAD = 0x15;
+    static final int LLOAD = 0x16;
+    static final int DLOAD = 0x18;
+    static final int ALOAD = 0x19;
+    static final int AALOAD = 0x32;
+    static final int ISTORE = 0x36;
+    static final int LSTORE = 0x37;
+    static final int DSTORE = 0x39;
+    static final int ASTORE = 0x3a;
+    static final int IFEQ = 0x99;
+    static final int IF_ACMPEQ = 0xa5;
+    static final int IRETURN = 0xac;
+    static final int RETURN = 0xb1;
+    static final int GETSTATIC = 0xb2;
+    static final int PUTSTATIC = 0xb3;
+    static final int INVOKEVIRTUAL = 0xb6;
+    static final int INVOKESPECIAL = 0xb7;
+    static final int INVOKESTATIC = 0xb8;
+    static final int INVOKEINTERFACE = 0xb9;
+    static final int CHECKCAST = 0xc0;
+    static final int IFNULL = 0xc6;
+  }
+
+  /** Bytecode of one method, with forward branches to labels patched when they are bound. */
+  private final class Code {
+
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final List<int[]> labels = new ArrayList<>(); // {bound offset or -1}
+    private final List<int[]> jumps = new ArrayList<>(); // {label, opcode offset}
+    private byte[] patched;
+
+    Code op(int opcode) {
+      bytes.write(opcode);
+      return this;
+    }
+
+    Code local(int opcode, int slot) {
+      bytes.write(opcode);
+      bytes.write(slot);
+      return this;
+    }
+
+    Code push(int value) {
+      if (value > Short.MAX_VALUE) {
+        throw new IllegalArgumentException(
+            "Constant index " + value + " exceeds the range of SIPUSH");
+      }
+      if (value <= Byte.MAX_VALUE) {
+        bytes.write(Op.BIPUSH);
+        bytes.write(value);
+      } else {
+        bytes.write(Op.SIPUSH);
+        u2(value);
+      }
+      return this;
+    }
+
+    Code ldc(int index) {
+      bytes.write(Op.LDC_W);
+      u2(index);
+      return this;
+    }
+
+    Code field(int opcode, int fieldRef) {
+      bytes.write(opcode);
+      u2(fieldRef);
+      return this;
+    }
+
+    Code type(int opcode, String internalName) {
+      bytes.write(opcode);
+      u2(pool.classRef(internalName));
+      return this;
+    }
+
+    Code method(int opcode, String owner, String name, String descriptor) {
+      bytes.write(opcode);
+      u2(pool.methodRef(owner, name, descriptor, false));
+      return this;
+    }
+
+    Code invokeInterface(String owner, String name, String descriptor) {
+      bytes.write(Op.INVOKEINTERFACE);
+      u2(pool.methodRef(owner, name, descriptor, true));
+      bytes.write(1 + argumentSlots(descriptor));
+      bytes.write(0);
+      return this;
+    }
+
+    int newLabel() {
+      labels.add(new int[] {-1});
+      return labels.size() - 1;
+    }
+
+    void bind(int label) {
+      labels.get(label)[0] = bytes.size();
+    }
+
+    Code jump(int opcode, int label) {
+      jumps.add(new int[] {label, bytes.size()});
+      bytes.write(opcode);
+      u2(0);
+      return this;
+    }
+
+    byte[] toByteArray() {
+      if (patched == null) {
+        if (bytes.size() > MAX_CODE_LENGTH) {
+          throw new IllegalArgumentException(
+              "Method code of " + bytes.size() + " bytes exceeds " + MAX_CODE_LENGTH);
+        }
+        patched = bytes.toByteArray();
+        for (int[] jump : jumps) {
+          int offset = labels.get(jump[0])[0] - jump[1];
+          if (offset < Short.MIN_VALUE || offset > Short.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                "Branch offset " + offset + " exceeds the range of a 16-bit branch");
+          }
+          patched[jump[1] + 1] = (byte) (offset >> 8);
+          patched[jump[1] + 2] = (byte) offset;
+        }
+      }
+      return patched;
+    }
+
+    private void u2(int value) {
+      bytes.write(value >> 8);
+      bytes.write(value);
+    }
+
+    private static int argumentSlots(String descriptor) {
+      int slots = 0;
+      for (int i = 1; descriptor.charAt(i) != ')'; i++) {
+        char c = descriptor.charAt(i);
+        if (c == 'L') {
+          i = descriptor.indexOf(';', i);
+        }
+        slots += c == 'J' || c == 'D' ? 2 : 1;
+      }
+      return slots;
+    }
+  }
+
+  /** Constant pool with deduplicated entries. */
+  private static final class ConstantPool {
+
+    private static final int UTF8 = 1;
+    private static final int CLASS = 7;
+    private static final int STRING = 8;
+    private static final int FIELD_REF = 9;
+    private static final int METHOD_REF = 10;
+    private static final int INTERFACE_METHOD_REF = 11;
+    private static final int NAME_AND_TYPE = 12;
+
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final DataOutputStream out = new DataOutputStream(bytes);
+    private final Map<String, Integer> indices = new HashMap<>();
+    private int count = 1;
+
+    int utf8(String value) {
+      return entry(
+          "U" + value,
+          () -> {
+            out.writeByte(UTF8);
+            out.writeUTF(value);
+          });
+    }
+
+    int classRef(String internalName) {
+      int name = utf8(internalName);
+      return entry(
+          "C" + internalName,
+          () -> {
+            out.writeByte(CLASS);
+            out.writeShort(name);
+          });
+    }
+
+    int string(String value) {
+      int utf8 = utf8(value);
+      return entry(
+          "S" + value,
+          () -> {
+            out.writeByte(STRING);
+            out.writeShort(utf8);
+          });
+    }
+
+    int fieldRef(String owner, String name, String descriptor) {
+      return member(FIELD_REF, owner, name, descriptor);
+    }
+
+    int methodRef(String owner, String name, String descriptor, boolean isInterface) {
+      return member(isInterface ? INTERFACE_METHOD_REF : METHOD_REF, owner, name, descriptor);
+    }
+
+    private int member(int tag, String owner, String name, String descriptor) {
+      int ownerClass = classRef(owner);
+      int nameIndex = utf8(name);
+      int descriptorIndex = utf8(descriptor);
+      int nameAndType =
+          entry(
+              "N" + name + " " + descriptor,
+              () -> {
+                out.writeByte(NAME_AND_TYPE);
+                out.writeShort(nameIndex);
+                out.writeShort(descriptorIndex);
+              });
+      return entry(
+          tag + owner + "." + name + descriptor,
+          () -> {
+            out.writeByte(tag);
+            out.writeShort(ownerClass);
+            out.writeShort(nameAndType);
+          });
+    }
+
+    void writeTo(DataOutputStream target) throws IOException {
+      target.writeShort(count);
+      bytes.writeTo(target);
+    }
+
+    private int entry(String key, Writer writer) {
+      Integer index = indices.get(key);
+      if (index != null) {
+        return index;
+      }
+      if (count >= MAX_POOL_ENTRIES) {
+        throw new IllegalArgumentException(
+            "Constant pool exceeds " + MAX_POOL_ENTRIES + " entries");
+      }
+      try {
+        writer.write();
+      } catch (IOException e) {
+        throw new IllegalStateException(e);
+      }
+      indices.put(key, count);
+      return count++;
+    }
+
+    @FunctionalInterface
+    private interface Writer {
+      void write() throws IOException;
+    }
+  }
+}
@@ -0,0 +1,46 @@
+package dev.anchxt.jod.schema;
+
+import dev.anchxt.jod.core.Schema;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The Java types that the built-in schemas validate, for the JSON and CSV validators, which build
+ * values for schemas they cannot feed directly. Checking the type first keeps a value of the wrong
+ * type away from the schema, so a {@link ClassCastException} from a schema is always a bug.
+ */
+final class ValueTypes {
+
+  private ValueTypes() {}
+
+  /** Returns the type of the values a schema validates, or null if it is not known. */
+  static Class<?> of(Schema<?> schema) {
+    if (schema instanceof CachedSchema<?> cached) {
+      schema = cached.schema();
+    }
+    if (schema instanceof GeneratedObjectSchema<?> generated) {
+      schema = generated.interpreter();
+    }
+    return switch (schema) {
+      case CompiledSchema<?> compiled -> compiled.type();
+      case StringSchema string -> String.class;
+      case NumberSchema<?, ?> number -> number.valueType();
+      case BooleanSchema bool -> Boolean.class;
+      case ObjectSchema<?> object -> object.type();
+      case ListSchema<?> list -> List.class;
+      case MapSchema<?, ?> map -> Map.class;
+      default -> null;
+    };
+  }
+
+  /** Converts an integer to a long or double for schemas of those types. */
+  static Object widen(Object value, Class<?> type) {
+    if (type == Long.class && value instanceof Integer number) {
+      return number.longValue();
+    }
+    if (type == Double.class && (value instanceof Integer || value instanceof Long)) {
+      return ((Number) value).doubleValue();
+    }
+    return value;
+  }
+}
@@ -0,0 +1,141 @@
+package dev.anchxt.jod.schema;
+
+import dev.anchxt.jod.schema.NumberSchema.Kind;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD kernels for bulk numeric validation built on the incubating Vector API. Each kernel compares
+ * a whole vector of lanes per step and ORs the resulting lane mask into the failure bitmask used by
+ * {@link BulkValidationResult}. Only touch this class when {@link VectorSupport#ENABLED} is true.
+ *
+ * <p>Kernels process the largest prefix of the array that is a multiple of the vector length and
+ * return its size; the caller finishes the tail with its scalar loop. A kernel returns 0 when it
+ * cannot reproduce the scalar semantics exactly (non power-of-two divisors, signed-zero and NaN
+ * bounds for doubles), which leaves the whole array to the scalar loop. The species lane counts are
+ * powers of two no larger than 64, so a lane mask never straddles two bitmask words.
+ */
+final class VectorKernels {
+
+  private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+  private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+  private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+  private VectorKernels() {
+    // Utility class - prevent instantiation
+  }
+
+  /** Marks the elements violating the int constraint. Returns the number of elements processed. */
+  static int intMask(Kind kind, int operand, int[] values, long[] failed) {
+    int bound = INTS.loopBound(values.length);
+    switch (kind) {
+      case MIN -> compare(values, bound, VectorOperators.LT, operand, failed);
+      case MAX -> compare(values, bound, VectorOperators.GT, operand, failed);
+      case POSITIVE -> compare(values, bound, VectorOperators.LE, 0, failed);
+      case NEGATIVE -> compare(values, bound, VectorOperators.GE, 0, failed);
+      case MULTIPLE_OF -> {
+        // For a power-of-two divisor m, value % m == 0 exactly when the low bits are clear
+        int m = Math.abs(operand);
+        if (m == 0 || (m & (m - 1)) != 0) {
+          return 0;
+        }
+        int lowBits = m - 1;
+        for (int i = 0; i < bound; i += INTS.length()) {
+          IntVector vector = IntVector.fromArray(INTS, values, i).and(lowBits);
+          failed[i >>> 6] |= vector.compare(VectorOperators.NE, 0).toLong() << i;
+        }
+      }
+    }
+    return bound;
+  }
+
+  /** Marks the elements violating the long constraint. Returns the number of elements processed. */
+  static int longMask(Kind kind, long operand, long[] values, long[] failed) {
+    int bound = LONGS.loopBound(values.length);
+    switch (kind) {
+      case MIN -> compare(values, bound, VectorOperators.LT, operand, failed);
+      case MAX -> compare(values, bound, VectorOperators.GT, operand, failed);
+      case POSITIVE -> compare(values, bound, VectorOperators.LE, 0L, failed);
+      case NEGATIVE -> compare(values, bound, VectorOperators.GE, 0L, failed);
+      case MULTIPLE_OF -> {
+        long m = Math.abs(operand);
+        if (m == 0L || (m & (m - 1)) != 0L) {
+          return 0;
+        }
+        long lowBits = m - 1;
+        for (int i = 0; i < bound; i += LONGS.length()) {
+          LongVector vector = LongVector.fromArray(LONGS, values, i).and(lowBits);
+          failed[i >>> 6] |= vector.compare(VectorOperators.NE, 0L).toLong() << i;
+        }
+      }
+    }
+    return bound;
+  }
+
+  /**
+   * Marks the elements violating the double constraint. Returns the number of elements processed.
+   * The scalar bounds use {@link Double#compare}, which orders -0.0 below 0.0 and NaN above
+   * everything; IEEE comparisons agree with it except for zero or NaN bounds, which are left to the
+   * scalar loop, and NaN values against a max, which are added explicitly.
+   */
+  static int doubleMask(Kind kind, double operand, double[] values, long[] failed) {
+    int bound = DOUBLES.loopBound(values.length);
+    switch (kind) {
+      case MIN -> {
+        if (operand == 0.0 || Double.isNaN(operand)) {
+          return 0;
+        }
+        for (int i = 0; i < bound; i += DOUBLES.length()) {
+          DoubleVector vector = DoubleVector.fromArray(DOUBLES, values, i);
+          failed[i >>> 6] |= vector.compare(VectorOperators.LT, operand).toLong() << i;
+        }
+      }
+      case MAX -> {
+        if (operand == 0.0 || Double.isNaN(operand)) {
+          return 0;
+        }
+        for (int i = 0; i < bound; i += DOUBLES.length()) {
+          DoubleVector vector = DoubleVector.fromArray(DOUBLES, values, i);
+          var mask =
+              vector.compare(VectorOperators.GT, operand).or(vector.test(VectorOperators.IS_NAN));
+          failed[i >>> 6] |= mask.toLong() << i;
+        }
+      }
+      case POSITIVE -> {
+        for (int i = 0; i < bound; i += DOUBLES.length()) {
+          DoubleVector vector = DoubleVector.fromArray(DOUBLES, values, i);
+          failed[i >>> 6] |= vector.compare(VectorOperators.GT, 0.0).not().toLong() << i;
+        }
+      }
+      case NEGATIVE -> {
+        for (int i = 0; i < bound; i += DOUBLES.length()) {
+          DoubleVector vector = DoubleVector.fromArray(DOUBLES, values, i);
+          failed[i >>> 6] |= vector.compare(VectorOperators.LT, 0.0).not().toLong() << i;
+        }
+      }
+      case MULTIPLE_OF -> {
+        return 0;
+      }
+    }
+    return bound;
+  }
+
+  private static void compare(
+      int[] values, int bound, VectorOperators.Comparison failWhen, int operand, long[] failed) {
+    for (int i = 0; i < bound; i += INTS.length()) {
+      IntVector vector = IntVector.fromArray(INTS, values, i);
+      failed[i >>> 6] |= vector.compare(failWhen, operand).toLong() << i;
+    }
+  }
+
+  private static void compare(
+      long[] values, int bound, VectorOperators.Comparison failWhen, long operand, long[] failed) {
+    for (int i = 0; i < bound; i += LONGS.length()) {
+      LongVector vector = LongVector.fromArray(LONGS, values, i);
+      failed[i >>> 6] |= vector.compare(failWhen, operand).toLong() << i;
+    }
+  }
+}
@@ -0,0 +1,21 @@
+package dev.anchxt.jod.schema;
+
+/**
+ * Detects whether the incubating Vector API ({@code jdk.incubator.vector}) can be used. Bulk
+ * numeric validation routes through {@link VectorKernels} only when it can, and stays on the scalar
+ * loops otherwise. The module is enabled with {@code --add-modules jdk.incubator.vector}; {@code
+ * -Djod.vector=false} forces the scalar path even when it is.
+ *
+ * <p>Kept separate from {@link VectorKernels} so that checking the flag never loads a class that
+ * links against the incubator module.
+ */
+final class VectorSupport {
+
+  static final boolean ENABLED =
+      !"false".equalsIgnoreCase(System.getProperty("jod.vector"))
+          && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+  private VectorSupport() {
+    // Utility class - prevent instantiation
+  }
+}
@@ -0,0 +1,137 @@
+package dev.anchxt.jod;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import dev.anchxt.jod.core.Schema;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("RecordFileValidator")
+class RecordFileValidatorTest {
+
+  public record User(String name, int age) {}
+
+  /** Supplies the schema to the command line, as user code would. */
+  public static class UserSchema implements Supplier<Schema<?>> {
+    @Override
+    public Schema<?> get() {
+      return Jod.object(User.class)
+          .field(User::name, Jod.string().min(2))
+          .field(User::age, Jod.intType().min(0))
+          .build();
+    }
+  }
+
+  @TempDir Path directory;
+
+  private Path write(String name, String content) throws IOException {
+    return Files.writeString(directory.resolve(name), content);
+  }
+
+  @Nested
+  @DisplayName("Scanning")
+  class Scanning {
+
+    @Test
+    void shouldReportInvalidLinesWithOffsetsAcrossChunks() throws IOException {
+      StringBuilder ndjson = new StringBuilder();
+      for (int i = 0; i < 200; i++) {
+        String name = i % 50 == 7 ? "X" : "User" + i;
+        ndjson.append("{\"name\": \"").append(name).append("\", \"age\": ").append(i).append("}\n");
+        if (i == 100) {
+          ndjson.append("\r\n");
+        }
+      }
+      Path file = write("users.ndjson", ndjson.toString());
+      String content = ndjson.toString();
+
+      // Chunks of about 100 bytes split the file into many ranges scanned on 3 threads
+      var report =
+          new RecordFileValidator(
+                  new UserSchema().get(), RecordFileValidator.Format.NDJSON, 3, 10, 100)
+              .validate(file);
+
+      assertThat(report.records()).isEqualTo(200);
+      assertThat(report.invalidRecords()).isEqualTo(4);
+      assertThat(report.invalid())
+          .extracting(RecordFileValidator.Invalid::line, RecordFileValidator.Invalid::offset)
+          .containsExactly(
+              tuple(8L, (long) content.indexOf("\"X\", \"age\": 7}") - 9),
+              tuple(58L, (long) content.indexOf("\"X\", \"age\": 57}") - 9),
+              tuple(109L, (long) content.indexOf("\"X\", \"age\": 107}") - 9),
+              tuple(159L, (long) content.indexOf("\"X\", \"age\": 157}") - 9));
+    }
+
+    @Test
+    void shouldValidateCsvAfterHeader() throws IOException {
+      Path file = write("users.csv", "name,age\r\nAda,36\r\nX,1\r\nBob,-1\r\n");
+
+      var report =
+          new RecordFileValidator(new UserSchema().get(), RecordFileValidator.Format.CSV, 2, 1)
+              .validate(file);
+
+      assertThat(report.records()).isEqualTo(3);
+      assertThat(report.invalidRecords()).isEqualTo(2);
+      assertThat(report.invalid())
+          .singleElement()
+          .satisfies(
+              invalid -> {
+                assertThat(invalid.line()).isEqualTo(3);
+                assertThat(invalid.offset()).isEqualTo(18);
+              });
+    }
+  }
+
+  @Nested
+  @DisplayName("Main")
+  class CommandLine {
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    private int run(String... args) {
+      return Main.run(
+          args,
+          new PrintStream(out, true, StandardCharsets.UTF_8),
+          new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldPrintInvalidLinesAndSummary() throws IOException {
+      Path file = write("users.csv", "name,age\nAda,36\nX,1\n");
+
+      int status = run("--schema", UserSchema.class.getName(), file.toString());
+
+      assertThat(status).isEqualTo(1);
+      assertThat(out.toString(StandardCharsets.UTF_8))
+          .startsWith(
+              "offset 16, line 3: name: String must be at least 2 characters (STRING_TOO_SHORT)")
+          .contains("2 records, 1 valid, 1 invalid");
+    }
+
+    @Test
+    void shouldExitWithZeroForValidFile() throws IOException {
+      Path file = write("users.ndjson", "{\"name\": \"Ada\", \"age\": 36}\n");
+
+      assertThat(run("--threads", "1", "--schema", UserSchema.class.getName(), file.toString()))
+          .isZero();
+    }
+
+    @Test
+    void shouldPrintUsageForBadArguments() {
+      assertThat(run("--format", "xml")).isEqualTo(2);
+      assertThat(err.toString(StandardCharsets.UTF_8)).contains("Usage:");
+      assertThat(run("--schema", "com.example.Missing", "file.ndjson")).isEqualTo(2);
+    }
+  }
+}
@@ -0,0 +1,151 @@
+package dev.anchxt.jod.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import dev.anchxt.jod.Jod;
+import dev.anchxt.jod.core.AsyncSchema;
+import dev.anchxt.jod.core.ValidationError;
+import dev.anchxt.jod.core.ValidationResult;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AsyncValidator")
+class AsyncValidatorTest {
+
+  record User(String email, String team) {}
+
+  private static final Set<String> TAKEN = Set.of("taken@example.com");
+  private static final Set<String> TEAMS = Set.of("core", "web");
+
+  private final List<Set<String>> emailCalls = new CopyOnWriteArrayList<>();
+  private final List<Set<String>> teamCalls = new CopyOnWriteArrayList<>();
+
+  private final BatchLoaderTest.ManualTicks ticks = new BatchLoaderTest.ManualTicks();
+
+  private AsyncValidator<User> schema() {
+    var emailFree =
+        new BatchLoader<String, Boolean>(
+            emails -> {
+              emailCalls.add(Set.copyOf(emails));
+              return emails.stream().collect(Collectors.toMap(e -> e, e -> !TAKEN.contains(e)));
+            },
+            ticks,
+            Integer.MAX_VALUE,
+            Runnable::run);
+    var teamExists =
+        new BatchLoader<String, Boolean>(
+            teams -> {
+              teamCalls.add(Set.copyOf(teams));
+              return teams.stream()
+                  .filter(TEAMS::contains)
+                  .collect(Collectors.toMap(t -> t, t -> true));
+            },
+            ticks,
+            Integer.MAX_VALUE,
+            Runnable::run);
+    return Jod.async(
+            Jod.object(User.class)
+                .field(User::email, Jod.string().trim().email())
+                .field(User::team, Jod.string().min(1))
+                .build())
+        .check("email", User::email, emailFree, "Email is already registered", "EMAIL_TAKEN")
+        .check("team", User::team, teamExists, "Team does not exist", "UNKNOWN_TEAM");
+  }
+
+  /** Validates the value and ends the tick, so that its lookups are sent. */
+  private ValidationResult<User> validate(AsyncValidator<User> schema, User user) {
+    var result = schema.validateAsync(user);
+    ticks.end();
+    return result.join();
+  }
+
+  @Nested
+  @DisplayName("Validation")
+  class Validation {
+
+    @Test
+    void shouldReportFailedLookupsInCheckOrder() {
+      var result = validate(schema(), new User("taken@example.com", "ops"));
+
+      assertThat(result.getErrors())
+          .extracting(ValidationError::path, ValidationError::code)
+          .containsExactly(tuple("email", "EMAIL_TAKEN"), tuple("team", "UNKNOWN_TEAM"));
+    }
+
+    @Test
+    void shouldLookUpTheValidatedValue() {
+      var result = validate(schema(), new User("  ada@example.com ", "core"));
+
+      assertThat(result.getValue()).isEqualTo(new User("ada@example.com", "core"));
+      assertThat(emailCalls).containsExactly(Set.of("ada@example.com"));
+    }
+
+    @Test
+    void shouldSkipLookupsForInvalidValues() {
+      var result = validate(schema(), new User("not an email", "core"));
+
+      assertThat(result.getErrors())
+          .extracting(ValidationError::code)
+          .containsExactly("INVALID_EMAIL");
+      assertThat(emailCalls).isEmpty();
+      assertThat(teamCalls).isEmpty();
+    }
+
+    @Test
+    void shouldBatchLookupsOfConcurrentValidations() {
+      var schema = schema();
+
+      List<CompletableFuture<ValidationResult<User>>> results = new ArrayList<>();
+      Set<String> emails = new HashSet<>();
+      for (int i = 0; i < 100; i++) {
+        String email = i == 42 ? "taken@example.com" : "user" + i + "@example.com";
+        emails.add(email);
+        results.add(schema.validateAsync(new User(email, i % 2 == 0 ? "core" : "web")));
+      }
+      assertThat(results).noneMatch(CompletableFuture::isDone);
+      ticks.end();
+
+      assertThat(emailCalls).containsExactly(emails);
+      assertThat(teamCalls).containsExactly(Set.of("core", "web"));
+      assertThat(results)
+          .filteredOn(result -> result.join().isFailure())
+          .singleElement()
+          .satisfies(
+              result ->
+                  assertThat(result.join().getErrors())
+                      .extracting(ValidationError::code)
+                      .containsExactly("EMAIL_TAKEN"));
+    }
+
+    @Test
+    void shouldAdaptSynchronousSchemas() {
+      AsyncSchema<String> schema = AsyncSchema.of(Jod.string().min(2));
+
+      assertThat(schema.validateAsync("a"))
+          .isCompletedWithValueMatching(ValidationResult::isFailure);
+    }
+
+    @Test
+    void shouldPassMapsOfPresentKeysOnly() {
+      var loader = new BatchLoader<String, Boolean>(keys -> Map.of());
+
+      var result =
+          Jod.async(Jod.string())
+              .check("", s -> s, loader, "Unknown", "UNKNOWN")
+              .validateAsync("x")
+              .join();
+
+      assertThat(result.getErrors()).extracting(ValidationError::code).containsExactly("UNKNOWN");
+    }
+  }
+}
@@ -0,0 +1,155 @@
+package dev.anchxt.jod.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BatchLoader")
+class BatchLoaderTest {
+
+  /** An in-memory backend recording the key sets of its calls. */
+  static final class Lengths implements Function<Set<String>, Map<String, Integer>> {
+
+    final List<Set<String>> calls = new CopyOnWriteArrayList<>();
+
+    @Override
+    public Map<String, Integer> apply(Set<String> keys) {
+      calls.add(Set.copyOf(keys));
+      return keys.stream()
+          .filter(key -> !key.isEmpty())
+          .collect(Collectors.toMap(key -> key, String::length));
+    }
+  }
+
+  /** Queues the end-of-tick dispatches of batches until the test ends the tick. */
+  static final class ManualTicks implements Executor {
+
+    private final Queue<Runnable> queued = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void execute(Runnable dispatch) {
+      queued.add(dispatch);
+    }
+
+    /** Ends the current tick, dispatching every open batch. */
+    void end() {
+      for (Runnable dispatch; (dispatch = queued.poll()) != null; ) {
+        dispatch.run();
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("Batching")
+  class Batching {
+
+    @Test
+    void shouldGroupConcurrentLoadsIntoOneCall() throws Exception {
+      Lengths backend = new Lengths();
+      ManualTicks ticks = new ManualTicks();
+      var loader = new BatchLoader<>(backend, ticks, Integer.MAX_VALUE, Runnable::run);
+
+      List<CompletableFuture<Integer>> futures = new CopyOnWriteArrayList<>();
+      List<Thread> threads = new ArrayList<>();
+      for (int i = 0; i < 50; i++) {
+        String key = "k".repeat(i % 10 + 1);
+        threads.add(Thread.ofVirtual().start(() -> futures.add(loader.load(key))));
+      }
+      for (Thread thread : threads) {
+        thread.join();
+      }
+      assertThat(futures).hasSize(50).noneMatch(CompletableFuture::isDone);
+      ticks.end();
+
+      assertThat(futures).allSatisfy(future -> assertThat(future).isDone());
+      assertThat(futures)
+          .extracting(CompletableFuture::join)
+          .containsOnly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+      assertThat(backend.calls)
+          .containsExactly(
+              IntStream.rangeClosed(1, 10).mapToObj("k"::repeat).collect(Collectors.toSet()));
+    }
+
+    @Test
+    void shouldSendFullBatchesBeforeTheTickEnds() {
+      Lengths backend = new Lengths();
+      ManualTicks ticks = new ManualTicks();
+      var loader = new BatchLoader<>(backend, ticks, 4, Runnable::run);
+
+      List<CompletableFuture<Integer>> futures = new ArrayList<>();
+      for (String key : List.of("a", "bb", "a", "ccc", "dddd", "eeeee")) {
+        futures.add(loader.load(key));
+      }
+
+      assertThat(backend.calls).containsExactly(Set.of("a", "bb", "ccc", "dddd"));
+      assertThat(futures.subList(0, 5)).allSatisfy(future -> assertThat(future).isDone());
+      assertThat(futures.get(1).join()).isEqualTo(2);
+      assertThat(futures.get(5)).isNotDone();
+
+      ticks.end();
+      assertThat(backend.calls).containsExactly(Set.of("a", "bb", "ccc", "dddd"), Set.of("eeeee"));
+      assertThat(futures.get(5).join()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldSendBatchesWhenRealTicksEnd() {
+      var loader = new BatchLoader<>(new Lengths());
+
+      assertThat(loader.load("abc")).succeedsWithin(Duration.ofSeconds(5)).isEqualTo(3);
+    }
+
+    @Test
+    void shouldLoadMissingKeysAsNullAndFailOnBackendErrors() {
+      var loader = new BatchLoader<>(new Lengths(), Duration.ZERO, 1, Runnable::run);
+      var failing =
+          new BatchLoader<String, Integer>(
+              keys -> {
+                throw new IllegalStateException("backend down");
+              },
+              Duration.ZERO,
+              1,
+              Runnable::run);
+
+      assertThat(loader.load("").join()).isNull();
+      assertThatThrownBy(() -> failing.load("a").join())
+          .isInstanceOf(CompletionException.class)
+          .hasRootCauseMessage("backend down");
+    }
+
+    @Test
+    void shouldFailTheBatchAndRethrowErrors() {
+      List<CompletableFuture<Integer>> futures = new ArrayList<>();
+      ManualTicks ticks = new ManualTicks();
+      var loader =
+          new BatchLoader<String, Integer>(
+              keys -> {
+                throw new StackOverflowError("deep");
+              },
+              ticks,
+              Integer.MAX_VALUE,
+              Runnable::run);
+      futures.add(loader.load("a"));
+      futures.add(loader.load("b"));
+
+      assertThatThrownBy(ticks::end).isInstanceOf(StackOverflowError.class);
+      assertThat(futures).allSatisfy(future -> assertThat(future).isCompletedExceptionally());
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package dev.anchxt.jod.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ErrorCodeSet")
+class ErrorCodeSetTest {
+
+  @Nested
+  @DisplayName("ErrorCode")
+  class ErrorCodeTests {
+
+    @Test
+    void shouldResolveStandardCodes() {
+      assertThat(ErrorCode.of("STRING_TOO_SHORT")).isSameAs(StandardErrorCode.STRING_TOO_SHORT);
+      assertThat(ValidationError.of("Too short", "STRING_TOO_SHORT").errorCode())
+          .isSameAs(StandardErrorCode.STRING_TOO_SHORT);
+    }
+
+    @Test
+    void shouldInternCustomCodes() {
+      ErrorCode code = ErrorCode.of("CUSTOM_INTERNED");
+
+      assertThat(ErrorCode.of(new String("CUSTOM_INTERNED"))).isSameAs(code);
+      assertThat(code.name()).isEqualTo("CUSTOM_INTERNED");
+      assertThat(code.id()).isGreaterThanOrEqualTo(StandardErrorCode.values().length);
+      assertThat(new ValidationError("", "Custom", code).code()).isEqualTo("CUSTOM_INTERNED");
+    }
+
+    @Test
+    void shouldRegisterCodesOfErrorsOnlyWhenRead() {
+      var error = ValidationError.of("Runtime code", "CUSTOM_LAZY").withPathPrefix("field");
+
+      assertThat(ErrorCodes.isRegistered("CUSTOM_LAZY")).isFalse();
+      assertThat(error.errorCode()).isSameAs(ErrorCode.of("CUSTOM_LAZY"));
+      assertThat(ErrorCodes.isRegistered("CUSTOM_LAZY")).isTrue();
+    }
+  }
+
+  @Test
+  void shouldTrackStandardCodesInFirstWord() {
+    var set = ErrorCodeSet.of(StandardErrorCode.NULL_VALUE, StandardErrorCode.NOT_TRUE);
+
+    assertThat(set.bits())
+        .isEqualTo(1L << StandardErrorCode.NULL_VALUE.id() | 1L << StandardErrorCode.NOT_TRUE.id());
+    assertThat(set.contains(StandardErrorCode.NOT_TRUE)).isTrue();
+    assertThat(set.contains(StandardErrorCode.NOT_FALSE)).isFalse();
+    assertThat(set.standardCodes())
+        .isEqualTo(EnumSet.of(StandardErrorCode.NULL_VALUE, StandardErrorCode.NOT_TRUE));
+    assertThat(set.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldReuseOperandsContainingTheOther() {
+    var one = ErrorCodeSet.of(StandardErrorCode.NOT_TRUE);
+    var two = one.with(StandardErrorCode.NOT_FALSE);
+
+    assertThat(one.with(StandardErrorCode.NOT_TRUE)).isSameAs(one);
+    assertThat(two.union(one)).isSameAs(two);
+    assertThat(one.union(two)).isSameAs(two);
+    assertThat(ErrorCodeSet.EMPTY.union(one)).isSameAs(one);
+  }
+
+  @Test
+  void shouldHoldCustomCodesBeyondFirstWord() {
+    List<ErrorCode> codes = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      codes.add(ErrorCode.of("CUSTOM_" + i));
+    }
+    var set = ErrorCodeSet.of(codes.get(99), StandardErrorCode.NULL_VALUE, codes.get(0));
+
+    assertThat(set).containsExactly(StandardErrorCode.NULL_VALUE, codes.get(0), codes.get(99));
+    assertThat(set.contains(codes.get(98))).isFalse();
+    assertThat(set.standardCodes()).containsExactly(StandardErrorCode.NULL_VALUE);
+    assertThat(set.union(ErrorCodeSet.of(codes.get(50))).size()).isEqualTo(4);
+    assertThat(set)
+        .isEqualTo(ErrorCodeSet.of(codes.get(0), codes.get(99), StandardErrorCode.NULL_VALUE));
+  }
+
+  @Test
+  void shouldCollectCodesOfErrors() {
+    var errors =
+        List.of(
+            ValidationError.of("a", "NOT_TRUE"),
+            ValidationError.of("b", "NOT_TRUE").withPathPrefix("x"),
+            ValidationError.of("c", "NULL_VALUE"));
+
+    assertThat(ErrorCodeSet.of(errors).toSet())
+        .containsExactly(StandardErrorCode.NULL_VALUE, StandardErrorCode.NOT_TRUE);
+    assertThat(ErrorCodeSet.of(List.of())).isSameAs(ErrorCodeSet.EMPTY);
+  }
+}
@@ -52,6 +52,29 @@ class ValidationResultTest {
       assertThat(flatMapped.isFailure()).isTrue();
       assertThat(flatMapped.getErrors()).hasSize(1);
     }
+
+    @Test
+    void shouldReuseSuccessForBooleans() {
+      assertThat(ValidationResult.success(true)).isSameAs(ValidationResult.success(true));
+      assertThat(ValidationResult.success(false)).isSameAs(ValidationResult.success(false));
+      assertThat(ValidationResult.success(false).getValue()).isFalse();
+    }
+
+    @Test
+    void shouldReuseSuccessForSmallIntegers() {
+      assertThat(ValidationResult.success(-128)).isSameAs(ValidationResult.success(-128));
+      assertThat(ValidationResult.success(127)).isSameAs(ValidationResult.success(127));
+      assertThat(ValidationResult.success(42).getValue()).isEqualTo(42);
+    }
+
+    @Test
+    @SuppressWarnings("removal")
+    void shouldNotReuseSuccessForUncachedInstances() {
+      Integer boxed = new Integer(5);
+
+      assertThat(ValidationResult.success(1000)).isNotSameAs(ValidationResult.success(1000));
+      assertThat(ValidationResult.success(boxed).getValue()).isSameAs(boxed);
+    }
   }
 
   @Nested
@@ -157,5 +180,28 @@ class ValidationResultTest {
 
       assertThat(prefixed.path()).isEqualTo("users[0].name");
     }
+
+    @Test
+    void shouldRenderIndexPrefixes() {
+      var error = ValidationError.of("Invalid", "ERR").withPathPrefix("name").withIndexPrefix(2);
+
+      assertThat(error.withPathPrefix("users").path()).isEqualTo("users[2].name");
+      assertThat(error.withIndexPrefix(0).path()).isEqualTo("[0][2].name");
+    }
+
+    @Test
+    void shouldRenderDeepPathsLikeStringPrefixes() {
+      var lazy = ValidationError.of("Invalid", "ERR");
+      var eager = ValidationError.of("Invalid", "ERR");
+      for (int depth = 0; depth < 50; depth++) {
+        String prefix = depth % 3 == 0 ? "[" + depth + "]" : "field" + depth;
+        lazy = depth % 3 == 0 ? lazy.withIndexPrefix(depth) : lazy.withPathPrefix(prefix);
+        eager = new ValidationError(eager.withPathPrefix(prefix).path(), "Invalid", "ERR");
+      }
+
+      assertThat(lazy.path()).isEqualTo(eager.path()).startsWith("field49[48].field47");
+      assertThat(lazy).isEqualTo(eager).hasSameHashCodeAs(eager);
+      assertThat(lazy.toString()).isEqualTo(eager.toString());
+    }
   }
 }
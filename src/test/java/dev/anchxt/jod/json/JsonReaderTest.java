@@ -0,0 +1,173 @@
+package dev.anchxt.jod.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("JsonReader")
+class JsonReaderTest {
+
+  private static JsonReader reader(String json) {
+    return new JsonReader(ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  /** Reads all tokens, with the text of names, strings and numbers after a colon. */
+  private static List<String> tokens(JsonReader reader) throws IOException {
+    List<String> tokens = new ArrayList<>();
+    for (JsonToken token = reader.next(); token != JsonToken.END_DOCUMENT; token = reader.next()) {
+      boolean hasText =
+          token == JsonToken.NAME || token == JsonToken.STRING || token == JsonToken.NUMBER;
+      tokens.add(hasText ? token + ":" + reader.text() : token.toString());
+    }
+    return tokens;
+  }
+
+  @Nested
+  @DisplayName("Tokens")
+  class Tokens {
+
+    @Test
+    void shouldReadNestedDocument() throws IOException {
+      var reader = reader(" {\"a\": [1, -2.5e3, true, false, null], \"b\": {}, \"c\": \"x\"} ");
+
+      assertThat(tokens(reader))
+          .containsExactly(
+              "BEGIN_OBJECT",
+              "NAME:a",
+              "BEGIN_ARRAY",
+              "NUMBER:1",
+              "NUMBER:-2.5e3",
+              "TRUE",
+              "FALSE",
+              "NULL",
+              "END_ARRAY",
+              "NAME:b",
+              "BEGIN_OBJECT",
+              "END_OBJECT",
+              "NAME:c",
+              "STRING:x",
+              "END_OBJECT");
+    }
+
+    @Test
+    void shouldDecodeEscapesAndUtf8() throws IOException {
+      var reader = reader("\"a\\\"\\\\\\/\\n\\u00e9 é 😀\"");
+
+      assertThat(reader.next()).isEqualTo(JsonToken.STRING);
+      assertThat(reader.text().toString()).isEqualTo("a\"\\/\né é 😀");
+      assertThat(reader.textEquals("a\"\\/\né é 😀")).isTrue();
+    }
+
+    @Test
+    void shouldParseNumbers() throws IOException {
+      var reader = reader("[9007199254740993, 0.5, 12345678901234567890]");
+      reader.next();
+
+      reader.next();
+      assertThat(reader.isIntegral()).isTrue();
+      assertThat(reader.longValue()).isEqualTo(9007199254740993L);
+      reader.next();
+      assertThat(reader.isIntegral()).isFalse();
+      assertThat(reader.doubleValue()).isEqualTo(0.5);
+      reader.next();
+      assertThatThrownBy(reader::longValue).isInstanceOf(NumberFormatException.class);
+      assertThat(reader.doubleValue()).isEqualTo(1.2345678901234567e19);
+    }
+
+    @Test
+    void shouldSkipContainers() throws IOException {
+      var reader = reader("[{\"a\": [1, {\"b\": []}]}, 2]");
+      reader.next();
+
+      assertThat(reader.next()).isEqualTo(JsonToken.BEGIN_OBJECT);
+      reader.skipValue();
+      assertThat(reader.token()).isEqualTo(JsonToken.END_OBJECT);
+      assertThat(reader.next()).isEqualTo(JsonToken.NUMBER);
+      assertThat(reader.text().toString()).isEqualTo("2");
+      assertThat(reader.next()).isEqualTo(JsonToken.END_ARRAY);
+      assertThat(reader.next()).isEqualTo(JsonToken.END_DOCUMENT);
+    }
+
+    @Test
+    void shouldReadStreamsAcrossBufferBoundaries() throws IOException {
+      String value = "é".repeat(10_000);
+      InputStream in =
+          new ByteArrayInputStream(("[\"" + value + "\", 1]").getBytes(StandardCharsets.UTF_8));
+
+      try (var reader = new JsonReader(in)) {
+        reader.next();
+        assertThat(reader.next()).isEqualTo(JsonToken.STRING);
+        assertThat(reader.text().toString()).isEqualTo(value);
+        assertThat(tokens(reader)).containsExactly("NUMBER:1", "END_ARRAY");
+      }
+    }
+
+    @Test
+    void shouldReadDirectBuffers() throws IOException {
+      byte[] json = "{\"a\": [1, 2]}".getBytes(StandardCharsets.UTF_8);
+      ByteBuffer direct = ByteBuffer.allocateDirect(json.length).put(json).flip();
+
+      assertThat(tokens(new JsonReader(direct))).hasSize(7);
+      assertThat(direct.position()).isZero();
+    }
+  }
+
+  @Nested
+  @DisplayName("Malformed")
+  class Malformed {
+
+    @Test
+    void shouldRejectMalformedInput() {
+      for (String json :
+          List.of(
+              "",
+              "[1,]",
+              "{\"a\" 1}",
+              "{\"a\": 1,}",
+              "{a: 1}",
+              "[1 2]",
+              "01",
+              "1.",
+              "-",
+              "tru",
+              "\"abc",
+              "\"\\x\"",
+              "\"\t\"",
+              "[1]]",
+              "{} {}",
+              "[[1]")) {
+        assertThatThrownBy(() -> tokens(reader(json)))
+            .as(json)
+            .isInstanceOf(MalformedJsonException.class);
+      }
+    }
+
+    @Test
+    void shouldRejectInvalidUtf8() {
+      byte[] json = {'"', (byte) 0xC0, (byte) 0x80, '"'};
+
+      assertThatThrownBy(() -> new JsonReader(ByteBuffer.wrap(json)).next())
+          .isInstanceOf(MalformedJsonException.class)
+          .hasMessageContaining("UTF-8");
+    }
+
+    @Test
+    void shouldReportOffset() {
+      var reader = reader("[1, 2 3]");
+
+      assertThatThrownBy(() -> tokens(reader))
+          .isInstanceOfSatisfying(
+              MalformedJsonException.class, e -> assertThat(e.offset()).isEqualTo(6));
+    }
+  }
+}
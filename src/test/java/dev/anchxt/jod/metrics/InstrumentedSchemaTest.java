@@ -0,0 +1,94 @@
+package dev.anchxt.jod.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import dev.anchxt.jod.Jod;
+import dev.anchxt.jod.core.ErrorCode;
+import dev.anchxt.jod.core.StandardErrorCode;
+import dev.anchxt.jod.core.ValidationResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("InstrumentedSchema")
+class InstrumentedSchemaTest {
+
+  @Nested
+  @DisplayName("MetricsRegistry")
+  class Registry {
+
+    @Test
+    void shouldCountCallsFailuresAndCodes() {
+      var registry = new MetricsRegistry();
+      var schema = new InstrumentedSchema<>("email", Jod.string().min(5).email(), registry);
+
+      schema.validate("ada@example.com");
+      schema.validate("x");
+      schema.validateFast("x");
+      schema.isValid("nope");
+      schema.violatedCodes("ada");
+
+      SchemaMetrics metrics = registry.snapshot().get("email");
+      assertThat(metrics.calls()).isEqualTo(5);
+      assertThat(metrics.failures()).isEqualTo(4);
+      assertThat(metrics.failuresByCode())
+          .containsExactly(
+              entry(StandardErrorCode.STRING_TOO_SHORT, 3L),
+              entry(StandardErrorCode.INVALID_EMAIL, 2L));
+      assertThat(metrics.failures(StandardErrorCode.INVALID_UUID)).isZero();
+      assertThat(metrics.latency().count()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldShareCountersBetweenSchemasOfOneName() {
+      var registry = new MetricsRegistry();
+      var first = new InstrumentedSchema<>("age", Jod.intType().min(0), registry);
+      var second =
+          new InstrumentedSchema<String>(
+              "code", value -> ValidationResult.failure("Unknown code", "UNKNOWN_CODE"), registry);
+      var third = new InstrumentedSchema<>("age", Jod.intType().max(10), registry);
+
+      first.validate(-1);
+      second.validate("a");
+      third.validate(11);
+
+      assertThat(registry.snapshot()).containsOnlyKeys("age", "code");
+      assertThat(registry.snapshot().get("age").failures()).isEqualTo(2);
+      assertThat(registry.snapshot().get("code").failures(ErrorCode.of("UNKNOWN_CODE")))
+          .isEqualTo(1);
+    }
+  }
+
+  @Nested
+  @DisplayName("Installed metrics")
+  class Installed {
+
+    @Test
+    void shouldRecordNothingByDefault() {
+      var schema = Jod.instrument("user", Jod.string().min(2));
+
+      assertThat(schema.validate("x").isFailure()).isTrue();
+      assertThat(ValidationMetrics.installed().recorder("user"))
+          .isSameAs(ValidationMetrics.Recorder.NOOP);
+    }
+
+    @Test
+    void shouldFollowInstalledMetrics() {
+      var schema = Jod.instrument("name", Jod.string().min(2));
+      schema.validate("x");
+      var registry = new MetricsRegistry();
+      ValidationMetrics.install(registry);
+      try {
+        schema.validate("x");
+        schema.validate("ok");
+      } finally {
+        ValidationMetrics.install(ValidationMetrics.noop());
+      }
+      schema.validate("x");
+
+      assertThat(registry.snapshot().get("name").calls()).isEqualTo(2);
+      assertThat(registry.snapshot().get("name").failures()).isEqualTo(1);
+    }
+  }
+}
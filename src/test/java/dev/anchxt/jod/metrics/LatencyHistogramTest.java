@@ -0,0 +1,94 @@
+package dev.anchxt.jod.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LatencyHistogram")
+class LatencyHistogramTest {
+
+  @Nested
+  @DisplayName("Buckets")
+  class Buckets {
+
+    @Test
+    void shouldCoverEveryValueWithContiguousBuckets() {
+      for (int i = 1; i < LatencyHistogram.BUCKETS; i++) {
+        long lowest = LatencyHistogram.highestValue(i - 1) + 1;
+        assertThat(LatencyHistogram.index(lowest)).isEqualTo(i);
+        assertThat(LatencyHistogram.index(LatencyHistogram.highestValue(i))).isEqualTo(i);
+      }
+    }
+
+    @Test
+    void shouldKeepValuesWithinThreePercent() {
+      for (long value = 1; value < (1L << 40); value = value * 3 / 2 + 1) {
+        long highest = LatencyHistogram.highestValue(LatencyHistogram.index(value));
+        assertThat((double) (highest - value) / value).isLessThan(0.032);
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("Snapshots")
+  class Snapshots {
+
+    @Test
+    void shouldReportPercentilesMeanAndMax() {
+      var histogram = new LatencyHistogram();
+      for (long nanos = 1; nanos <= 1000; nanos++) {
+        histogram.record(nanos * 1000);
+      }
+
+      LatencySnapshot snapshot = histogram.snapshot();
+
+      assertThat(snapshot.count()).isEqualTo(1000);
+      assertThat(snapshot.max()).isEqualTo(1_000_000);
+      assertThat(snapshot.mean()).isEqualTo(500_500.0);
+      assertThat((double) snapshot.percentile(50)).isCloseTo(500_000, within(16_000.0));
+      assertThat((double) snapshot.percentile(99)).isCloseTo(990_000, within(31_000.0));
+      assertThat(snapshot.percentile(100)).isEqualTo(1_000_000);
+    }
+
+    @Test
+    void shouldClampOutOfRangeValues() {
+      var histogram = new LatencyHistogram();
+      histogram.record(-5);
+      histogram.record(Long.MAX_VALUE / 2);
+
+      LatencySnapshot snapshot = histogram.snapshot();
+
+      assertThat(snapshot.percentile(0)).isZero();
+      assertThat(snapshot.percentile(100)).isEqualTo(Long.MAX_VALUE / 2);
+      assertThat(LatencySnapshot.EMPTY.percentile(99)).isZero();
+      assertThatThrownBy(() -> snapshot.percentile(101))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldCountConcurrentRecordings() throws InterruptedException {
+      var histogram = new LatencyHistogram();
+      Thread[] threads = new Thread[4];
+      for (int t = 0; t < threads.length; t++) {
+        threads[t] =
+            Thread.ofPlatform()
+                .start(
+                    () -> {
+                      for (int i = 0; i < 10_000; i++) {
+                        histogram.record(i);
+                      }
+                    });
+      }
+      for (Thread thread : threads) {
+        thread.join();
+      }
+
+      assertThat(histogram.snapshot().count()).isEqualTo(40_000);
+      assertThat(histogram.snapshot().max()).isEqualTo(9_999);
+    }
+  }
+}
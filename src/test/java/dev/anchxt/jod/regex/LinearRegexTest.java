@@ -0,0 +1,212 @@
+package dev.anchxt.jod.regex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@DisplayName("LinearRegex")
+class LinearRegexTest {
+
+  private static String randomString(SplittableRandom random, String alphabet, int maxLength) {
+    var builder = new StringBuilder();
+    int length = random.nextInt(maxLength + 1);
+    for (int i = 0; i < length; i++) {
+      builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+    }
+    return builder.toString();
+  }
+
+  @Nested
+  @DisplayName("Matching")
+  class Matching {
+
+    private static final String[] PATTERNS = {
+      "abc",
+      "^[A-Z]{3}-[0-9]{4}$",
+      "a*b+c?",
+      "(ab|a)(bc|c)*",
+      "(?:a|b)*abb",
+      "[^abc]+",
+      "[a-c-]x",
+      "[]a]+",
+      "[\\d-z]*",
+      "\\d+\\.\\d{2}",
+      "\\w+@\\w+\\.[a-z]{2,}",
+      "\\s*\\S+\\s*",
+      "a{2,4}b{0,1}c{3,}",
+      "x|",
+      "(a*)*b",
+      "a.c",
+      "(a|b)*a(a|b){3}",
+      "\\x41\\u0042[\\t\\n]",
+      "a*?b+?",
+      "^a|b$",
+      "()"
+    };
+
+    @Test
+    void shouldAgreeWithJavaRegex() {
+      var random = new SplittableRandom(5);
+      for (String pattern : PATTERNS) {
+        var expected = Pattern.compile(pattern);
+        var actual = LinearRegex.compile(pattern);
+        for (int i = 0; i < 20_000; i++) {
+          String input = randomString(random, "abcxzAB019-.]@ \t\n_", 9);
+          assertThat(actual.matches(input))
+              .as("%s on %s", pattern, input)
+              .isEqualTo(expected.matcher(input).matches());
+        }
+      }
+    }
+
+    @Test
+    void shouldMatchKnownInputs() {
+      var regex = LinearRegex.compile("^[A-Z]{3}-\\d{4}$");
+
+      assertThat(regex.matches("ABC-1234")).isTrue();
+      assertThat(regex.matches("abc-1234")).isFalse();
+      assertThat(regex.matches("ABC-12345")).isFalse();
+      assertThat(regex.matches("")).isFalse();
+    }
+
+    @Test
+    void shouldStayCorrectWhenStateCacheOverflows() {
+      // The minimal DFA for this pattern has 2^9 states, far more than the cache holds
+      String pattern = "(a|b)*a(a|b){8}";
+      var expected = Pattern.compile(pattern);
+      var actual = LinearRegex.compile(pattern, 8);
+      var random = new SplittableRandom(9);
+      for (int i = 0; i < 5_000; i++) {
+        String input = randomString(random, "ab", 40);
+        assertThat(actual.matches(input)).isEqualTo(expected.matcher(input).matches());
+      }
+    }
+
+    @Test
+    void shouldGrowStateArraysWhileCompilingRepeats() {
+      // Each body adds enough states to resize the arrays past 16 or 32 states mid-repeat
+      String[] patterns = {
+        "(abcdefghijklmnopqrstuvwxyz)*",
+        "(abcdefghijklmnopqrstuvwxyzABCDEFGHIJ)*x",
+        "\\w+(a|b){1,3}a+",
+        "[a-]*?\\.+?(a|b){1,3}"
+      };
+      var random = new SplittableRandom(11);
+      for (String pattern : patterns) {
+        var expected = Pattern.compile(pattern);
+        var actual = LinearRegex.compile(pattern);
+        for (String input : new String[] {"", "abcdefghijklmnopqrstuvwxyz", "xaba", "-a.b"}) {
+          assertThat(actual.matches(input))
+              .as("%s on %s", pattern, input)
+              .isEqualTo(expected.matcher(input).matches());
+        }
+        for (int i = 0; i < 2_000; i++) {
+          String input = randomString(random, "abxz-.", 8);
+          assertThat(actual.matches(input))
+              .as("%s on %s", pattern, input)
+              .isEqualTo(expected.matcher(input).matches());
+        }
+      }
+    }
+
+    @Test
+    @Timeout(5)
+    void shouldMatchCatastrophicPatternInLinearTime() {
+      var regex = LinearRegex.compile("(a+)+$");
+      String hostile = "a".repeat(100_000) + "!";
+
+      assertThat(regex.matches(hostile)).isFalse();
+      assertThat(regex.matches("a".repeat(100_000))).isTrue();
+    }
+
+    @Test
+    void shouldBeSafeToShareAcrossThreads() throws Exception {
+      String pattern = "(a|b)*a(a|b){6}";
+      var expected = Pattern.compile(pattern);
+      var shared = LinearRegex.compile(pattern, 16);
+      ExecutorService executor = Executors.newFixedThreadPool(4);
+      try {
+        var futures = new ArrayList<Future<Boolean>>();
+        for (int t = 0; t < 4; t++) {
+          long seed = t;
+          futures.add(
+              executor.submit(
+                  () -> {
+                    var random = new SplittableRandom(seed);
+                    for (int i = 0; i < 20_000; i++) {
+                      String input = randomString(random, "ab", 20);
+                      if (shared.matches(input) != expected.matcher(input).matches()) {
+                        return false;
+                      }
+                    }
+                    return true;
+                  }));
+        }
+        for (var future : futures) {
+          assertThat(future.get(30, TimeUnit.SECONDS)).isTrue();
+        }
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("Unsupported constructs")
+  class UnsupportedConstructs {
+
+    @Test
+    void shouldRejectNonRegularAndUnsupportedSyntax() {
+      String[] patterns = {
+        "(a)\\1",
+        "(?=a)",
+        "(?<!a)b",
+        "(?i)a",
+        "a*+",
+        "\\bword",
+        "a^b",
+        "a$b",
+        "[a&&[b]]",
+        "[[a]]",
+        "\\p{L}",
+        "a**",
+        "a{1}{2}",
+        "x{1001}"
+      };
+      for (String pattern : patterns) {
+        assertThatThrownBy(() -> LinearRegex.compile(pattern))
+            .as(pattern)
+            .isInstanceOf(PatternSyntaxException.class);
+      }
+    }
+
+    @Test
+    void shouldRejectInvalidSyntax() {
+      String[] patterns = {"(a", "a)", "[a", "x{2,1}", "a{", "*a", "[z-a]", "\\"};
+      for (String pattern : patterns) {
+        assertThatThrownBy(() -> LinearRegex.compile(pattern))
+            .as(pattern)
+            .isInstanceOf(PatternSyntaxException.class);
+      }
+    }
+
+    @Test
+    void shouldRejectPatternsThatAreTooLarge() {
+      assertThatThrownBy(() -> LinearRegex.compile("(a{1000}){1000}"))
+          .isInstanceOf(PatternSyntaxException.class)
+          .hasMessageContaining("NFA states");
+    }
+  }
+}
@@ -0,0 +1,47 @@
+package dev.anchxt.jod.schema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AsciiSequence")
+class AsciiSequenceTest {
+
+  @Test
+  void shouldDetectNonAsciiByteAtAnyPosition() {
+    for (int length = 1; length <= 20; length++) {
+      for (int position = 0; position < length; position++) {
+        byte[] bytes = "a".repeat(length).getBytes(StandardCharsets.US_ASCII);
+        bytes[position] = (byte) 0x80;
+
+        assertThat(AsciiSequence.of(ByteBuffer.wrap(bytes))).isNull();
+        assertThat(AsciiSequence.of(ByteBuffer.wrap(bytes, 0, position))).isNotNull();
+      }
+    }
+  }
+
+  @Test
+  void shouldViewRemainingBytes() {
+    var buffer = ByteBuffer.wrap("--hello world--".getBytes(StandardCharsets.US_ASCII), 2, 11);
+
+    var ascii = AsciiSequence.of(buffer);
+
+    assertThat(ascii.length()).isEqualTo(11);
+    assertThat(ascii.charAt(0)).isEqualTo('h');
+    assertThat(ascii.subSequence(6, 11).toString()).isEqualTo("world");
+    assertThat(ascii.toString()).isEqualTo("hello world");
+    assertThat(buffer.position()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldCheckIndices() {
+    var ascii = AsciiSequence.of(ByteBuffer.wrap(new byte[] {'a', 'b'}));
+
+    assertThatThrownBy(() -> ascii.charAt(2)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> ascii.subSequence(1, 3)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+}
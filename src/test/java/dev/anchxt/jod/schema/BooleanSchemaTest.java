@@ -104,4 +104,20 @@ class BooleanSchemaTest {
       assertThat(resultFalse.getErrors().getFirst().code()).isEqualTo("NOT_TRUE");
     }
   }
+
+  @Nested
+  @DisplayName("isValid")
+  class IsValid {
+
+    @Test
+    void shouldReportValidityWithoutResult() {
+      var schema = Jod.bool().isTrue();
+
+      assertThat(schema.isValid(true)).isTrue();
+      assertThat(schema.isValid(false)).isFalse();
+      assertThat(schema.isValid(null)).isFalse();
+      assertThat(schema.compile().isValid(true)).isTrue();
+      assertThat(schema.compile().isValid(false)).isFalse();
+    }
+  }
 }
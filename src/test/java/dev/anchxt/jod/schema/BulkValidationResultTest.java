@@ -0,0 +1,76 @@
+package dev.anchxt.jod.schema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import dev.anchxt.jod.Jod;
+import dev.anchxt.jod.schema.BulkValidationResult.ConstraintFailures;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BulkValidationResult")
+class BulkValidationResultTest {
+
+  @Test
+  void shouldPassEmptyArray() {
+    var result = Jod.intType().min(0).validateAll(new int[0]);
+
+    assertThat(result.isSuccess()).isTrue();
+    assertThat(result.size()).isZero();
+    assertThat(result.failures().isEmpty()).isTrue();
+  }
+
+  @Test
+  void shouldMarkFailingIndicesAndCountPerConstraint() {
+    var schema = Jod.intType().min(0).max(100).multipleOf(5);
+    var result = schema.validateAll(new int[] {10, -5, 7, 105, 0, 101});
+
+    assertThat(result.isSuccess()).isFalse();
+    assertThat(result.failures().stream().toArray()).containsExactly(1, 2, 3, 5);
+    assertThat(result.failureCount()).isEqualTo(4);
+    assertThat(result.isValid(0)).isTrue();
+    assertThat(result.isValid(1)).isFalse();
+    assertThat(result.constraintFailures())
+        .extracting(ConstraintFailures::code, ConstraintFailures::count)
+        .containsExactly(
+            tuple("NUMBER_TOO_SMALL", 1), tuple("NUMBER_TOO_LARGE", 2), tuple("NOT_MULTIPLE", 2));
+  }
+
+  @Test
+  void shouldAgreeWithScalarValidationAcrossWordBoundaries() {
+    var schema = Jod.longType().positive().multipleOf(3L);
+    long[] values = IntStream.range(-70, 130).asLongStream().toArray();
+    var result = schema.validateAll(values);
+
+    for (int i = 0; i < values.length; i++) {
+      assertThat(result.isValid(i)).isEqualTo(schema.isValidLong(values[i]));
+    }
+  }
+
+  @Test
+  void shouldAgreeWithScalarValidationForDoubles() {
+    var schema = Jod.doubleType().min(-1.0).max(1.0).negative().multipleOf(0.25);
+    double[] values = {-1.5, -1.0, -0.75, -0.3, 0.0, -0.0, 0.5, Double.NaN, 2.0};
+    var result = schema.validateAll(values);
+
+    for (int i = 0; i < values.length; i++) {
+      assertThat(result.isValid(i)).isEqualTo(schema.isValidDouble(values[i]));
+    }
+  }
+
+  @Test
+  void shouldFailEveryElementForZeroDivisor() {
+    var result = Jod.intType().multipleOf(0).validateAll(new int[] {0, 1, 2});
+
+    assertThat(result.failureCount()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldRejectIndexOutOfBounds() {
+    var result = Jod.intType().validateAll(new int[] {1});
+
+    assertThatThrownBy(() -> result.isValid(1)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+}
@@ -0,0 +1,151 @@
+package dev.anchxt.jod.schema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.anchxt.jod.Jod;
+import dev.anchxt.jod.core.ErrorCodeSet;
+import dev.anchxt.jod.core.Schema;
+import dev.anchxt.jod.core.StandardErrorCode;
+import dev.anchxt.jod.core.ValidationResult;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CachedSchema")
+class CachedSchemaTest {
+
+  /** Counts the validations that reach the wrapped schema. */
+  private static final class Counting implements Schema<String> {
+    final AtomicInteger calls = new AtomicInteger();
+    final Schema<String> schema = Jod.string().min(2).email().compile();
+
+    @Override
+    public ValidationResult<String> validate(String value) {
+      calls.incrementAndGet();
+      return schema.validate(value);
+    }
+  }
+
+  @Nested
+  @DisplayName("Memoization")
+  class Memoization {
+
+    @Test
+    void shouldAnswerRepeatedValuesFromTheCache() {
+      var counting = new Counting();
+      var schema = new CachedSchema<>(counting, 10);
+
+      var first = schema.validate("ada@example.com");
+      var second = schema.validate("ada@example.com");
+      schema.validate("x");
+      var failure = schema.validate("x");
+
+      assertThat(second).isSameAs(first);
+      assertThat(failure.getErrors()).hasSize(2);
+      assertThat(counting.calls).hasValue(2);
+      assertThat(schema.hits()).isEqualTo(2);
+      assertThat(schema.misses()).isEqualTo(2);
+      assertThat(schema.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldAgreeWithTheBuilder() {
+      var builder = Jod.string().trim().toLowerCase().email();
+      var schema = builder.cached(4);
+
+      for (String value : List.of(" ADA@Example.com ", "nope", " ADA@Example.com ", "nope")) {
+        assertThat(schema.validate(value)).isEqualTo(builder.validate(value));
+        assertThat(schema.isValid(value)).isEqualTo(builder.isValid(value));
+        assertThat(schema.violatedCodes(value)).isEqualTo(builder.violatedCodes(value));
+      }
+      assertThat(schema.validateFast("x").getErrors()).hasSize(1);
+      assertThat(schema.validate(null).getErrors().getFirst().errorCode())
+          .isEqualTo(StandardErrorCode.NULL_VALUE);
+      assertThat(schema.violatedCodes("ada@example.com")).isEqualTo(ErrorCodeSet.EMPTY);
+    }
+
+    @Test
+    void shouldIgnoreBuilderChangesAfterCaching() {
+      var builder = Jod.string();
+      var schema = builder.cached(1);
+      builder.min(5);
+
+      assertThat(schema.isValid("abc")).isTrue();
+    }
+
+    @Test
+    void shouldCountMissesOfEveryMethod() {
+      var counting = new Counting();
+      var schema = new CachedSchema<>(counting, 10);
+
+      schema.violatedCodes("ada@example.com");
+      schema.validateFast("ada@example.com");
+      schema.validateFast("x");
+      schema.validateFast("x");
+
+      // Only the fail-fast success is cached, so the failure is validated again
+      assertThat(schema.misses()).isEqualTo(4);
+      assertThat(schema.size()).isEqualTo(1);
+      assertThat(schema.violatedCodes("ada@example.com")).isEqualTo(ErrorCodeSet.EMPTY);
+      assertThat(schema.validateFast("ada@example.com").isSuccess()).isTrue();
+      assertThat(schema.hits()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotAllocateMaxEntriesUpFront() {
+      var schema = Jod.string().email().cached(Integer.MAX_VALUE);
+
+      for (int i = 0; i < 100; i++) {
+        schema.validate("user" + i + "@example.com");
+      }
+
+      assertThat(schema.size()).isEqualTo(100);
+      assertThat(schema.evictions()).isZero();
+    }
+
+    @Test
+    void shouldRejectNonPositiveSizes() {
+      assertThatThrownBy(() -> Jod.string().cached(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Nested
+  @DisplayName("Eviction")
+  class Eviction {
+
+    @Test
+    void shouldStayWithinMaxEntries() {
+      var schema = new CachedSchema<>(new Counting(), 8);
+
+      for (int i = 0; i < 100; i++) {
+        schema.validate("user" + i + "@example.com");
+      }
+
+      assertThat(schema.size()).isEqualTo(8);
+      assertThat(schema.evictions()).isEqualTo(92);
+    }
+
+    @Test
+    void shouldKeepValuesThatAreHitAgain() {
+      var counting = new Counting();
+      var schema = new CachedSchema<>(counting, 4);
+      List<String> hot = List.of("a@example.com", "b@example.com");
+      hot.forEach(schema::validate);
+
+      List<String> scan = new ArrayList<>();
+      for (int i = 0; i < 50; i++) {
+        hot.forEach(schema::validate);
+        scan.add("once" + i + "@example.com");
+        schema.validate(scan.getLast());
+      }
+
+      // Every hot lookup after the first round is a hit; every one-off value is a miss
+      assertThat(schema.hits()).isEqualTo(100);
+      assertThat(counting.calls).hasValue(52);
+    }
+  }
+}
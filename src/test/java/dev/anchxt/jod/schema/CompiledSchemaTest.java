@@ -0,0 +1,87 @@
+package dev.anchxt.jod.schema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.anchxt.jod.Jod;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CompiledSchema")
+class CompiledSchemaTest {
+
+  @Test
+  void shouldPassValidValue() {
+    var schema = Jod.string().min(2).max(10).compile();
+    var result = schema.validate("hello");
+
+    assertThat(result.isSuccess()).isTrue();
+    assertThat(result.getValue()).isEqualTo("hello");
+  }
+
+  @Test
+  void shouldFailOnNull() {
+    var schema = Jod.intType().min(0).compile();
+    var result = schema.validate(null);
+
+    assertThat(result.isFailure()).isTrue();
+    assertThat(result.getErrors().getFirst().code()).isEqualTo("NULL_VALUE");
+  }
+
+  @Test
+  void shouldApplyTransformationsInOrder() {
+    var schema = Jod.string().trim().toUpperCase().min(3).compile();
+    var result = schema.validate("  abc  ");
+
+    assertThat(result.isSuccess()).isTrue();
+    assertThat(result.getValue()).isEqualTo("ABC");
+  }
+
+  @Test
+  void shouldCollectAllErrorsLikeTheBuilder() {
+    var builder = Jod.intType().min(10).max(5).positive().multipleOf(3);
+    var compiled = builder.compile();
+
+    assertThat(compiled.validate(-1).getErrors())
+        .containsExactlyElementsOf(builder.validate(-1).getErrors());
+    assertThat(compiled.validate(7).getErrors())
+        .containsExactlyElementsOf(builder.validate(7).getErrors());
+  }
+
+  @Test
+  void shouldIgnoreBuilderChangesAfterCompile() {
+    var builder = Jod.bool();
+    var compiled = builder.compile();
+    builder.isTrue();
+
+    assertThat(compiled.validate(false).isSuccess()).isTrue();
+    assertThat(builder.validate(false).isFailure()).isTrue();
+  }
+
+  @Test
+  void shouldFuseManyConstraints() {
+    var schema = Jod.longType().min(0L).max(100L).positive().multipleOf(5L).compile();
+
+    assertThat(schema.validate(25L).isSuccess()).isTrue();
+    assertThat(schema.validate(26L).getErrors())
+        .extracting(e -> e.code())
+        .containsExactly("NOT_MULTIPLE");
+  }
+
+  @Test
+  void shouldFailFastOnCheapestViolation() {
+    var schema = Jod.string().regex("^[a-z]+$").min(5).compile();
+    var result = schema.validateFast("AB");
+
+    assertThat(result.getErrors()).extracting(e -> e.code()).containsExactly("STRING_TOO_SHORT");
+    assertThat(schema.validateFast("hello").isSuccess()).isTrue();
+  }
+
+  @Test
+  void shouldReportValidityWithoutResult() {
+    var schema = Jod.string().trim().toLowerCase().min(2).compile();
+
+    assertThat(schema.isValid("  Ab ")).isTrue();
+    assertThat(schema.isValid(" a ")).isFalse();
+    assertThat(schema.isValid(null)).isFalse();
+  }
+}
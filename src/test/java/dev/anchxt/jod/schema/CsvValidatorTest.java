@@ -0,0 +1,134 @@
+package dev.anchxt.jod.schema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import dev.anchxt.jod.Jod;
+import dev.anchxt.jod.core.Schema;
+import dev.anchxt.jod.core.ValidationError;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CsvValidator")
+class CsvValidatorTest {
+
+  record User(String name, int age, boolean active) {}
+
+  private static final ObjectSchema<User> USER =
+      Jod.object(User.class)
+          .field(User::name, Jod.string().min(2))
+          .field(User::age, Jod.intType().min(0))
+          .field(User::active, Jod.bool())
+          .build();
+
+  @Nested
+  @DisplayName("Records")
+  class Records {
+
+    @Test
+    void shouldMatchColumnsToFieldsByName() {
+      var validator = new CsvValidator<>(USER, "active,extra,name,age");
+
+      assertThat(validator.columns()).containsExactly("active", "extra", "name", "age");
+      assertThat(validator.validate("true,x,Ada,36").isSuccess()).isTrue();
+      assertThat(validator.validate("maybe,x,A,-1").getErrors())
+          .extracting(ValidationError::path, ValidationError::code)
+          .containsExactly(
+              tuple("active", "INVALID_TYPE"),
+              tuple("name", "STRING_TOO_SHORT"),
+              tuple("age", "NUMBER_TOO_SMALL"));
+    }
+
+    @Test
+    void shouldValidateEmptyCellsAndMissingColumnsAsNull() {
+      var validator = new CsvValidator<>(USER, "name,age");
+
+      assertThat(validator.validate("Ada,").getErrors())
+          .extracting(ValidationError::path, ValidationError::code)
+          .containsExactly(tuple("age", "NULL_VALUE"), tuple("active", "NULL_VALUE"));
+    }
+
+    @Test
+    void shouldUnquoteCells() {
+      var validator =
+          new CsvValidator<>(
+              Jod.object(User.class).field(User::name, Jod.string().max(8)).build(), "name");
+
+      assertThat(validator.validate("\"a,\"\"b\"\"\"").isSuccess()).isTrue();
+      List<String> cells = new ArrayList<>();
+      assertThat(CsvValidator.cells("\"a,\"\"b\"\"\",,c", cells)).isNull();
+      assertThat(cells).containsExactly("a,\"b\"", "", "c");
+    }
+
+    @Test
+    void shouldRejectMalformedRecords() {
+      var validator = new CsvValidator<>(USER, "name,age,active");
+
+      assertThat(validator.validate("\"Ada,36,true").getErrors())
+          .extracting(ValidationError::message, ValidationError::code)
+          .containsExactly(tuple("Unterminated quoted cell", "INVALID_CSV"));
+      assertThat(validator.validate("\"Ada\"x,36,true").getErrors())
+          .extracting(ValidationError::message, ValidationError::code)
+          .containsExactly(tuple("Text after the closing quote of a cell", "INVALID_CSV"));
+      assertThat(validator.validate("Ada,36").getErrors())
+          .extracting(ValidationError::code)
+          .containsExactly("INVALID_CSV");
+      assertThatThrownBy(() -> new CsvValidator<>(USER, "\"name"))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> new CsvValidator<>(USER, "\"name\"s,age"))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("closing quote");
+    }
+
+    @Test
+    void shouldConvertCellsForCompiledAndCachedSchemas() {
+      var schema =
+          Jod.object(User.class)
+              .field(User::name, Jod.string().min(2).cached(16))
+              .field(User::age, Jod.intType().min(0).compile())
+              .field(User::active, Jod.bool().compile())
+              .build();
+      var validator = new CsvValidator<>(schema, "name,age,active");
+
+      assertThat(validator.validate("Ada,5,true").isSuccess()).isTrue();
+      assertThat(validator.validate("A,-1,x").getErrors())
+          .extracting(ValidationError::path, ValidationError::code)
+          .containsExactly(
+              tuple("name", "STRING_TOO_SHORT"),
+              tuple("age", "NUMBER_TOO_SMALL"),
+              tuple("active", "INVALID_TYPE"));
+      assertThat(validator.validate("Ada,5.5,true").getErrors())
+          .extracting(ValidationError::path, ValidationError::message)
+          .containsExactly(tuple("age", "Expected an int"));
+    }
+
+    @Test
+    void shouldNotMistakeSchemaFailuresForTypeMismatches() {
+      Schema<Object> broken =
+          value -> {
+            throw new ClassCastException("bug in the schema");
+          };
+      var validator = new CsvValidator<>(broken, "id");
+
+      assertThatThrownBy(() -> validator.validate("1")).isInstanceOf(ClassCastException.class);
+      assertThat(new CsvValidator<>(Jod.string(), "id").validate("1").getErrors())
+          .extracting(ValidationError::code)
+          .containsExactly("INVALID_TYPE");
+    }
+
+    @Test
+    void shouldPassRowsAsMapsToOtherSchemas() {
+      var validator =
+          new CsvValidator<>(Jod.map(Jod.string(), Jod.string().min(1)).required("id"), "id,name");
+
+      assertThat(validator.validate("1,Ada").isSuccess()).isTrue();
+      assertThat(validator.validate("1,").getErrors())
+          .extracting(ValidationError::path, ValidationError::code)
+          .containsExactly(tuple("name", "STRING_TOO_SHORT"));
+    }
+  }
+}
@@ -0,0 +1,127 @@
+package dev.anchxt.jod.schema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Formats")
+class FormatsTest {
+
+  private static String randomString(SplittableRandom random, String alphabet, int maxLength) {
+    var builder = new StringBuilder();
+    int length = random.nextInt(maxLength + 1);
+    for (int i = 0; i < length; i++) {
+      builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+    }
+    return builder.toString();
+  }
+
+  @Nested
+  @DisplayName("Email scanner")
+  class EmailScanner {
+
+    // The regex the scanner replaces
+    private static final Pattern EMAIL_PATTERN =
+        Pattern.compile("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$");
+
+    @Test
+    void shouldMatchRegexOnKnownCases() {
+      String[] cases = {
+        "user@example.com",
+        "first.last+tag@sub.example.co",
+        "a@b.cd",
+        "a@b.c",
+        "a@.cd",
+        "@b.cd",
+        "a@b.c1",
+        "a@@b.cd",
+        "a@b..cd",
+        "a@b.cd.",
+        "a@b.cd\n",
+        "a b@c.de",
+        "ü@b.cd",
+        "a@b-.c-d.EF",
+        "",
+        "plain"
+      };
+      for (String value : cases) {
+        assertThat(Formats.isEmail(value))
+            .as(value)
+            .isEqualTo(EMAIL_PATTERN.matcher(value).matches());
+      }
+    }
+
+    @Test
+    void shouldMatchRegexOnRandomInput() {
+      var random = new SplittableRandom(7);
+      for (int i = 0; i < 200_000; i++) {
+        String value = randomString(random, "aZ9._%+-@@..!\n", 10);
+        assertThat(Formats.isEmail(value))
+            .as(value)
+            .isEqualTo(EMAIL_PATTERN.matcher(value).matches());
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("UUID scanner")
+  class UuidScanner {
+
+    // The regex the scanner replaces
+    private static final Pattern UUID_PATTERN =
+        Pattern.compile(
+            "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+
+    @Test
+    void shouldMatchRegexOnKnownCases() {
+      String[] cases = {
+        "123e4567-e89b-12d3-a456-426614174000",
+        "123E4567-E89B-12D3-A456-426614174000",
+        "123e4567e89b-12d3-a456-426614174000-",
+        "123e4567-e89b-12d3-a456-42661417400g",
+        "123e4567-e89b-12d3-a456-4266141740000",
+        "123e4567-e89b-12d3-a456-42661417400",
+        "123e4567-e89b-12d3-a456-42661417400\u0660",
+        ""
+      };
+      for (String value : cases) {
+        assertThat(Formats.isUuid(value))
+            .as(value)
+            .isEqualTo(UUID_PATTERN.matcher(value).matches());
+      }
+    }
+
+    @Test
+    void shouldMatchRegexOnRandomInput() {
+      var random = new SplittableRandom(11);
+      for (int i = 0; i < 100_000; i++) {
+        var chars = UUID.randomUUID().toString().toCharArray();
+        // Corrupt a random position with a random character about half of the time
+        if (random.nextBoolean()) {
+          chars[random.nextInt(chars.length)] = "0aF-gZ@ ".charAt(random.nextInt(8));
+        }
+        String value = new String(chars);
+        assertThat(Formats.isUuid(value))
+            .as(value)
+            .isEqualTo(UUID_PATTERN.matcher(value).matches());
+      }
+    }
+
+    @Test
+    void shouldParseLikeUuidFromString() {
+      for (int i = 0; i < 1000; i++) {
+        var uuid = UUID.randomUUID();
+
+        assertThat(Formats.parseUuid(uuid.toString())).isEqualTo(uuid);
+        assertThat(Formats.parseUuid(uuid.toString().toUpperCase())).isEqualTo(uuid);
+      }
+      assertThat(Formats.parseUuid("123e4567-e89b-12d3-a456-42661417400z")).isNull();
+      assertThat(Formats.parseUuid("123e4567-e89b-12d3-a456")).isNull();
+    }
+  }
+}
@@ -0,0 +1,260 @@
+package dev.anchxt.jod.schema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import dev.anchxt.jod.Jod;
+import dev.anchxt.jod.core.Schema;
+import dev.anchxt.jod.core.ValidationError;
+import dev.anchxt.jod.core.ValidationResult;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("JsonValidator")
+class JsonValidatorTest {
+
+  record Address(String city, String zip) {}
+
+  record User(String name, int age, long id, double score, boolean active, Address address) {}
+
+  private static final ObjectSchema<Address> ADDRESS =
+      Jod.object(Address.class)
+          .field(Address::city, Jod.string().min(2))
+          .field(Address::zip, Jod.string().regex("[0-9]{5}"))
+          .build();
+
+  private static final ObjectSchema<User> USER =
+      Jod.object(User.class)
+          .field(User::name, Jod.string().trim().min(2))
+          .field(User::age, Jod.intType().min(0).max(150))
+          .field(User::id, Jod.longType().positive())
+          .field(User::score, Jod.doubleType().max(1.0))
+          .field(User::active, Jod.bool().isTrue())
+          .field(User::address, ADDRESS)
+          .build();
+
+  private static final String VALID =
+      """
+      {"name": " Ada ", "age": 36, "id": 9007199254740993, "score": 0.5, "active": true,
+       "address": {"city": "London", "zip": "12345"}, "ignored": [1, {"x": null}]}
+      """;
+
+  private static ByteBuffer json(String json) {
+    return ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static List<Tuple> errors(ValidationResult<?> result) {
+    return result.getErrors().stream().map(error -> tuple(error.path(), error.code())).toList();
+  }
+
+  @Nested
+  @DisplayName("Scalars")
+  class Scalars {
+
+    @Test
+    void shouldValidateScalarDocuments() {
+      assertThat(Jod.json(Jod.string().email()).validate(json("\"a@example.com\"")).isSuccess())
+          .isTrue();
+      assertThat(Jod.json(Jod.intType().max(9)).validate(json("10")).getErrors())
+          .extracting(ValidationError::code)
+          .containsExactly("NUMBER_TOO_LARGE");
+      assertThat(Jod.json(Jod.bool().isFalse()).validate(json("true")).getErrors())
+          .extracting(ValidationError::code)
+          .containsExactly("NOT_FALSE");
+      assertThat(Jod.json(Jod.string()).validate(json("null")).getErrors())
+          .extracting(ValidationError::code)
+          .containsExactly("NULL_VALUE");
+    }
+
+    @Test
+    void shouldRejectNumbersOutsideTheSchemaType() {
+      assertThat(Jod.json(Jod.intType()).validate(json("1.5")).getErrors())
+          .extracting(ValidationError::code)
+          .containsExactly("INVALID_TYPE");
+      assertThat(Jod.json(Jod.intType()).validate(json("2147483648")).getErrors())
+          .extracting(ValidationError::code)
+          .containsExactly("INVALID_TYPE");
+      assertThat(Jod.json(Jod.longType()).validate(json("9223372036854775808")).isFailure())
+          .isTrue();
+      assertThat(Jod.json(Jod.doubleType().max(1e20)).validate(json("1e21")).getErrors())
+          .extracting(ValidationError::code)
+          .containsExactly("NUMBER_TOO_LARGE");
+    }
+  }
+
+  @Nested
+  @DisplayName("Objects")
+  class Objects {
+
+    @Test
+    void shouldPassValidDocumentAndIgnoreUnknownMembers() throws IOException {
+      var validator = Jod.json(USER);
+
+      assertThat(validator.validate(json(VALID)).isSuccess()).isTrue();
+      assertThat(validator.validateFast(json(VALID)).isSuccess()).isTrue();
+      InputStream in = new ByteArrayInputStream(VALID.getBytes(StandardCharsets.UTF_8));
+      assertThat(validator.validate(in).isSuccess()).isTrue();
+      assertThat(Jod.json(USER.compile()).validate(json(VALID)).isSuccess()).isTrue();
+    }
+
+    @Test
+    void shouldReportErrorsWithPathsAndMissingFieldsLast() {
+      String document =
+          """
+          {"name": "A", "age": "old", "address": {"city": "L", "zip": 12345},
+           "id": 0, "score": 2, "active": false}
+          """;
+
+      var result = Jod.json(USER).validate(json(document));
+
+      assertThat(errors(result))
+          .containsExactly(
+              tuple("name", "STRING_TOO_SHORT"),
+              tuple("age", "INVALID_TYPE"),
+              tuple("address.city", "STRING_TOO_SHORT"),
+              tuple("address.zip", "INVALID_TYPE"),
+              tuple("id", "NOT_POSITIVE"),
+              tuple("score", "NUMBER_TOO_LARGE"),
+              tuple("active", "NOT_TRUE"));
+      assertThat(errors(Jod.json(ADDRESS).validate(json("{\"city\": \"Paris\"}"))))
+          .containsExactly(tuple("zip", "NULL_VALUE"));
+    }
+
+    @Test
+    void shouldStopAtFirstErrorWhenFailingFast() throws IOException {
+      // The document is cut off after the first error, so reading on would find it malformed
+      byte[] document = "{\"name\": \"A\", \"age\": ".getBytes(StandardCharsets.UTF_8);
+      var in = new ByteArrayInputStream(document);
+
+      var result = Jod.json(USER).validateFast(in);
+
+      assertThat(errors(result)).containsExactly(tuple("name", "STRING_TOO_SHORT"));
+      assertThat(Jod.json(USER).validate(json(new String(document, StandardCharsets.UTF_8))))
+          .satisfies(
+              full ->
+                  assertThat(full.getErrors())
+                      .extracting(ValidationError::code)
+                      .containsExactly("STRING_TOO_SHORT", "INVALID_JSON"));
+    }
+
+    @Test
+    void shouldReportMalformedJsonAsFatal() {
+      var result = Jod.json(ADDRESS).validate(json("{\"city\": \"L\", \"zip\" \"12345\"}"));
+
+      assertThat(result.getErrors())
+          .extracting(ValidationError::path, ValidationError::code)
+          .containsExactly(tuple("city", "STRING_TOO_SHORT"), tuple("", "INVALID_JSON"));
+      assertThat(result.getErrors().get(1).message()).contains("at byte 20");
+      assertThat(Jod.json(ADDRESS).validate(json("{\"city\": \"Paris\", \"zip\": \"12345\"} x")))
+          .extracting(ValidationResult::isFailure)
+          .isEqualTo(true);
+    }
+  }
+
+  @Nested
+  @DisplayName("Containers")
+  class Containers {
+
+    @Test
+    void shouldValidateListsWithIndexPathsAndSize() {
+      var schema = Jod.list(ADDRESS).max(1);
+
+      var result =
+          Jod.json(schema)
+              .validate(json("[{\"city\": \"Paris\", \"zip\": \"12345\"}, {\"city\": \"L\"}]"));
+
+      assertThat(errors(result))
+          .containsExactly(
+              tuple("[1].city", "STRING_TOO_SHORT"),
+              tuple("[1].zip", "NULL_VALUE"),
+              tuple("", "LIST_TOO_LONG"));
+      assertThat(errors(Jod.json(schema).validate(json("{}"))))
+          .containsExactly(tuple("", "INVALID_TYPE"));
+    }
+
+    @Test
+    void shouldValidateMapsWithKeyPathsAndRequiredKeys() {
+      var schema = Jod.map(Jod.string().min(2), Jod.list(Jod.intType().min(0))).required("id");
+
+      var result = Jod.json(schema).validate(json("{\"ok\": [1, -1], \"x\": []}"));
+
+      assertThat(errors(result))
+          .containsExactly(
+              tuple("ok[1]", "NUMBER_TOO_SMALL"),
+              tuple("x", "STRING_TOO_SHORT"),
+              tuple("id", "REQUIRED_KEY_MISSING"));
+    }
+
+    @Test
+    void shouldGiveEmptyKeysTheirOwnPath() {
+      var schema = Jod.map(Jod.string(), Jod.list(Jod.intType().min(0))).max(1);
+
+      var result = Jod.json(schema).validate(json("{\"\": [-1], \"x\": []}"));
+
+      assertThat(errors(result))
+          .containsExactly(tuple("[\"\"][0]", "NUMBER_TOO_SMALL"), tuple("", "MAP_TOO_LARGE"));
+    }
+
+    @Test
+    void shouldSkipOtherValuesOfRequiredOnlyMaps() {
+      var schema =
+          Jod.map(Jod.string(), Jod.intType().min(1)).required("port").requiredOnly().max(2);
+
+      var result = Jod.json(schema).validate(json("{\"other\": \"x\", \"port\": 0, \"more\": 1}"));
+
+      assertThat(errors(result))
+          .containsExactly(tuple("port", "NUMBER_TOO_SMALL"), tuple("", "MAP_TOO_LARGE"));
+    }
+
+    @Test
+    void shouldBuildValuesForOtherSchemas() {
+      AtomicInteger seen = new AtomicInteger();
+      Schema<Object> custom =
+          value -> {
+            if (!(value instanceof List<?> list)) {
+              return ValidationResult.failure("Expected a list", "INVALID_TYPE");
+            }
+            seen.set(list.size());
+            return ValidationResult.success(value);
+          };
+
+      assertThat(Jod.json(custom).validate(json("[1, \"a\", {\"b\": null}]")).isSuccess()).isTrue();
+      assertThat(seen).hasValue(3);
+      assertThat(errors(Jod.json(custom).validate(json("\"a\""))))
+          .containsExactly(tuple("", "INVALID_TYPE"));
+    }
+
+    @Test
+    void shouldCheckTheTypeOfCompiledSchemas() {
+      assertThat(errors(Jod.json(Jod.string().min(2).compile()).validate(json("5"))))
+          .containsExactly(tuple("", "INVALID_TYPE"));
+      assertThat(errors(Jod.json(Jod.string().cached(4)).validate(json("[]"))))
+          .containsExactly(tuple("", "INVALID_TYPE"));
+      assertThat(errors(Jod.json(Jod.longType().min(5L).compile()).validate(json("3"))))
+          .containsExactly(tuple("", "NUMBER_TOO_SMALL"));
+      assertThat(Jod.json(Jod.doubleType().max(1.0).compile()).validate(json("1")).isSuccess())
+          .isTrue();
+    }
+
+    @Test
+    void shouldNotMistakeSchemaFailuresForTypeMismatches() {
+      Schema<String> broken =
+          value -> {
+            throw new ClassCastException("bug in the schema");
+          };
+
+      assertThatThrownBy(() -> Jod.json(broken).validate(json("\"a\"")))
+          .isInstanceOf(ClassCastException.class);
+    }
+  }
+}
@@ -0,0 +1,196 @@
+package dev.anchxt.jod.schema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import dev.anchxt.jod.Jod;
+import dev.anchxt.jod.core.ErrorCodeSet;
+import dev.anchxt.jod.core.StandardErrorCode;
+import dev.anchxt.jod.core.ValidationError;
+import dev.anchxt.jod.core.ValidationResult;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ListSchema")
+class ListSchemaTest {
+
+  record Tag(String name) {}
+
+  @Nested
+  @DisplayName("Validation")
+  class Validation {
+
+    @Test
+    void shouldPassValidList() {
+      var schema = Jod.list(Jod.intType().min(0)).min(1).max(3);
+      List<Integer> value = List.of(1, 2, 3);
+
+      ValidationResult<List<Integer>> result = schema.validate(value);
+
+      assertThat(result.isSuccess()).isTrue();
+      assertThat(result.getValue()).isSameAs(value);
+      assertThat(schema.isValid(value)).isTrue();
+    }
+
+    @Test
+    void shouldRejectNull() {
+      var result = Jod.list(Jod.string()).validate(null);
+
+      assertThat(result.getErrors())
+          .extracting(ValidationError::code)
+          .containsExactly("NULL_VALUE");
+    }
+
+    @Test
+    void shouldReportSizeAndElementErrors() {
+      var schema = Jod.list(Jod.intType().min(0)).max(2);
+
+      var result = schema.validate(List.of(1, -2, 3, -4));
+
+      assertThat(result.getErrors())
+          .extracting(ValidationError::path, ValidationError::code)
+          .containsExactly(
+              tuple("", "LIST_TOO_LONG"),
+              tuple("[1]", "NUMBER_TOO_SMALL"),
+              tuple("[3]", "NUMBER_TOO_SMALL"));
+    }
+
+    @Test
+    void shouldPrefixNestedPathsWithIndex() {
+      var tag = Jod.object(Tag.class).field(Tag::name, Jod.string().min(2)).build();
+
+      var result = Jod.list(tag).validate(List.of(new Tag("ok"), new Tag("x")));
+
+      assertThat(result.getErrors()).extracting(ValidationError::path).containsExactly("[1].name");
+    }
+
+    @Test
+    void shouldReportNullElements() {
+      var result = Jod.list(Jod.string()).validate(Arrays.asList("a", null));
+
+      assertThat(result.getErrors())
+          .extracting(ValidationError::path, ValidationError::code)
+          .containsExactly(tuple("[1]", "NULL_VALUE"));
+    }
+
+    @Test
+    void shouldReturnTransformedCopy() {
+      var schema = Jod.list(Jod.string().trim());
+      List<String> value = new LinkedList<>(List.of(" a ", "b"));
+
+      var result = schema.validate(value);
+
+      assertThat(result.getValue()).containsExactly("a", "b");
+      assertThatThrownBy(() -> result.getValue().add("c"))
+          .isInstanceOf(UnsupportedOperationException.class);
+      assertThat(schema.validateFast(value).getValue()).containsExactly("a", "b");
+    }
+
+    @Test
+    void shouldStopAtFirstErrorWhenFailingFast() {
+      var schema = Jod.list(Jod.intType().min(0));
+
+      var result = schema.validateFast(List.of(1, -2, -3));
+
+      assertThat(result.getErrors()).extracting(ValidationError::path).containsExactly("[1]");
+      assertThat(schema.isValid(List.of(1, -2))).isFalse();
+    }
+
+    @Test
+    void shouldSummarizeViolatedCodes() {
+      var schema = Jod.list(Jod.intType().min(0)).max(2);
+
+      assertThat(schema.violatedCodes(List.of(1, -2, 3, -4)))
+          .containsExactly(StandardErrorCode.NUMBER_TOO_SMALL, StandardErrorCode.LIST_TOO_LONG);
+      assertThat(schema.violatedCodes(List.of(1))).isSameAs(ErrorCodeSet.EMPTY);
+    }
+
+    @Test
+    void shouldRejectInvalidParallelSettings() {
+      var schema = Jod.list(Jod.string());
+
+      assertThatThrownBy(() -> schema.parallel(0)).isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> schema.parallel(10, null))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Nested
+  @DisplayName("Parallel")
+  class Parallel {
+
+    private static List<Integer> numbers(int size) {
+      return IntStream.range(0, size).map(i -> i % 7 == 3 ? -i : i).boxed().toList();
+    }
+
+    @Test
+    void shouldMatchSequentialValidation() {
+      List<Integer> value = numbers(10_000);
+      var sequential = Jod.list(Jod.intType().min(0).max(9000)).validate(value);
+
+      var parallel = Jod.list(Jod.intType().min(0).max(9000)).parallel(100).validate(value);
+
+      assertThat(parallel.getErrors()).isNotEmpty().isEqualTo(sequential.getErrors());
+    }
+
+    @Test
+    void shouldValidateLinkedListsOnExecutor() {
+      ExecutorService executor = Executors.newFixedThreadPool(3);
+      try {
+        var schema = Jod.list(Jod.string().trim().min(1)).parallel(10, executor);
+        List<String> value = new LinkedList<>();
+        for (int i = 0; i < 1000; i++) {
+          value.add(" " + i + " ");
+        }
+
+        var result = schema.validate(value);
+
+        assertThat(result.getValue())
+            .isEqualTo(IntStream.range(0, 1000).mapToObj(String::valueOf).toList());
+        assertThat(schema.isValid(value)).isTrue();
+      } finally {
+        executor.shutdown();
+      }
+    }
+
+    @Test
+    void shouldReturnOriginalListWhenUnchanged() {
+      List<Integer> value = new ArrayList<>(IntStream.range(0, 1000).boxed().toList());
+
+      var result = Jod.list(Jod.intType().min(0)).parallel(10).validate(value);
+
+      assertThat(result.getValue()).isSameAs(value);
+    }
+
+    @Test
+    void shouldDetectInvalidElementInParallel() {
+      List<Integer> value = new ArrayList<>(IntStream.range(0, 5000).boxed().toList());
+      value.set(4321, -1);
+
+      assertThat(Jod.list(Jod.intType().min(0)).parallel(10).isValid(value)).isFalse();
+    }
+
+    @Test
+    void shouldPropagateElementSchemaExceptions() {
+      var schema =
+          Jod.list(
+                  (Integer value) -> {
+                    throw new IllegalStateException("boom " + value);
+                  })
+              .parallel(10);
+
+      assertThatThrownBy(() -> schema.validate(numbers(100)))
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessageStartingWith("boom");
+    }
+  }
+}
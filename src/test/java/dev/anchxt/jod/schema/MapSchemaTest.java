@@ -0,0 +1,224 @@
+package dev.anchxt.jod.schema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import dev.anchxt.jod.Jod;
+import dev.anchxt.jod.core.StandardErrorCode;
+import dev.anchxt.jod.core.ValidationError;
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("MapSchema")
+class MapSchemaTest {
+
+  record Server(String host, int port) {}
+
+  private static Map<String, String> map(String... keysAndValues) {
+    Map<String, String> map = new LinkedHashMap<>();
+    for (int i = 0; i < keysAndValues.length; i += 2) {
+      map.put(keysAndValues[i], keysAndValues[i + 1]);
+    }
+    return map;
+  }
+
+  @Nested
+  @DisplayName("Validation")
+  class Validation {
+
+    @Test
+    void shouldPassValidMap() {
+      var schema = Jod.map(Jod.string().min(1), Jod.intType().min(0)).min(1).max(2);
+      Map<String, Integer> value = Map.of("a", 1, "b", 2);
+
+      var result = schema.validate(value);
+
+      assertThat(result.getValue()).isSameAs(value);
+      assertThat(schema.validateFast(value).getValue()).isSameAs(value);
+      assertThat(schema.isValid(value)).isTrue();
+    }
+
+    @Test
+    void shouldRejectNull() {
+      var result = Jod.map(Jod.string(), Jod.string()).validate(null);
+
+      assertThat(result.getErrors())
+          .extracting(ValidationError::code)
+          .containsExactly("NULL_VALUE");
+    }
+
+    @Test
+    void shouldReportSizeKeyAndValueErrorsWithKeyPaths() {
+      var schema = Jod.map(Jod.string().min(2), Jod.string().email()).max(1);
+
+      var result = schema.validate(map("ok", "a@example.com", "x", "nope"));
+
+      assertThat(result.getErrors())
+          .extracting(ValidationError::path, ValidationError::code)
+          .containsExactly(
+              tuple("", "MAP_TOO_LARGE"),
+              tuple("x", "STRING_TOO_SHORT"),
+              tuple("x", "INVALID_EMAIL"));
+      assertThat(schema.isValid(map("ok", "a@example.com", "x", "nope"))).isFalse();
+    }
+
+    @Test
+    void shouldTellEmptyKeysApartFromTheMap() {
+      var schema = Jod.map(Jod.string(), Jod.string().email()).required("").max(1);
+
+      var result = schema.validate(map("", "nope", "x", "a@example.com"));
+
+      assertThat(result.getErrors())
+          .extracting(ValidationError::path, ValidationError::code)
+          .containsExactly(tuple("", "MAP_TOO_LARGE"), tuple("[\"\"]", "INVALID_EMAIL"));
+      assertThat(schema.validate(map("x", "a@example.com")).getErrors())
+          .extracting(ValidationError::path)
+          .containsExactly("[\"\"]");
+    }
+
+    @Test
+    void shouldPrefixNestedPathsWithKey() {
+      var server =
+          Jod.object(Server.class)
+              .field(Server::host, Jod.string().min(1))
+              .field(Server::port, Jod.intType().min(1))
+              .build();
+
+      var result = Jod.map(Jod.string(), server).validate(Map.of("primary", new Server("db", 0)));
+
+      assertThat(result.getErrors())
+          .extracting(ValidationError::path)
+          .containsExactly("primary.port");
+    }
+
+    @Test
+    void shouldReturnTransformedCopyInIterationOrder() {
+      var schema = Jod.map(Jod.string().toLowerCase(), Jod.string().trim());
+
+      var result = schema.validate(map("a", "1", "B", " 2 ", "c", "3"));
+
+      assertThat(result.getValue())
+          .containsExactly(Map.entry("a", "1"), Map.entry("b", "2"), Map.entry("c", "3"));
+      assertThatThrownBy(() -> result.getValue().put("d", "4"))
+          .isInstanceOf(UnsupportedOperationException.class);
+      assertThat(schema.validateFast(map("a", "1", "B", " 2 ")).getValue())
+          .containsExactly(Map.entry("a", "1"), Map.entry("b", "2"));
+    }
+
+    @Test
+    void shouldRejectKeysThatCollideAfterTransformation() {
+      var schema = Jod.map(Jod.string().toLowerCase(), Jod.string());
+      Map<String, String> value = map("a", "1", "A", "2");
+
+      assertThat(schema.validate(value).getErrors())
+          .extracting(ValidationError::path, ValidationError::code)
+          .containsExactly(tuple("A", "DUPLICATE_KEY"));
+      assertThat(schema.validateFast(value).isFailure()).isTrue();
+      assertThat(schema.isValid(value)).isFalse();
+    }
+
+    @Test
+    void shouldSummarizeViolatedCodes() {
+      var schema = Jod.map(Jod.string().min(2), Jod.string().email()).required("id");
+      var lowerCase = Jod.map(Jod.string().toLowerCase(), Jod.string());
+
+      assertThat(schema.violatedCodes(map("ok", "a@example.com", "x", "nope")))
+          .containsExactly(
+              StandardErrorCode.STRING_TOO_SHORT,
+              StandardErrorCode.INVALID_EMAIL,
+              StandardErrorCode.REQUIRED_KEY_MISSING);
+      assertThat(lowerCase.violatedCodes(map("a", "1", "A", "2")))
+          .containsExactly(StandardErrorCode.DUPLICATE_KEY);
+    }
+
+    @Test
+    void shouldReportMissingRequiredKeys() {
+      var schema = Jod.map(Jod.string(), Jod.string()).required("host", "port");
+
+      var result = schema.validate(map("host", "db"));
+
+      assertThat(result.getErrors())
+          .extracting(ValidationError::path, ValidationError::code)
+          .containsExactly(tuple("port", "REQUIRED_KEY_MISSING"));
+      assertThat(schema.isValid(map("host", "db", "port", "5432"))).isTrue();
+    }
+  }
+
+  @Nested
+  @DisplayName("RequiredOnly")
+  class RequiredOnly {
+
+    /** A map that fails the test if it is iterated, standing in for a large configuration. */
+    private static Map<String, String> uniterable(Map<String, String> entries) {
+      Map<String, String> backing = new HashMap<>(entries);
+      return new AbstractMap<>() {
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+          throw new AssertionError("Map was iterated");
+        }
+
+        @Override
+        public String get(Object key) {
+          return backing.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+          return backing.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+          return backing.size();
+        }
+      };
+    }
+
+    @Test
+    void shouldLookUpRequiredKeysWithoutIterating() {
+      var schema =
+          Jod.map(Jod.string(), Jod.string().min(1)).required("host", "port").requiredOnly();
+      Map<String, String> value = uniterable(map("host", "db", "port", "", "other", ""));
+
+      var result = schema.validate(value);
+
+      assertThat(result.getErrors())
+          .extracting(ValidationError::path, ValidationError::code)
+          .containsExactly(tuple("port", "STRING_TOO_SHORT"));
+      assertThat(schema.validateFast(value).isFailure()).isTrue();
+      assertThat(schema.isValid(value)).isFalse();
+    }
+
+    @Test
+    void shouldDistinguishMissingKeysFromNullValues() {
+      var schema = Jod.map(Jod.string(), Jod.string()).required("host", "port").requiredOnly();
+      Map<String, String> value = new HashMap<>();
+      value.put("host", null);
+
+      var result = schema.validate(value);
+
+      assertThat(result.getErrors())
+          .extracting(ValidationError::path, ValidationError::code)
+          .containsExactly(tuple("host", "NULL_VALUE"), tuple("port", "REQUIRED_KEY_MISSING"));
+    }
+
+    @Test
+    void shouldReplaceTransformedRequiredValues() {
+      var schema = Jod.map(Jod.string(), Jod.string().trim()).required("host").requiredOnly();
+      Map<String, String> value = map("host", " db ", "other", " x ");
+
+      var result = schema.validate(value);
+
+      assertThat(result.getValue())
+          .containsExactly(Map.entry("host", "db"), Map.entry("other", " x "));
+      assertThat(value).containsEntry("host", " db ");
+    }
+  }
+}
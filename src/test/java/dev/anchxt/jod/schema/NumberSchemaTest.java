@@ -3,6 +3,7 @@ package dev.anchxt.jod.schema;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import dev.anchxt.jod.Jod;
+import dev.anchxt.jod.core.ValidationError;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -49,6 +50,28 @@ class NumberSchemaTest {
       assertThat(result.getErrors().getFirst().code()).isEqualTo("NUMBER_TOO_SMALL");
     }
 
+    @Test
+    void shouldShareFailureOfSingleViolatedConstraint() {
+      var schema = Jod.intType().min(10).max(100);
+
+      var first = schema.validate(5);
+
+      assertThat(schema.validate(6)).isSameAs(first);
+      assertThat(schema.validateFast(7)).isSameAs(first);
+      assertThat(schema.validateInt(8)).isSameAs(first);
+      assertThat(schema.validate(null)).isSameAs(Jod.string().validate(null));
+    }
+
+    @Test
+    void shouldListAllViolatedConstraints() {
+      var schema = Jod.intType().min(10).multipleOf(4);
+
+      assertThat(schema.validate(5).getErrors())
+          .extracting(ValidationError::code)
+          .containsExactly("NUMBER_TOO_SMALL", "NOT_MULTIPLE");
+      assertThat(schema.validateInt(5).getErrors()).isEqualTo(schema.validate(5).getErrors());
+    }
+
     @Test
     void shouldPassMaxConstraint() {
       var schema = Jod.intType().max(100);
@@ -130,6 +153,38 @@ class NumberSchemaTest {
       assertThat(schema.validate(0).isFailure()).isTrue(); // Not positive
       assertThat(schema.validate(55).isFailure()).isTrue(); // Not multiple of 10
     }
+
+    @Test
+    void shouldStopAtFirstViolationWhenFailingFast() {
+      var schema = Jod.intType().min(10).positive().multipleOf(4);
+      var result = schema.validateFast(-3);
+
+      assertThat(schema.validate(-3).getErrors()).hasSize(3);
+      assertThat(result.getErrors()).hasSize(1);
+      assertThat(result.getErrors().getFirst().code()).isEqualTo("NUMBER_TOO_SMALL");
+      assertThat(schema.validateFast(12).isSuccess()).isTrue();
+    }
+
+    @Test
+    void shouldReportValidityWithoutResult() {
+      var schema = Jod.intType().min(0).max(100).multipleOf(10);
+
+      assertThat(schema.isValid(50)).isTrue();
+      assertThat(schema.isValid(55)).isFalse();
+      assertThat(schema.isValid(-10)).isFalse();
+      assertThat(schema.isValid(null)).isFalse();
+    }
+
+    @Test
+    void shouldValidatePrimitiveIntLikeBoxed() {
+      var schema = Jod.intType().min(-50).max(100).min(0).multipleOf(5).positive();
+
+      for (int value :
+          new int[] {Integer.MIN_VALUE, -55, -5, 0, 5, 7, 100, 105, Integer.MAX_VALUE}) {
+        assertThat(schema.isValidInt(value)).isEqualTo(schema.isValid(value));
+        assertThat(schema.validateInt(value)).isEqualTo(schema.validate(value));
+      }
+    }
   }
 
   @Nested
@@ -168,6 +223,16 @@ class NumberSchemaTest {
       assertThat(schema.validate(5_000_000L).isSuccess()).isTrue();
       assertThat(schema.validate(5_000_001L).isFailure()).isTrue();
     }
+
+    @Test
+    void shouldValidatePrimitiveLongLikeBoxed() {
+      var schema = Jod.longType().min(0L).max(10_000_000_000L).multipleOf(3L);
+
+      for (long value : new long[] {Long.MIN_VALUE, -3L, 0L, 4L, 9_999_999_999L, Long.MAX_VALUE}) {
+        assertThat(schema.isValidLong(value)).isEqualTo(schema.isValid(value));
+        assertThat(schema.validateLong(value)).isEqualTo(schema.validate(value));
+      }
+    }
   }
 
   @Nested
@@ -227,5 +292,20 @@ class NumberSchemaTest {
       assertThat(result.isFailure()).isTrue();
       assertThat(result.getErrors().getFirst().code()).isEqualTo("NOT_MULTIPLE");
     }
+
+    @Test
+    void shouldValidatePrimitiveDoubleLikeBoxed() {
+      var schema = Jod.doubleType().min(-1.5).max(90.0).multipleOf(0.5);
+      var unbounded = Jod.doubleType().negative();
+      double[] values = {
+        Double.NEGATIVE_INFINITY, -2.0, -1.5, -0.0, 0.0, 0.3, 45.5, 90.0, 90.5, Double.NaN
+      };
+
+      for (double value : values) {
+        assertThat(schema.isValidDouble(value)).isEqualTo(schema.isValid(value));
+        assertThat(schema.validateDouble(value)).isEqualTo(schema.validate(value));
+        assertThat(unbounded.isValidDouble(value)).isEqualTo(unbounded.isValid(value));
+      }
+    }
   }
 }
@@ -0,0 +1,313 @@
+package dev.anchxt.jod.schema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.anchxt.jod.Jod;
+import dev.anchxt.jod.core.ErrorCodeSet;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ObjectSchema")
+class ObjectSchemaTest {
+
+  record Address(String city, String zip) {}
+
+  record User(String name, String email, int age, Address address) {}
+
+  static final class Account {
+    private final String owner;
+    private final boolean active;
+
+    Account(String owner, boolean active) {
+      this.owner = owner;
+      this.active = active;
+    }
+
+    public String getOwner() {
+      return owner;
+    }
+
+    public boolean isActive() {
+      return active;
+    }
+  }
+
+  interface Labeled {
+    default String getLabel() {
+      return "";
+    }
+  }
+
+  /** Inherits its getters, so method references to them name a type that does not declare them. */
+  static final class SavingsAccount extends AccountBase implements Labeled {
+    SavingsAccount(String owner) {
+      super(owner);
+    }
+  }
+
+  static class AccountBase {
+    private final String owner;
+
+    AccountBase(String owner) {
+      this.owner = owner;
+    }
+
+    public String getOwner() {
+      return owner;
+    }
+  }
+
+  private static final ObjectSchema<Address> ADDRESS =
+      Jod.object(Address.class)
+          .field(Address::city, Jod.string().min(2))
+          .field(Address::zip, Jod.string().regex("\\d{5}"))
+          .build();
+
+  private static final ObjectSchema<User> USER =
+      Jod.object(User.class)
+          .field(User::name, Jod.string().trim().min(2).max(50))
+          .field(User::email, Jod.string().email())
+          .field(User::age, Jod.intType().min(0).max(120))
+          .field(User::address, ADDRESS)
+          .build();
+
+  private static User user(String name, int age) {
+    return new User(name, "john@example.com", age, new Address("Berlin", "10115"));
+  }
+
+  @Nested
+  @DisplayName("Validation")
+  class Validation {
+
+    @Test
+    void shouldPassValidObject() {
+      var value = user("John Doe", 30);
+
+      var result = USER.validate(value);
+
+      assertThat(result.isSuccess()).isTrue();
+      assertThat(result.getValue()).isSameAs(value);
+    }
+
+    @Test
+    void shouldReportErrorsWithFieldPaths() {
+      var value = new User("J", "not-an-email", 200, new Address("B", "abc"));
+
+      var result = USER.validate(value);
+
+      assertThat(result.getErrors())
+          .extracting(error -> error.path() + ":" + error.code())
+          .containsExactly(
+              "name:STRING_TOO_SHORT",
+              "email:INVALID_EMAIL",
+              "age:NUMBER_TOO_LARGE",
+              "address.city:STRING_TOO_SHORT",
+              "address.zip:REGEX_MISMATCH");
+    }
+
+    @Test
+    void shouldFailOnNull() {
+      assertThat(USER.validate(null).getErrors().getFirst().code()).isEqualTo("NULL_VALUE");
+      assertThat(USER.isValid(null)).isFalse();
+    }
+
+    @Test
+    void shouldReturnOnlyFirstErrorWhenFailingFast() {
+      var result = USER.validateFast(new User("J", "not-an-email", 30, null));
+
+      assertThat(result.getErrors()).hasSize(1);
+      assertThat(result.getErrors().getFirst().path()).isEqualTo("name");
+    }
+
+    @Test
+    void shouldAgreeWithIsValid() {
+      for (User value :
+          new User[] {user("John", 30), user("J", 30), user("John", -1), user(" Jo ", 5)}) {
+        assertThat(USER.isValid(value)).isEqualTo(USER.validate(value).isSuccess());
+        assertThat(USER.validateFast(value).isSuccess()).isEqualTo(USER.isValid(value));
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("Records")
+  class Records {
+
+    @Test
+    void shouldRebuildRecordWithTransformedValues() {
+      var value = user("  John Doe  ", 30);
+
+      var result = USER.validate(value);
+
+      assertThat(result.getValue()).isEqualTo(user("John Doe", 30));
+      assertThat(USER.validateFast(value).getValue()).isEqualTo(user("John Doe", 30));
+    }
+
+    @Test
+    void shouldRebuildNestedRecords() {
+      var schema =
+          Jod.object(User.class)
+              .field(
+                  User::address,
+                  Jod.object(Address.class).field(Address::city, Jod.string().trim()).build())
+              .build();
+      var value = new User("John", "john@example.com", 30, new Address(" Berlin ", "10115"));
+
+      var result = schema.validate(value);
+
+      assertThat(result.getValue().address()).isEqualTo(new Address("Berlin", "10115"));
+      assertThat(result.getValue().name()).isSameAs(value.name());
+    }
+  }
+
+  @Nested
+  @DisplayName("Accessors")
+  class Accessors {
+
+    @Test
+    void shouldDeriveNamesFromGetters() {
+      var schema =
+          Jod.object(Account.class)
+              .field(Account::getOwner, Jod.string().min(1))
+              .field(Account::isActive, Jod.bool().isTrue())
+              .build();
+
+      var result = schema.validate(new Account("", false));
+
+      assertThat(result.getErrors())
+          .extracting(error -> error.path())
+          .containsExactly("owner", "active");
+    }
+
+    @Test
+    void shouldDeriveNamesFromInheritedGetters() {
+      var schema =
+          Jod.object(SavingsAccount.class)
+              .field(SavingsAccount::getOwner, Jod.string().min(1))
+              .field(SavingsAccount::getLabel, Jod.string().min(1))
+              .build();
+
+      var result = schema.validate(new SavingsAccount(""));
+
+      assertThat(result.getErrors())
+          .extracting(error -> error.path())
+          .containsExactly("owner", "label");
+    }
+
+    @Test
+    void shouldFindMethodsThroughTheTypeHierarchy() throws NoSuchMethodException {
+      assertThat(ObjectSchema.Builder.findMethod(SavingsAccount.class, "getOwner"))
+          .isEqualTo(AccountBase.class.getDeclaredMethod("getOwner"));
+      assertThat(ObjectSchema.Builder.findMethod(SavingsAccount.class, "getLabel"))
+          .isEqualTo(Labeled.class.getDeclaredMethod("getLabel"));
+      assertThatThrownBy(() -> ObjectSchema.Builder.findMethod(SavingsAccount.class, "getNone"))
+          .isInstanceOf(NoSuchMethodException.class);
+    }
+
+    @Test
+    void shouldAcceptNamedLambdas() {
+      var schema =
+          Jod.object(User.class)
+              .field("initial", user -> user.name().substring(0, 1), Jod.string().regex("[A-Z]"))
+              .build();
+
+      var result = schema.validate(user("john", 30));
+
+      assertThat(result.getErrors().getFirst().path()).isEqualTo("initial");
+    }
+
+    @Test
+    void shouldRejectUnnamedLambdas() {
+      var builder = Jod.object(User.class).field(user -> user.name().trim(), Jod.string().min(2));
+
+      assertThatThrownBy(builder::build)
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("field(name, accessor, schema)");
+    }
+  }
+
+  @Nested
+  @DisplayName("Generated validators")
+  class GeneratedValidators {
+
+    record Metrics(String id, int count, long total, double ratio, Boolean enabled, Address home) {}
+
+    private final ObjectSchema<Metrics> interpreted =
+        Jod.object(Metrics.class)
+            .field(Metrics::id, Jod.string().trim().toLowerCase().min(3).regexLinear("[a-z]+"))
+            .field(Metrics::count, Jod.intType().min(0).max(100).multipleOf(5))
+            .field(Metrics::total, Jod.longType().positive())
+            .field(Metrics::ratio, Jod.doubleType().min(0.0).max(1.0))
+            .field(Metrics::enabled, Jod.bool().isTrue())
+            .field(Metrics::home, ADDRESS)
+            .field(
+                "idLength",
+                metrics -> metrics.id() == null ? 0 : metrics.id().length(),
+                Jod.intType().max(10))
+            .build();
+
+    @Test
+    void shouldGenerateValidatorClass() {
+      assertThat(interpreted.compile()).isInstanceOf(GeneratedObjectSchema.class);
+      assertThat(USER.compile()).isInstanceOf(GeneratedObjectSchema.class);
+    }
+
+    @Test
+    void shouldAgreeWithInterpreter() {
+      var compiled = interpreted.compile();
+      var random = new SplittableRandom(7);
+      String[] ids = {"abc", " ABCD ", "ab", "abc1", "  xyz", null};
+      Address[] homes = {new Address("Berlin", "10115"), new Address("B", "x"), null};
+      Boolean[] flags = {true, false, null};
+      for (int i = 0; i < 5_000; i++) {
+        var value =
+            new Metrics(
+                ids[random.nextInt(ids.length)],
+                random.nextInt(-10, 120),
+                random.nextLong(-5, 5),
+                random.nextDouble(-0.5, 1.5),
+                flags[random.nextInt(flags.length)],
+                homes[random.nextInt(homes.length)]);
+
+        var expected = interpreted.validate(value);
+        var actual = compiled.validate(value);
+
+        assertThat(actual.isSuccess()).as("%s", value).isEqualTo(expected.isSuccess());
+        assertThat(actual.getErrors()).as("%s", value).isEqualTo(expected.getErrors());
+        if (expected.isSuccess()) {
+          assertThat(actual.getValue()).isEqualTo(expected.getValue());
+        }
+        assertThat(compiled.isValid(value)).isEqualTo(expected.isSuccess());
+        assertThat(compiled.validateFast(value).getErrors())
+            .isEqualTo(interpreted.validateFast(value).getErrors());
+        assertThat(interpreted.violatedCodes(value))
+            .isEqualTo(compiled.violatedCodes(value))
+            .isEqualTo(ErrorCodeSet.of(expected.getErrors()));
+      }
+    }
+
+    @Test
+    void shouldInterpretSchemasTooLargeForOneMethod() {
+      var builder = Jod.object(String.class);
+      for (int i = 0; i < 4_000; i++) {
+        builder.field("f" + i, value -> value, Jod.string().min(1).max(9));
+      }
+      var large = builder.build();
+
+      assertThat(ValidatorGenerator.generate(large)).isNull();
+      assertThat(large.compile()).isNotInstanceOf(GeneratedObjectSchema.class);
+      assertThat(large.compile().validate("ok").isSuccess()).isTrue();
+      assertThat(large.compile().validate("").getErrors()).hasSize(4_000);
+    }
+
+    @Test
+    void shouldReturnOriginalInstanceWhenUnchanged() {
+      var value = new Metrics("abc", 5, 1, 0.5, true, new Address("Berlin", "10115"));
+
+      assertThat(interpreted.compile().validate(value).getValue()).isSameAs(value);
+    }
+  }
+}
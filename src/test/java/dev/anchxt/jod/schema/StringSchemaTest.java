@@ -1,9 +1,14 @@
 package dev.anchxt.jod.schema;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import dev.anchxt.jod.Jod;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -131,6 +136,24 @@ class StringSchemaTest {
       var result = schema.validate("invalid");
       assertThat(result.getErrors().getFirst().code()).isEqualTo("INVALID_UUID");
     }
+
+    @Test
+    void shouldReturnParsedUuid() {
+      var schema = Jod.string().trim().uuid();
+      var result = schema.validateUuid(" 550E8400-E29B-41D4-A716-446655440000 ");
+
+      assertThat(result.isSuccess()).isTrue();
+      assertThat(result.getValue())
+          .isEqualTo(UUID.fromString("550e8400-e29b-41d4-a716-446655440000"));
+    }
+
+    @Test
+    void shouldFailToParseNonUuid() {
+      var result = Jod.string().validateUuid("not-a-uuid");
+
+      assertThat(result.isFailure()).isTrue();
+      assertThat(result.getErrors().getFirst().code()).isEqualTo("INVALID_UUID");
+    }
   }
 
   @Nested
@@ -161,6 +184,21 @@ class StringSchemaTest {
       assertThat(result.isFailure()).isTrue();
       assertThat(result.getErrors().getFirst().code()).isEqualTo("REGEX_MISMATCH");
     }
+
+    @Test
+    void shouldValidateWithLinearRegex() {
+      var schema = Jod.string().regexLinear("^[A-Z]+$");
+
+      assertThat(schema.validate("HELLO").isSuccess()).isTrue();
+      assertThat(schema.validate("hello").getErrors().getFirst().code())
+          .isEqualTo("REGEX_MISMATCH");
+    }
+
+    @Test
+    void shouldRejectUnsupportedLinearRegex() {
+      assertThatThrownBy(() -> Jod.string().regexLinear("(a)\\1"))
+          .isInstanceOf(PatternSyntaxException.class);
+    }
   }
 
   @Nested
@@ -229,4 +267,151 @@ class StringSchemaTest {
       assertThat(result.getValue()).isEqualTo("hello world");
     }
   }
+
+  @Nested
+  @DisplayName("Fail-fast validation")
+  class FailFastValidation {
+
+    @Test
+    void shouldPassValidString() {
+      var schema = Jod.string().trim().min(3).email();
+      var result = schema.validateFast("  john@example.com ");
+
+      assertThat(result.isSuccess()).isTrue();
+      assertThat(result.getValue()).isEqualTo("john@example.com");
+    }
+
+    @Test
+    void shouldReportOnlyTheFirstViolation() {
+      var schema = Jod.string().min(10).max(12).uuid();
+      var result = schema.validateFast("abc");
+
+      assertThat(result.getErrors()).hasSize(1);
+      assertThat(result.getErrors().getFirst().code()).isEqualTo("STRING_TOO_SHORT");
+    }
+
+    @Test
+    void shouldCheckCheapConstraintsBeforeExpensiveOnes() {
+      var schema = Jod.string().email().max(5);
+      var result = schema.validateFast("not-an-email");
+
+      assertThat(result.getErrors()).hasSize(1);
+      assertThat(result.getErrors().getFirst().code()).isEqualTo("STRING_TOO_LONG");
+    }
+
+    @Test
+    void shouldFailOnNull() {
+      var result = Jod.string().validateFast(null);
+
+      assertThat(result.getErrors().getFirst().code()).isEqualTo("NULL_VALUE");
+    }
+  }
+
+  @Nested
+  @DisplayName("isValid")
+  class IsValid {
+
+    @Test
+    void shouldAgreeWithValidate() {
+      var schema = Jod.string().trim().min(3).max(20).email();
+
+      for (String input : new String[] {" a@b.io ", "ab", "not-an-email", "x@example.com", null}) {
+        assertThat(schema.isValid(input)).isEqualTo(schema.validate(input).isSuccess());
+      }
+    }
+
+    @Test
+    void shouldApplyTransformationsBeforeChecking() {
+      var schema = Jod.string().trim().max(3);
+
+      assertThat(schema.isValid("  abc  ")).isTrue();
+      assertThat(schema.isValid("abcd")).isFalse();
+    }
+  }
+
+  @Nested
+  @DisplayName("CharSequence validation")
+  class CharSequenceValidation {
+
+    @Test
+    void shouldValidateWithoutConvertingToString() {
+      var schema = Jod.string().trim().min(3).max(10).regex("^[a-z]+$");
+
+      var result = schema.validate(new StringBuilder("  hello  "));
+
+      assertThat(result.isSuccess()).isTrue();
+      assertThat(result.getValue()).isEqualTo("hello");
+      assertThat(schema.isValid(new StringBuilder("HELLO"))).isFalse();
+    }
+
+    @Test
+    void shouldApplyCaseConversion() {
+      var schema = Jod.string().trim().toLowerCase().regexLinear("[a-z]+");
+
+      assertThat(schema.validate(new StringBuilder(" ABC ")).getValue()).isEqualTo("abc");
+    }
+
+    @Test
+    void shouldFailOnNull() {
+      assertThat(Jod.string().validate((CharSequence) null).getErrors().getFirst().code())
+          .isEqualTo("NULL_VALUE");
+      assertThat(Jod.string().isValid((CharSequence) null)).isFalse();
+    }
+  }
+
+  @Nested
+  @DisplayName("UTF-8 validation")
+  class Utf8Validation {
+
+    private ByteBuffer utf8(String value) {
+      return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldAgreeWithStringValidation() {
+      var schema = Jod.string().trim().min(3).max(12).email();
+
+      for (String input :
+          new String[] {
+            " a@b.io ", "ab", "not-an-email", "x@example.com", "é@example.com", "😀😀"
+          }) {
+        var expected = schema.validate(input);
+        var actual = schema.validateUtf8(utf8(input));
+
+        assertThat(actual.isSuccess()).as(input).isEqualTo(expected.isSuccess());
+        assertThat(actual.getErrors()).as(input).isEqualTo(expected.getErrors());
+        assertThat(schema.isValidUtf8(utf8(input))).as(input).isEqualTo(expected.isSuccess());
+      }
+    }
+
+    @Test
+    void shouldDecodeOnlyTheRemainingBytesOfADirectBuffer() {
+      var schema = Jod.string().uuid();
+      byte[] bytes = "xx550e8400-e29b-41d4-a716-446655440000yy".getBytes(StandardCharsets.UTF_8);
+      ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).position(2).limit(38);
+
+      var result = schema.validateUtf8(buffer);
+
+      assertThat(result.getValue()).isEqualTo("550e8400-e29b-41d4-a716-446655440000");
+      assertThat(buffer.position()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRejectMalformedUtf8() {
+      var buffer = ByteBuffer.wrap(new byte[] {'a', (byte) 0xC3});
+
+      assertThat(Jod.string().validateUtf8(buffer).getErrors().getFirst().code())
+          .isEqualTo("INVALID_UTF8");
+      assertThat(Jod.string().isValidUtf8(buffer)).isFalse();
+    }
+
+    @Test
+    void shouldCountLengthInUtf16Units() {
+      var schema = Jod.string().max(2);
+
+      assertThat(schema.isValidUtf8(utf8("é"))).isTrue();
+      assertThat(schema.isValidUtf8(utf8("😀"))).isTrue();
+      assertThat(schema.isValidUtf8(utf8("😀a"))).isFalse();
+    }
+  }
 }
@@ -0,0 +1,84 @@
+package dev.anchxt.jod.schema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.anchxt.jod.schema.StringTransform.Op;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("StringTransform")
+class StringTransformTest {
+
+  private static final Op[] OPS = Op.values();
+
+  private static String applyUnfused(List<Op> ops, String value) {
+    String transformed = value;
+    for (Op op : ops) {
+      transformed =
+          switch (op) {
+            case TRIM -> transformed.trim();
+            case LOWER_CASE -> transformed.toLowerCase();
+            case UPPER_CASE -> transformed.toUpperCase();
+          };
+    }
+    return transformed;
+  }
+
+  private static void assertMatchesUnfused(SplittableRandom random, String alphabet) {
+    for (int i = 0; i < 20_000; i++) {
+      List<Op> ops = new ArrayList<>();
+      int count = 1 + random.nextInt(5);
+      for (int j = 0; j < count; j++) {
+        ops.add(OPS[random.nextInt(OPS.length)]);
+      }
+      var builder = new StringBuilder();
+      int length = random.nextInt(10);
+      for (int j = 0; j < length; j++) {
+        builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+      }
+      String input = builder.toString();
+
+      assertThat(StringTransform.fuse(ops).apply(input))
+          .as("%s on %s", ops, input)
+          .isEqualTo(applyUnfused(ops, input));
+    }
+  }
+
+  @Test
+  void shouldMatchUnfusedChainOnAsciiInput() {
+    assertMatchesUnfused(new SplittableRandom(1), "aZqQ09 \t\n-_@");
+  }
+
+  @Test
+  void shouldMatchUnfusedChainOnNonAsciiInput() {
+    assertMatchesUnfused(new SplittableRandom(2), "aZ ßİıKµéÉΣςŉǅ　");
+  }
+
+  @Test
+  void shouldMatchUnfusedChainUnderTurkishLocale() {
+    Locale original = Locale.getDefault();
+    Locale.setDefault(Locale.forLanguageTag("tr"));
+    try {
+      assertMatchesUnfused(new SplittableRandom(3), "aiIZ İı");
+    } finally {
+      Locale.setDefault(original);
+    }
+  }
+
+  @Test
+  void shouldReturnSameInstanceWhenNothingChanges() {
+    var transform = StringTransform.fuse(List.of(Op.TRIM, Op.LOWER_CASE, Op.TRIM));
+    String value = "already-lower";
+
+    assertThat(transform.apply(value)).isSameAs(value);
+  }
+
+  @Test
+  void shouldReturnNullForEmptyChain() {
+    assertThat(StringTransform.fuse(List.of())).isNull();
+  }
+}
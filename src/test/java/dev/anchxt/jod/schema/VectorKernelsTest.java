@@ -0,0 +1,137 @@
+package dev.anchxt.jod.schema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.anchxt.jod.Jod;
+import dev.anchxt.jod.schema.NumberSchema.Kind;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+// Calls the kernels directly, which link against the module regardless of -Djod.vector
+@DisplayName("VectorKernels")
+@EnabledIf("vectorModulePresent")
+class VectorKernelsTest {
+
+  private static final int SIZE = 1000;
+
+  static boolean vectorModulePresent() {
+    return ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+  }
+
+  @Test
+  void shouldMatchScalarIntChecks() {
+    int[] values = new SplittableRandom(1).ints(SIZE, -300, 300).toArray();
+    values[0] = Integer.MIN_VALUE;
+    values[1] = Integer.MAX_VALUE;
+
+    assertIntKernel(Kind.MIN, -7, values);
+    assertIntKernel(Kind.MAX, 42, values);
+    assertIntKernel(Kind.POSITIVE, 0, values);
+    assertIntKernel(Kind.NEGATIVE, 0, values);
+    assertIntKernel(Kind.MULTIPLE_OF, 8, values);
+    assertIntKernel(Kind.MULTIPLE_OF, -4, values);
+    assertIntKernel(Kind.MULTIPLE_OF, Integer.MIN_VALUE, values);
+  }
+
+  @Test
+  void shouldMatchScalarLongChecks() {
+    long[] values = new SplittableRandom(2).longs(SIZE, -300L, 300L).toArray();
+    values[0] = Long.MIN_VALUE;
+
+    assertLongKernel(Kind.MIN, 3L, values);
+    assertLongKernel(Kind.MAX, -3L, values);
+    assertLongKernel(Kind.POSITIVE, 0L, values);
+    assertLongKernel(Kind.NEGATIVE, 0L, values);
+    assertLongKernel(Kind.MULTIPLE_OF, 16L, values);
+  }
+
+  @Test
+  void shouldMatchScalarDoubleChecks() {
+    double[] values = new SplittableRandom(3).doubles(SIZE, -10.0, 10.0).toArray();
+    values[0] = Double.NaN;
+    values[1] = -0.0;
+    values[2] = 0.0;
+    values[3] = Double.NEGATIVE_INFINITY;
+    values[4] = Double.POSITIVE_INFINITY;
+
+    assertDoubleKernel(Kind.MIN, -2.5, values);
+    assertDoubleKernel(Kind.MAX, 2.5, values);
+    assertDoubleKernel(Kind.POSITIVE, 0.0, values);
+    assertDoubleKernel(Kind.NEGATIVE, 0.0, values);
+  }
+
+  @Test
+  void shouldLeaveUnsupportedChecksToScalarLoop() {
+    long[] failed = new long[BulkValidationResult.words(SIZE)];
+
+    assertThat(VectorKernels.intMask(Kind.MULTIPLE_OF, 3, new int[SIZE], failed)).isZero();
+    assertThat(VectorKernels.doubleMask(Kind.MIN, -0.0, new double[SIZE], failed)).isZero();
+    assertThat(VectorKernels.doubleMask(Kind.MULTIPLE_OF, 0.5, new double[SIZE], failed)).isZero();
+  }
+
+  private static void assertIntKernel(Kind kind, int operand, int[] values) {
+    var schema = Jod.intType();
+    switch (kind) {
+      case MIN -> schema.min(operand);
+      case MAX -> schema.max(operand);
+      case POSITIVE -> schema.positive();
+      case NEGATIVE -> schema.negative();
+      case MULTIPLE_OF -> schema.multipleOf(operand);
+    }
+    long[] failed = new long[BulkValidationResult.words(values.length)];
+    int processed = VectorKernels.intMask(kind, operand, values, failed);
+
+    assertThat(processed).isPositive();
+    for (int i = 0; i < processed; i++) {
+      assertThat(isFailed(failed, i))
+          .as("%s %d at %d", kind, values[i], i)
+          .isEqualTo(!schema.isValidInt(values[i]));
+    }
+  }
+
+  private static void assertLongKernel(Kind kind, long operand, long[] values) {
+    var schema = Jod.longType();
+    switch (kind) {
+      case MIN -> schema.min(operand);
+      case MAX -> schema.max(operand);
+      case POSITIVE -> schema.positive();
+      case NEGATIVE -> schema.negative();
+      case MULTIPLE_OF -> schema.multipleOf(operand);
+    }
+    long[] failed = new long[BulkValidationResult.words(values.length)];
+    int processed = VectorKernels.longMask(kind, operand, values, failed);
+
+    assertThat(processed).isPositive();
+    for (int i = 0; i < processed; i++) {
+      assertThat(isFailed(failed, i))
+          .as("%s %d at %d", kind, values[i], i)
+          .isEqualTo(!schema.isValidLong(values[i]));
+    }
+  }
+
+  private static void assertDoubleKernel(Kind kind, double operand, double[] values) {
+    var schema = Jod.doubleType();
+    switch (kind) {
+      case MIN -> schema.min(operand);
+      case MAX -> schema.max(operand);
+      case POSITIVE -> schema.positive();
+      case NEGATIVE -> schema.negative();
+      case MULTIPLE_OF -> schema.multipleOf(operand);
+    }
+    long[] failed = new long[BulkValidationResult.words(values.length)];
+    int processed = VectorKernels.doubleMask(kind, operand, values, failed);
+
+    assertThat(processed).isPositive();
+    for (int i = 0; i < processed; i++) {
+      assertThat(isFailed(failed, i))
+          .as("%s %s at %d", kind, values[i], i)
+          .isEqualTo(!schema.isValidDouble(values[i]));
+    }
+  }
+
+  private static boolean isFailed(long[] failed, int index) {
+    return (failed[index >>> 6] & (1L << index)) != 0;
+  }
+}